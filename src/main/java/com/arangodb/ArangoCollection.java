@@ -23,7 +23,12 @@ package com.arangodb;
 import com.arangodb.entity.*;
 import com.arangodb.model.*;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Interface for operations on ArangoDB collection level.
@@ -108,6 +113,21 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
     <T> MultiDocumentEntity<DocumentCreateEntity<T>> insertDocuments(
             Collection<T> values, DocumentCreateOptions options) throws ArangoDBException;
 
+    /**
+     * Creates new documents from the given documents, returning a compact result instead of one entity per
+     * document. The options {@code returnNew}, {@code returnOld} and {@code silent} are ignored.
+     *
+     * @param values     A List of documents (POJO, VPackSlice or String for JSON)
+     * @param options    Additional options, can be null
+     * @param resultMode whether to read the keys and revisions of the documents or only the errors
+     * @return the keys and revisions of the documents, and the errors by position
+     * @throws ArangoDBException
+     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#create-document">API
+     * Documentation</a>
+     */
+    MultiDocumentResult insertDocumentsCompact(
+            Collection<?> values, DocumentCreateOptions options, BulkResultMode resultMode) throws ArangoDBException;
+
     /**
      * Bulk imports the given values into the collection.
      * <p>
@@ -158,6 +178,45 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      */
     DocumentImportEntity importDocuments(String values, DocumentImportOptions options) throws ArangoDBException;
 
+    /**
+     * Imports the documents read from the given iterator with concurrent import requests, see
+     * {@link StreamImportOptions} for the size of the batches and the number of requests in flight.
+     * <p>
+     * Limitations:
+     * - the fields having {@code null} value are always removed during serialization
+     *
+     * @param values  Objects that will be stored as documents, read by the calling thread
+     * @param options Additional options, can be null
+     * @return the sum of the results of the import requests, line numbers in the details are relative to the batch
+     * of the document
+     * @throws ArangoDBException if an import request failed, no further batches are sent then
+     */
+    DocumentImportEntity importDocuments(Iterator<?> values, StreamImportOptions options) throws ArangoDBException;
+
+    /**
+     * Imports the documents of the given stream with concurrent import requests, see
+     * {@link #importDocuments(Iterator, StreamImportOptions)}.
+     *
+     * @param values  Objects that will be stored as documents
+     * @param options Additional options, can be null
+     * @return the sum of the results of the import requests
+     * @throws ArangoDBException if an import request failed
+     */
+    DocumentImportEntity importDocuments(Stream<?> values, StreamImportOptions options) throws ArangoDBException;
+
+    /**
+     * Imports the JSON documents read from the given stream with concurrent import requests, see
+     * {@link #importDocuments(Iterator, StreamImportOptions)}. The documents are split without being parsed by the
+     * driver and sent as they are.
+     *
+     * @param values  UTF-8 encoded JSON array of objects, or objects separated by whitespace (e.g. JSON Lines); the
+     *                stream is not closed
+     * @param options Additional options, can be null
+     * @return the sum of the results of the import requests
+     * @throws ArangoDBException if reading the stream or an import request failed
+     */
+    DocumentImportEntity importDocuments(InputStream values, StreamImportOptions options) throws ArangoDBException;
+
     /**
      * Retrieves the document with the given {@code key} from the collection.
      *
@@ -183,6 +242,36 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      */
     <T> T getDocument(String key, Class<T> type, DocumentReadOptions options) throws ArangoDBException;
 
+    /**
+     * Retrieves the document with the given {@code key} from the collection and writes it as UTF-8 encoded JSON to the
+     * given stream, transcoding the response directly without deserializing it. The stream is neither flushed nor
+     * closed.
+     *
+     * @param key The key of the document
+     * @param out The stream to write the document to
+     * @return {@code true} if the document has been written, {@code false} if it does not exist
+     * @throws ArangoDBException
+     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#read-document">API
+     * Documentation</a>
+     */
+    boolean getDocumentAsJson(String key, OutputStream out) throws ArangoDBException;
+
+    /**
+     * Retrieves the document with the given {@code key} from the collection and writes it as UTF-8 encoded JSON to the
+     * given stream, transcoding the response directly without deserializing it. The stream is neither flushed nor
+     * closed.
+     *
+     * @param key     The key of the document
+     * @param out     The stream to write the document to
+     * @param options Additional options, can be null
+     * @return {@code true} if the document has been written, {@code false} if it does not exist or a precondition
+     * failed and {@link DocumentReadOptions#isCatchException()} is set
+     * @throws ArangoDBException
+     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#read-document">API
+     * Documentation</a>
+     */
+    boolean getDocumentAsJson(String key, OutputStream out, DocumentReadOptions options) throws ArangoDBException;
+
     /**
      * Retrieves multiple documents with the given {@code _key} from the collection.
      *
@@ -243,7 +332,8 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      * @param values A List of documents (POJO, VPackSlice or String for JSON)
      * @return information about the documents
      * @throws ArangoDBException
-     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#replace-documents">API
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#replace-documents">API
      * Documentation</a>
      */
     <T> MultiDocumentEntity<DocumentUpdateEntity<T>> replaceDocuments(Collection<T> values) throws ArangoDBException;
@@ -259,12 +349,29 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      * @param options Additional options, can be null
      * @return information about the documents
      * @throws ArangoDBException
-     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#replace-documents">API
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#replace-documents">API
      * Documentation</a>
      */
     <T> MultiDocumentEntity<DocumentUpdateEntity<T>> replaceDocuments(
             Collection<T> values, DocumentReplaceOptions options) throws ArangoDBException;
 
+    /**
+     * Replaces multiple documents in the collection, returning a compact result instead of one entity per
+     * document. The options {@code returnNew}, {@code returnOld} and {@code silent} are ignored.
+     *
+     * @param values     A List of documents (POJO, VPackSlice or String for JSON)
+     * @param options    Additional options, can be null
+     * @param resultMode whether to read the keys and revisions of the documents or only the errors
+     * @return the keys and revisions of the documents, and the errors by position
+     * @throws ArangoDBException
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#replace-documents">API
+     * Documentation</a>
+     */
+    MultiDocumentResult replaceDocumentsCompact(
+            Collection<?> values, DocumentReplaceOptions options, BulkResultMode resultMode) throws ArangoDBException;
+
     /**
      * Partially updates the document identified by document-key. The value must contain a document with the attributes
      * to patch (the patch document). All attributes from the patch document will be added to the existing document if
@@ -321,7 +428,8 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      * @param values A list of documents (POJO, VPackSlice or String for JSON)
      * @return information about the documents
      * @throws ArangoDBException
-     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
      * Documentation</a>
      */
     <T> MultiDocumentEntity<DocumentUpdateEntity<T>> updateDocuments(Collection<T> values) throws ArangoDBException;
@@ -336,7 +444,8 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      * @param options Additional options, can be null
      * @return information about the documents
      * @throws ArangoDBException
-     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
      * Documentation</a>
      */
     <T> MultiDocumentEntity<DocumentUpdateEntity<T>> updateDocuments(
@@ -353,12 +462,29 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      * @param returnType Type of the returned newDocument and/or oldDocument
      * @return information about the documents
      * @throws ArangoDBException
-     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
      * Documentation</a>
      */
     <T, U> MultiDocumentEntity<DocumentUpdateEntity<U>> updateDocuments(
             Collection<T> values, DocumentUpdateOptions options, Class<U> returnType) throws ArangoDBException;
 
+    /**
+     * Partially updates multiple documents in the collection, returning a compact result instead of one entity per
+     * document. The options {@code returnNew}, {@code returnOld} and {@code silent} are ignored.
+     *
+     * @param values     A list of documents (POJO, VPackSlice or String for JSON)
+     * @param options    Additional options, can be null
+     * @param resultMode whether to read the keys and revisions of the documents or only the errors
+     * @return the keys and revisions of the documents, and the errors by position
+     * @throws ArangoDBException
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
+     * Documentation</a>
+     */
+    MultiDocumentResult updateDocumentsCompact(
+            Collection<?> values, DocumentUpdateOptions options, BulkResultMode resultMode) throws ArangoDBException;
+
     /**
      * Deletes the document with the given {@code key} from the collection.
      *
@@ -413,6 +539,22 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
     <T> MultiDocumentEntity<DocumentDeleteEntity<T>> deleteDocuments(
             Collection<?> values, Class<T> type, DocumentDeleteOptions options) throws ArangoDBException;
 
+    /**
+     * Deletes multiple documents from the collection, returning a compact result instead of one entity per
+     * document. The options {@code returnNew}, {@code returnOld} and {@code silent} are ignored.
+     *
+     * @param values     The keys of the documents or the documents themselves
+     * @param options    Additional options, can be null
+     * @param resultMode whether to read the keys and revisions of the documents or only the errors
+     * @return the keys and revisions of the documents, and the errors by position
+     * @throws ArangoDBException
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#removes-multiple-documents">API
+     * Documentation</a>
+     */
+    MultiDocumentResult deleteDocumentsCompact(
+            Collection<?> values, DocumentDeleteOptions options, BulkResultMode resultMode) throws ArangoDBException;
+
     /**
      * Checks if the document exists by reading a single document head
      *
@@ -734,6 +876,73 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      */
     ShardEntity getResponsibleShard(final Object value);
 
+    /**
+     * Returns the ids of the shards of the collection.
+     * Please note that this API is only meaningful and available on a cluster coordinator.
+     *
+     * @return the shard ids
+     * @throws ArangoDBException
+     * @see <a href="https://www.arangodb.com/docs/stable/http/collection-getting.html#return-the-shard-ids-of-a-collection">
+     * API Documentation</a>
+     * @since ArangoDB 3.5.0
+     */
+    Collection<String> getShards() throws ArangoDBException;
+
+    /**
+     * Reads all documents of the collection with several streaming cursors at the same time: one per shard in a
+     * cluster, one per key range on a single server. The given action is invoked for each document from the threads
+     * reading the cursors, hence concurrently and in no particular order. Documents inserted, updated or removed during
+     * the scan may or may not be seen. Returns once all documents have been processed.
+     *
+     * @param type    The type of the documents (POJO class, VPackSlice, DocumentView, or Map)
+     * @param options Additional options, can be null
+     * @param action  the action to be performed for each document, must be thread-safe
+     * @throws ArangoDBException if a cursor or the action failed, the remaining cursors are then closed
+     */
+    <T> void parallelScan(Class<T> type, CollectionScanOptions options, Consumer<? super T> action)
+            throws ArangoDBException;
+
+    /**
+     * Creates a writer batching single document insertions and updates from any number of threads into multi-document
+     * requests. The writer has to be closed to send the remaining operations and release its threads.
+     *
+     * @param type    The type of the documents (POJO class, VPackSlice or String for JSON)
+     * @param options Additional options, can be null
+     * @return the writer
+     */
+    <T> BulkWriter<T> bulkWriter(Class<T> type, BulkWriterOptions options);
+
+    /**
+     * Creates a loader coalescing single document reads from any number of threads into multi-document requests, and
+     * sharing a single read among concurrent requests of the same key. The loader has to be closed to release its
+     * threads.
+     *
+     * @param type    The type of the documents (POJO class, VPackSlice or String for JSON)
+     * @param options Additional options, can be null
+     * @return the loader
+     */
+    <T> DocumentLoader<T> documentLoader(Class<T> type, DocumentLoaderOptions options);
+
+    /**
+     * Creates a read-through cache of documents of this collection, revalidating expired documents with their revision.
+     * Writes performed through this instance invalidate the affected documents of the cache. The cache has to be
+     * closed once it is no longer used, to unregister it from this instance.
+     *
+     * @param type    The type of the documents (POJO class, VPackSlice or Map)
+     * @param options Additional options, can be null
+     * @return the cache
+     */
+    <T> DocumentReadCache<T> documentReadCache(Class<T> type, DocumentReadCacheOptions options);
+
+    /**
+     * Creates a buffer merging partial updates of the same document and writing them in the background with
+     * multi-document requests. The buffer has to be closed to write the remaining updates and release its thread.
+     *
+     * @param options Additional options, can be null
+     * @return the buffer
+     */
+    <T> WriteBehindBuffer<T> writeBehindBuffer(WriteBehindOptions options);
+
     /**
      * Retrieve the collections revision
      *
@@ -24,6 +24,8 @@ import com.arangodb.entity.*;
 import com.arangodb.internal.ArangoContext;
 import com.arangodb.internal.ArangoDBImpl;
 import com.arangodb.internal.ArangoDefaults;
+import com.arangodb.internal.CompressionMetricsImpl;
+import com.arangodb.internal.SslHandshakeMetricsImpl;
 import com.arangodb.internal.InternalArangoDBBuilder;
 import com.arangodb.internal.http.HttpCommunication;
 import com.arangodb.internal.http.HttpConnectionFactory;
@@ -135,6 +137,22 @@ public interface ArangoDB extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Adds an endpoint to connect to. Multiple endpoints can be added to provide fallbacks.
+         *
+         * <p>
+         * Besides {@code host:port}, Unix domain sockets are supported as {@code unix:///path/to/socket} (requires
+         * Java 16 or later). Connections through Unix domain sockets do not use SSL.
+         * </p>
+         *
+         * @param endpoint endpoint of the host
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder endpoint(final String endpoint) {
+            setEndpoint(endpoint);
+            return this;
+        }
+
         /**
          * Sets the connection and request timeout in milliseconds.
          *
@@ -337,6 +355,62 @@ public interface ArangoDB extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Sets the content encoding used to compress HTTP request bodies. If set to a value other than
+         * {@link Compression#NONE}, the driver also asks the server for compressed responses and decompresses them.
+         * Only used together with {@link Protocol#HTTP_JSON} and {@link Protocol#HTTP_VPACK}.
+         * <p>
+         * Every request body of at least {@link #compressionThreshold(Integer)} bytes is compressed. Document inserts,
+         * imports and queries can opt in or out regardless of the size of their body, see
+         * {@link com.arangodb.model.DocumentCreateOptions#compressRequest(Boolean)},
+         * {@link com.arangodb.model.DocumentImportOptions#compressRequest(Boolean)} and
+         * {@link com.arangodb.model.AqlQueryOptions#compressRequest(Boolean)}, as can requests passed to
+         * {@link ArangoDB#execute(Request)} with {@link Request#setCompression(Boolean)}.
+         *
+         * @param compression compression to use (default: {@link Compression#NONE})
+         * @return {@link ArangoDB.Builder}
+         * @see ArangoMetrics#getCompression()
+         */
+        public Builder compression(final Compression compression) {
+            setCompression(compression);
+            return this;
+        }
+
+        /**
+         * Sets the minimum size of a request body to be compressed, see {@link #compression(Compression)}.
+         *
+         * @param compressionThreshold body size in bytes (default: {@code 1024})
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder compressionThreshold(final Integer compressionThreshold) {
+            setCompressionThreshold(compressionThreshold);
+            return this;
+        }
+
+        /**
+         * Sets the compression level, from {@code 0} (no compression) to {@code 9} (best compression), or {@code -1}
+         * for the default level of zlib, see {@link #compression(Compression)}.
+         *
+         * @param compressionLevel compression level (default: {@code 6})
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder compressionLevel(final Integer compressionLevel) {
+            setCompressionLevel(compressionLevel);
+            return this;
+        }
+
+        /**
+         * Runs the reader and keep-alive tasks of VST connections on virtual threads instead of platform threads.
+         * Requires Java 21 or later at runtime, on older versions platform threads are used.
+         *
+         * @param useVirtualThreads whether to use virtual threads (default: {@code false})
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder useVirtualThreads(final Boolean useVirtualThreads) {
+            setUseVirtualThreads(useVirtualThreads);
+            return this;
+        }
+
         /**
          * Register a custom {@link VPackSerializer} for a specific type to be used within the internal serialization
          * process.
@@ -650,10 +724,14 @@ public interface ArangoDB extends ArangoSerializationAccessor {
                     ArangoDefaults.MAX_CONNECTIONS_HTTP_DEFAULT;
             final int max = maxConnections != null ? Math.max(1, maxConnections) : protocolMaxConnections;
 
+            final CompressionMetricsImpl compressionMetrics = new CompressionMetricsImpl();
+            final SslHandshakeMetricsImpl sslHandshakeMetrics = new SslHandshakeMetricsImpl();
             final ConnectionFactory connectionFactory = (protocol == null || Protocol.VST == protocol)
-                    ? new VstConnectionFactorySync(host, timeout, connectionTtl, keepAliveInterval, useSsl, sslContext)
+                    ? new VstConnectionFactorySync(host, timeout, connectionTtl, keepAliveInterval, useSsl, sslContext,
+                    sslHandshakeMetrics, useVirtualThreads)
                     : new HttpConnectionFactory(timeout, user, password, useSsl, sslContext, hostnameVerifier, custom,
-                    protocol, connectionTtl, httpCookieSpec, httpRequestRetryHandler);
+                    protocol, connectionTtl, httpCookieSpec, httpRequestRetryHandler, compression,
+                    compressionThreshold, compressionLevel, compressionMetrics, sslHandshakeMetrics);
 
             final Collection<Host> hostList = createHostList(max, connectionFactory);
             final HostResolver hostResolver = createHostResolver(hostList, max, connectionFactory);
@@ -670,7 +748,7 @@ public interface ArangoDB extends ArangoSerializationAccessor {
                     hostResolver,
                     hostHandler,
                     new ArangoContext(),
-                    responseQueueTimeSamples, timeout);
+                    responseQueueTimeSamples, timeout, compressionMetrics, sslHandshakeMetrics);
         }
 
     }
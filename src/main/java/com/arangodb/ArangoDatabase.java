@@ -309,6 +309,35 @@ public interface ArangoDatabase extends ArangoSerializationAccessor {
      */
     <T> ArangoCursor<T> query(String query, Map<String, Object> bindVars, Class<T> type) throws ArangoDBException;
 
+    /**
+     * Returns a publisher of the results of the given {@code query}. The query is only performed once the subscriber
+     * requests elements, and the next batch is only fetched once the elements of the previous one have been delivered
+     * and the subscriber has outstanding demand, so that at most one batch is held in memory. Batches are fetched on
+     * {@link AqlQueryOptions#publisherExecutor(java.util.concurrent.Executor)}, so that
+     * {@link ArangoFlow.Subscription#request(long)} only records demand. Cancelling the subscription closes the
+     * cursor on the server. Supports a single subscriber.
+     *
+     * @param query    An AQL query string
+     * @param bindVars key/value pairs defining the variables to bind the query to
+     * @param options  Additional options that will be passed to the query API, can be null
+     * @param type     The type of the result (POJO class, VPackSlice, String for JSON, or Collection/List/Map)
+     * @return publisher of the results
+     * @see <a href="https://www.arangodb.com/docs/stable/http/aql-query-cursor-accessing-cursors.html#create-cursor">API
+     * Documentation</a>
+     */
+    <T> ArangoFlow.Publisher<T> queryPublisher(
+            String query, Map<String, Object> bindVars, AqlQueryOptions options, Class<T> type);
+
+    /**
+     * Returns a publisher of the results of the given {@code query}.
+     *
+     * @param query An AQL query string
+     * @param type  The type of the result (POJO class, VPackSlice, String for JSON, or Collection/List/Map)
+     * @return publisher of the results
+     * @see #queryPublisher(String, Map, AqlQueryOptions, Class)
+     */
+    <T> ArangoFlow.Publisher<T> queryPublisher(String query, Class<T> type);
+
     /**
      * Performs a database query using the given {@code query}, then returns a new {@code ArangoCursor} instance for the
      * result list.
@@ -0,0 +1,113 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+/**
+ * Interfaces for demand-driven streams of results, equivalent to the ones of {@code java.util.concurrent.Flow} and of
+ * Reactive Streams, which are not available on Java 8. On Java 9 or later a publisher can be adapted with:
+ * <pre>{@code
+ * Flow.Publisher<T> publisher = s -> arangoPublisher.subscribe(new ArangoFlow.Subscriber<T>() {
+ *     public void onSubscribe(ArangoFlow.Subscription sub) {
+ *         s.onSubscribe(new Flow.Subscription() {
+ *             public void request(long n) { sub.request(n); }
+ *             public void cancel() { sub.cancel(); }
+ *         });
+ *     }
+ *     public void onNext(T item) { s.onNext(item); }
+ *     public void onError(Throwable throwable) { s.onError(throwable); }
+ *     public void onComplete() { s.onComplete(); }
+ * });
+ * }</pre>
+ */
+public final class ArangoFlow {
+
+    private ArangoFlow() {
+    }
+
+    /**
+     * Producer of items received by {@link Subscriber}s, see {@code java.util.concurrent.Flow.Publisher}.
+     *
+     * @param <T> the published item type
+     */
+    public interface Publisher<T> {
+
+        /**
+         * Adds the given subscriber, which will receive {@link Subscriber#onSubscribe(Subscription)} and then items
+         * according to the demand signalled through the subscription.
+         *
+         * @param subscriber the subscriber
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * Receiver of items, see {@code java.util.concurrent.Flow.Subscriber}.
+     *
+     * @param <T> the subscribed item type
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Invoked prior to any other method for the given subscription.
+         *
+         * @param subscription a new subscription
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Invoked with the next item, never more often than requested.
+         *
+         * @param item the item
+         */
+        void onNext(T item);
+
+        /**
+         * Invoked upon an unrecoverable error, no other method is invoked afterwards.
+         *
+         * @param throwable the exception
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Invoked when all items have been received, no other method is invoked afterwards.
+         */
+        void onComplete();
+    }
+
+    /**
+     * Link between a {@link Publisher} and a {@link Subscriber}, see {@code java.util.concurrent.Flow.Subscription}.
+     */
+    public interface Subscription {
+
+        /**
+         * Adds the given number of items to the unfulfilled demand of this subscription.
+         *
+         * @param n the increment of demand, must be positive
+         */
+        void request(long n);
+
+        /**
+         * Stops the delivery of items and releases the resources of the publisher.
+         */
+        void cancel();
+    }
+
+}
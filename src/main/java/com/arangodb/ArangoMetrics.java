@@ -31,4 +31,24 @@ public interface ArangoMetrics {
      * @return queue time metrics
      */
     QueueTimeMetrics getQueueTime();
+
+    /**
+     * @return HTTP body compression metrics, all zero if the client does not compress
+     */
+    CompressionMetrics getCompression();
+
+    /**
+     * @return SSL handshake metrics
+     */
+    SslHandshakeMetrics getSslHandshakes();
+
+    /**
+     * @return thread hop metrics of asynchronous requests
+     */
+    ThreadHopMetrics getThreadHops();
+
+    /**
+     * @return batch sizes chosen for queries performed with adaptive batch size
+     */
+    CursorBatchSizeMetrics getCursorBatchSizes();
 }
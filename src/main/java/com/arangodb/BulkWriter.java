@@ -0,0 +1,77 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb;
+
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentUpdateEntity;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects single document operations from any number of threads and sends them to the server as multi-document
+ * requests, once a batch reached {@link com.arangodb.model.BulkWriterOptions#batchSize(Integer)} documents,
+ * {@link com.arangodb.model.BulkWriterOptions#batchBytes(Long)} bytes, or has been waiting for
+ * {@link com.arangodb.model.BulkWriterOptions#lingerTime(Long)} milliseconds.
+ * <p>
+ * Each operation returns a future completed with the result of that single document, or completed exceptionally with
+ * an {@link ArangoDBException} carrying the {@link com.arangodb.entity.ErrorEntity} reported by the server for it.
+ * Batches are sent concurrently, hence operations on the same document are not guaranteed to be applied in the order
+ * they have been submitted unless the caller waits for the future of the previous one.
+ *
+ * @param <T> the type of the documents
+ * @see ArangoCollection#bulkWriter(Class, com.arangodb.model.BulkWriterOptions)
+ */
+public interface BulkWriter<T> extends Closeable {
+
+    /**
+     * Adds the insertion of a document to the current batch. Blocks if the maximum number of batches in flight has been
+     * reached and the batch is full.
+     *
+     * @param value A representation of a single document (POJO, VPackSlice or String for JSON)
+     * @return a future completed once the batch has been processed by the server
+     * @throws IllegalStateException if the writer has been closed
+     */
+    CompletableFuture<DocumentCreateEntity<T>> insertDocument(T value);
+
+    /**
+     * Adds the partial update of a document to the current batch. Blocks if the maximum number of batches in flight has
+     * been reached and the batch is full.
+     *
+     * @param key   The key of the document
+     * @param value A representation of a single document (POJO, VPackSlice or String for JSON)
+     * @return a future completed once the batch has been processed by the server
+     * @throws IllegalStateException if the writer has been closed
+     */
+    CompletableFuture<DocumentUpdateEntity<T>> updateDocument(String key, T value);
+
+    /**
+     * Sends the pending operations and waits until all batches sent so far have been processed.
+     */
+    void flush();
+
+    /**
+     * Flushes the pending operations and releases the threads of the writer. Operations submitted afterwards are
+     * rejected.
+     */
+    @Override
+    void close();
+
+}
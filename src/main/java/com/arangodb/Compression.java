@@ -0,0 +1,54 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+/**
+ * Content encoding used to compress HTTP request bodies.
+ *
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc7231#section-3.1.2.2">RFC 7231 Content-Encoding</a>
+ */
+public enum Compression {
+    /**
+     * request bodies are sent uncompressed
+     */
+    NONE(null),
+    /**
+     * request bodies are compressed with gzip
+     */
+    GZIP("gzip"),
+    /**
+     * request bodies are compressed with deflate (zlib format)
+     */
+    DEFLATE("deflate");
+
+    private final String encoding;
+
+    Compression(final String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * @return the value of the {@code Content-Encoding} header, {@code null} for {@link #NONE}
+     */
+    public String getEncoding() {
+        return encoding;
+    }
+}
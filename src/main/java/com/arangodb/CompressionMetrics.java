@@ -0,0 +1,72 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+/**
+ * Counters about HTTP body compression, see {@link ArangoDB.Builder#compression(Compression)}.
+ */
+public interface CompressionMetrics {
+
+    /**
+     * @return number of request bodies sent compressed
+     */
+    long getCompressedRequests();
+
+    /**
+     * @return total size in bytes of the compressed request bodies before compression
+     */
+    long getRequestBytes();
+
+    /**
+     * @return total size in bytes of the compressed request bodies as sent over the wire
+     */
+    long getCompressedRequestBytes();
+
+    /**
+     * @return time spent compressing request bodies, in nanoseconds
+     */
+    long getCompressionTimeNanos();
+
+    /**
+     * @return number of compressed response bodies received
+     */
+    long getCompressedResponses();
+
+    /**
+     * @return total size in bytes of the compressed response bodies after decompression
+     */
+    long getResponseBytes();
+
+    /**
+     * @return total size in bytes of the compressed response bodies as received over the wire
+     */
+    long getCompressedResponseBytes();
+
+    /**
+     * @return time spent decompressing response bodies, in nanoseconds
+     */
+    long getDecompressionTimeNanos();
+
+    /**
+     * @return number of bytes not transferred thanks to compression, in both directions
+     */
+    long getBytesSaved();
+}
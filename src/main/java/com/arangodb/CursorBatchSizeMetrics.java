@@ -0,0 +1,38 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb;
+
+import java.util.Map;
+
+/**
+ * Batch sizes chosen for queries performed with {@link com.arangodb.model.AqlQueryOptions#adaptiveBatchSize(Boolean)}.
+ */
+public interface CursorBatchSizeMetrics {
+
+    /**
+     * @return number of cursor batches measured
+     */
+    long getMeasuredBatches();
+
+    /**
+     * @return the batch size chosen for the next execution of each query, by query string
+     */
+    Map<String, Integer> getBatchSizes();
+}
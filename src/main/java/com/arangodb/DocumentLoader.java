@@ -0,0 +1,57 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Coalesces single document reads from any number of threads into multi-document requests, once
+ * {@link com.arangodb.model.DocumentLoaderOptions#batchSize(Integer)} distinct keys have been requested or the first
+ * read has been waiting for {@link com.arangodb.model.DocumentLoaderOptions#maxDelay(Long)} microseconds.
+ * <p>
+ * Reads of a key which is already waiting for its batch or being read by a request in flight share the result of that
+ * request instead of reading the document again, hence they may not see modifications made after the request has been
+ * sent. Nothing is cached once the request completed.
+ *
+ * @param <T> the type of the documents
+ * @see ArangoCollection#documentLoader(Class, com.arangodb.model.DocumentLoaderOptions)
+ * @see com.arangodb.async.ArangoCollectionAsync#documentLoader(Class, com.arangodb.model.DocumentLoaderOptions)
+ */
+public interface DocumentLoader<T> extends Closeable {
+
+    /**
+     * Adds the read of a document to the current batch.
+     *
+     * @param key The key of the document
+     * @return a future completed with the document, or with {@code null} if no document exists with the given key
+     * @throws IllegalStateException if the loader has been closed
+     */
+    CompletableFuture<T> getDocument(String key);
+
+    /**
+     * Waits until the pending reads have been completed and releases the threads of the loader. Reads submitted
+     * afterwards are rejected.
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,93 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import com.arangodb.entity.MultiDocumentEntity;
+
+import java.io.Closeable;
+import java.util.Collection;
+
+/**
+ * Read-through cache of documents of a collection, see
+ * {@link ArangoCollection#documentReadCache(Class, com.arangodb.model.DocumentReadCacheOptions)}.
+ * <p>
+ * Cached documents are returned without contacting the server during
+ * {@link com.arangodb.model.DocumentReadCacheOptions#timeToLive(Long)}. Afterwards {@link #getDocument(String)}
+ * revalidates them with the cached revision in the {@code If-None-Match} header, so that unmodified documents are not
+ * transferred again. Writes performed through the {@link ArangoCollection} instance which created the cache invalidate
+ * the affected entries, writes performed by other instances or clients are only seen after revalidation.
+ * <p>
+ * The cache is bounded by number of entries and optionally by the size of the cached documents. Entries are evicted in
+ * least recently used order, and new entries are only admitted in place of an evicted one if they have been read more
+ * often recently (TinyLFU admission). Each read returns a new deserialized instance of the document.
+ * <p>
+ * The cache stays registered with the {@link ArangoCollection} instance which created it until it is closed.
+ *
+ * @param <T> the type of the documents
+ */
+public interface DocumentReadCache<T> extends Closeable {
+
+    /**
+     * Reads a document from the cache, or from the server if it is not cached or has to be revalidated.
+     *
+     * @param key The key of the document
+     * @return the document, or {@code null} if no document exists with the given key
+     * @throws ArangoDBException if the document could not be read
+     * @throws IllegalStateException if the cache has been closed
+     */
+    T getDocument(String key) throws ArangoDBException;
+
+    /**
+     * Reads multiple documents, the ones which are not cached or have to be revalidated are read from the server in
+     * a single request.
+     *
+     * @param keys The keys of the documents
+     * @return the documents and errors, in the order of the keys
+     * @throws ArangoDBException if the documents could not be read
+     * @throws IllegalStateException if the cache has been closed
+     */
+    MultiDocumentEntity<T> getDocuments(Collection<String> keys) throws ArangoDBException;
+
+    /**
+     * Removes the document with the given key from the cache.
+     *
+     * @param key The key of the document
+     */
+    void invalidate(String key);
+
+    /**
+     * Removes all documents from the cache.
+     */
+    void invalidateAll();
+
+    /**
+     * @return hit, miss and revalidation counters of the cache
+     */
+    DocumentReadCacheMetrics getMetrics();
+
+    /**
+     * Removes all documents and unregisters the cache from the {@link ArangoCollection} instance which created it, so
+     * that its writes no longer have to invalidate it. Reads performed afterwards are rejected.
+     */
+    @Override
+    void close();
+
+}
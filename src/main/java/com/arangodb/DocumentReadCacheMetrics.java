@@ -0,0 +1,73 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+/**
+ * Counters of a {@link DocumentReadCache}.
+ */
+public interface DocumentReadCacheMetrics {
+
+    /**
+     * @return number of documents returned from the cache without contacting the server
+     */
+    long getHits();
+
+    /**
+     * @return number of documents read from the server because they were not cached or expired
+     */
+    long getMisses();
+
+    /**
+     * @return number of requests revalidating a cached document with its revision
+     */
+    long getRevalidations();
+
+    /**
+     * @return number of revalidations answered by the server with {@code 304 Not Modified}
+     */
+    long getNotModified();
+
+    /**
+     * @return number of entries evicted to respect the size bounds of the cache
+     */
+    long getEvictions();
+
+    /**
+     * @return number of entries removed because the document has been written or deleted
+     */
+    long getInvalidations();
+
+    /**
+     * @return number of documents currently cached
+     */
+    long getSize();
+
+    /**
+     * @return total size in bytes of the documents currently cached
+     */
+    long getWeight();
+
+    /**
+     * @return ratio of reads served from the cache, including revalidated ones, to all reads
+     */
+    double getHitRate();
+
+}
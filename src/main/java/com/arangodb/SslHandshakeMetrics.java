@@ -0,0 +1,47 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+/**
+ * Counters about the SSL handshakes performed when opening connections.
+ */
+public interface SslHandshakeMetrics {
+
+    /**
+     * @return number of completed handshakes
+     */
+    long getHandshakes();
+
+    /**
+     * @return number of completed handshakes which resumed a previous SSL session
+     */
+    long getResumedHandshakes();
+
+    /**
+     * @return total time spent in handshakes, in nanoseconds
+     */
+    long getHandshakeTimeNanos();
+
+    /**
+     * @return average duration of a handshake in nanoseconds, 0.0 if no handshake has been performed
+     */
+    double getAvgHandshakeTimeNanos();
+}
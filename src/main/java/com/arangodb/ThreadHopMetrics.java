@@ -0,0 +1,61 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+/**
+ * Counters about the thread hops of asynchronous requests, see
+ * {@link com.arangodb.async.ArangoDBAsync.Builder#outgoingExecutor(java.util.concurrent.Executor)} and
+ * {@link com.arangodb.async.ArangoDBAsync.Builder#deserializationExecutor(java.util.concurrent.Executor)}. The time of
+ * a hop is the time a task waits in the executor before being run. Always {@code 0} for the synchronous driver.
+ */
+public interface ThreadHopMetrics {
+
+    /**
+     * @return number of hops to the outgoing executor
+     */
+    long getOutgoingHops();
+
+    /**
+     * @return total time requests waited for the outgoing executor, in nanoseconds
+     */
+    long getOutgoingHopTimeNanos();
+
+    /**
+     * @return average time a request waited for the outgoing executor in nanoseconds, 0.0 if no hop has been recorded
+     */
+    double getAvgOutgoingHopTimeNanos();
+
+    /**
+     * @return number of hops to the deserialization executor
+     */
+    long getDeserializationHops();
+
+    /**
+     * @return total time responses waited for the deserialization executor, in nanoseconds
+     */
+    long getDeserializationHopTimeNanos();
+
+    /**
+     * @return average time a response waited for the deserialization executor in nanoseconds, 0.0 if no hop has been
+     * recorded
+     */
+    double getAvgDeserializationHopTimeNanos();
+}
@@ -0,0 +1,73 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Buffers partial updates of documents and writes them to the server in the background. Successive updates of the same
+ * document are merged into a single one while they are buffered, following the
+ * {@link com.arangodb.model.DocumentUpdateOptions#mergeObjects(Boolean)} semantics of the update options: with
+ * {@code mergeObjects} (the default) nested objects are merged, otherwise attributes are replaced as a whole.
+ * <p>
+ * The buffered updates are sent with multi-document update requests once
+ * {@link com.arangodb.model.WriteBehindOptions#batchSize(Integer)} documents are pending, and at the latest
+ * {@link com.arangodb.model.WriteBehindOptions#maxStaleness(Long)} milliseconds after an update has been buffered.
+ * Requests are sent one after the other, so that updates of the same document are applied in the order they have been
+ * submitted. Updates which have not been written yet are lost if the JVM terminates without closing the buffer.
+ *
+ * @param <T> the type of the updates
+ * @see ArangoCollection#writeBehindBuffer(com.arangodb.model.WriteBehindOptions)
+ */
+public interface WriteBehindBuffer<T> extends Closeable {
+
+    /**
+     * Buffers the partial update of a document, merging it with the pending update of the same document. Blocks if
+     * {@link com.arangodb.model.WriteBehindOptions#maxPendingDocuments(Integer)} other documents have pending updates.
+     *
+     * @param key   The key of the document
+     * @param value A representation of the partial document (POJO, Map, VPackSlice or String for JSON)
+     * @return a future completed once the update has been written, or completed exceptionally with an
+     * {@link ArangoDBException} if the merged update failed. The future is completed by a thread of the buffer
+     * dedicated to callbacks, which may call the methods of the buffer but delay the completion of later updates.
+     * @throws IllegalStateException if the buffer has been closed
+     */
+    CompletableFuture<Void> updateDocument(String key, T value);
+
+    /**
+     * Writes the pending updates and waits until they have been processed by the server and their futures have been
+     * completed.
+     */
+    void flush();
+
+    /**
+     * Flushes the pending updates and releases the threads of the buffer. Updates submitted afterwards are rejected.
+     */
+    @Override
+    void close();
+
+    /**
+     * @return counters of the updates buffered and written
+     */
+    WriteBehindMetrics getMetrics();
+
+}
@@ -0,0 +1,53 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+/**
+ * Counters of a {@link WriteBehindBuffer}.
+ */
+public interface WriteBehindMetrics {
+
+    /**
+     * @return number of updates submitted to the buffer
+     */
+    long getUpdates();
+
+    /**
+     * @return number of merged document updates sent to the server
+     */
+    long getWrittenDocuments();
+
+    /**
+     * @return number of document writes saved by merging updates of the same document
+     */
+    long getWritesSaved();
+
+    /**
+     * @return number of multi-document requests sent to the server
+     */
+    long getRequests();
+
+    /**
+     * @return number of merged document updates which failed
+     */
+    long getFailedDocuments();
+
+}
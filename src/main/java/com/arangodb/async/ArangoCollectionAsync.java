@@ -22,6 +22,7 @@ package com.arangodb.async;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoSerializationAccessor;
+import com.arangodb.DocumentLoader;
 import com.arangodb.entity.*;
 import com.arangodb.model.*;
 
@@ -100,6 +101,22 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
             final Collection<T> values,
             final DocumentCreateOptions options);
 
+    /**
+     * Creates new documents from the given documents, returning a compact result instead of one entity per
+     * document. The options {@code returnNew}, {@code returnOld} and {@code silent} are ignored.
+     *
+     * @param values     A List of documents (POJO, VPackSlice or String for JSON)
+     * @param options    Additional options, can be null
+     * @param resultMode whether to read the keys and revisions of the documents or only the errors
+     * @return the keys and revisions of the documents, and the errors by position
+     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#create-document">API
+     * Documentation</a>
+     */
+    CompletableFuture<MultiDocumentResult> insertDocumentsCompact(
+            final Collection<?> values,
+            final DocumentCreateOptions options,
+            final BulkResultMode resultMode);
+
     /**
      * Imports documents
      *
@@ -182,6 +199,16 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
             final Class<T> type,
             DocumentReadOptions options);
 
+    /**
+     * Creates a loader coalescing single document reads into multi-document requests, and sharing a single read among
+     * concurrent requests of the same key. The loader has to be closed to release its thread.
+     *
+     * @param type    The type of the documents (POJO class, VPackSlice or String for JSON)
+     * @param options Additional options, can be null
+     * @return the loader
+     */
+    <T> DocumentLoader<T> documentLoader(Class<T> type, DocumentLoaderOptions options);
+
     /**
      * Replaces the document with key with the one in the body, provided there is such a document and no precondition is
      * violated
@@ -216,7 +243,8 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
      *
      * @param values A List of documents (POJO, VPackSlice or String for Json)
      * @return information about the documents
-     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#replace-documents">API
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#replace-documents">API
      * Documentation</a>
      */
     <T> CompletableFuture<MultiDocumentEntity<DocumentUpdateEntity<T>>> replaceDocuments(final Collection<T> values);
@@ -228,13 +256,31 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
      * @param values  A List of documents (POJO, VPackSlice or String for Json)
      * @param options Additional options, can be null
      * @return information about the documents
-     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#replace-documents">API
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#replace-documents">API
      * Documentation</a>
      */
     <T> CompletableFuture<MultiDocumentEntity<DocumentUpdateEntity<T>>> replaceDocuments(
             final Collection<T> values,
             final DocumentReplaceOptions options);
 
+    /**
+     * Replaces multiple documents in the collection, returning a compact result instead of one entity per
+     * document. The options {@code returnNew}, {@code returnOld} and {@code silent} are ignored.
+     *
+     * @param values     A List of documents (POJO, VPackSlice or String for JSON)
+     * @param options    Additional options, can be null
+     * @param resultMode whether to read the keys and revisions of the documents or only the errors
+     * @return the keys and revisions of the documents, and the errors by position
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#replace-documents">API
+     * Documentation</a>
+     */
+    CompletableFuture<MultiDocumentResult> replaceDocumentsCompact(
+            final Collection<?> values,
+            final DocumentReplaceOptions options,
+            final BulkResultMode resultMode);
+
     /**
      * Partially updates the document identified by document-key. The value must contain a document with the attributes
      * to patch (the patch document). All attributes from the patch document will be added to the existing document if
@@ -292,7 +338,8 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
      *
      * @param values A list of documents (POJO, VPackSlice or String for Json)
      * @return information about the documents
-     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
      * Documentation</a>
      */
     <T> CompletableFuture<MultiDocumentEntity<DocumentUpdateEntity<T>>> updateDocuments(final Collection<T> values);
@@ -306,7 +353,8 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
      * @param values  A list of documents (POJO, VPackSlice or String for Json)
      * @param options Additional options, can be null
      * @return information about the documents
-     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
      * Documentation</a>
      */
     <T> CompletableFuture<MultiDocumentEntity<DocumentUpdateEntity<T>>> updateDocuments(
@@ -323,7 +371,8 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
      * @param options    Additional options, can be null
      * @param returnType Type of the returned newDocument and/or oldDocument
      * @return information about the documents
-     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
      * Documentation</a>
      */
     <T, U> CompletableFuture<MultiDocumentEntity<DocumentUpdateEntity<U>>> updateDocuments(
@@ -331,6 +380,23 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
             final DocumentUpdateOptions options,
             final Class<U> returnType);
 
+    /**
+     * Partially updates multiple documents in the collection, returning a compact result instead of one entity per
+     * document. The options {@code returnNew}, {@code returnOld} and {@code silent} are ignored.
+     *
+     * @param values     A list of documents (POJO, VPackSlice or String for JSON)
+     * @param options    Additional options, can be null
+     * @param resultMode whether to read the keys and revisions of the documents or only the errors
+     * @return the keys and revisions of the documents, and the errors by position
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
+     * Documentation</a>
+     */
+    CompletableFuture<MultiDocumentResult> updateDocumentsCompact(
+            final Collection<?> values,
+            final DocumentUpdateOptions options,
+            final BulkResultMode resultMode);
+
     /**
      * Removes a document
      *
@@ -385,6 +451,23 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
             final Class<T> type,
             final DocumentDeleteOptions options);
 
+    /**
+     * Deletes multiple documents from the collection, returning a compact result instead of one entity per
+     * document. The options {@code returnNew}, {@code returnOld} and {@code silent} are ignored.
+     *
+     * @param values     The keys of the documents or the documents themselves
+     * @param options    Additional options, can be null
+     * @param resultMode whether to read the keys and revisions of the documents or only the errors
+     * @return the keys and revisions of the documents, and the errors by position
+     * @see <a href=
+     * "https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#removes-multiple-documents">API
+     * Documentation</a>
+     */
+    CompletableFuture<MultiDocumentResult> deleteDocumentsCompact(
+            final Collection<?> values,
+            final DocumentDeleteOptions options,
+            final BulkResultMode resultMode);
+
     /**
      * Checks if the document exists by reading a single document head
      *
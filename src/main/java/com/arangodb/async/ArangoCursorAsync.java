@@ -21,7 +21,10 @@
 package com.arangodb.async;
 
 import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoFlow;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -31,4 +34,39 @@ public interface ArangoCursorAsync<T> extends ArangoCursor<T> {
 
     Stream<T> streamRemaining();
 
+    /**
+     * Returns the not yet consumed elements of the current batch or, if these have all been consumed, fetches the next
+     * batch from the server which created the cursor, without blocking. Must not be called again before the returned
+     * future is completed and must not be mixed with the blocking iteration methods.
+     *
+     * @return the next batch, completed exceptionally with {@link java.util.NoSuchElementException} if there are no
+     * more elements
+     */
+    CompletableFuture<Batch<T>> nextBatch();
+
+    /**
+     * Performs the given action for each remaining element, fetching batches with {@link #nextBatch()}. The action
+     * runs on the threads completing the fetches and must not block.
+     *
+     * @param action the action to be performed for each element
+     * @return a future completed once all elements have been processed
+     */
+    CompletableFuture<Void> forEachAsync(Consumer<? super T> action);
+
+    /**
+     * Returns a publisher of the remaining elements, fetching a batch only once the previous one has been delivered and
+     * the subscriber has outstanding demand. Cancelling the subscription closes the cursor. Supports a single
+     * subscriber.
+     *
+     * @return publisher of the remaining elements
+     */
+    ArangoFlow.Publisher<T> publisher();
+
+    /**
+     * Closes the cursor on the server, if it has more elements, without blocking.
+     *
+     * @return a future completed once the cursor is closed
+     */
+    CompletableFuture<Void> closeAsync();
+
 }
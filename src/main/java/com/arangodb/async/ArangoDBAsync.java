@@ -28,6 +28,7 @@ import com.arangodb.entity.*;
 import com.arangodb.internal.ArangoContext;
 import com.arangodb.internal.ArangoDefaults;
 import com.arangodb.internal.InternalArangoDBBuilder;
+import com.arangodb.internal.SslHandshakeMetricsImpl;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostHandler;
 import com.arangodb.internal.net.HostResolver;
@@ -53,6 +54,8 @@ import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Central access point for applications to communicate with an ArangoDB server.
@@ -343,6 +346,9 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
     @SuppressWarnings("unused")
     class Builder extends InternalArangoDBBuilder {
 
+        private Executor outgoingExecutor;
+        private Executor deserializationExecutor;
+
         public Builder() {
             super();
         }
@@ -365,6 +371,22 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Adds an endpoint to connect to. Multiple endpoints can be added to provide fallbacks.
+         *
+         * <p>
+         * Besides {@code host:port}, Unix domain sockets are supported as {@code unix:///path/to/socket} (requires
+         * Java 16 or later). Connections through Unix domain sockets do not use SSL.
+         * </p>
+         *
+         * @param endpoint endpoint of the host
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder endpoint(final String endpoint) {
+            setEndpoint(endpoint);
+            return this;
+        }
+
         /**
          * Sets the timeout in milliseconds. It is used as socket timeout when opening a VecloyStream.
          *
@@ -482,6 +504,44 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Runs the reader and keep-alive tasks of VST connections on virtual threads instead of platform threads.
+         * Requires Java 21 or later at runtime, on older versions platform threads are used.
+         *
+         * @param useVirtualThreads whether to use virtual threads (default: {@code false})
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder useVirtualThreads(final Boolean useVirtualThreads) {
+            setUseVirtualThreads(useVirtualThreads);
+            return this;
+        }
+
+        /**
+         * Sets the executor used to connect and write requests. Requests are always serialized on the calling thread.
+         * Use {@code Runnable::run} to also write them on the calling thread, avoiding a thread hop. The executor is not
+         * shut down by {@link ArangoDBAsync#shutdown()}.
+         *
+         * @param outgoingExecutor executor for outgoing requests (default: a dedicated single thread)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder outgoingExecutor(final Executor outgoingExecutor) {
+            this.outgoingExecutor = outgoingExecutor;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to deserialize responses and to complete the returned futures. Use
+         * {@code Runnable::run} to deserialize on the connection IO thread, avoiding a thread hop; in this case
+         * dependent stages must not block. The executor is not shut down by {@link ArangoDBAsync#shutdown()}.
+         *
+         * @param deserializationExecutor executor for responses (default: {@link ForkJoinPool#commonPool()})
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder deserializationExecutor(final Executor deserializationExecutor) {
+            this.deserializationExecutor = deserializationExecutor;
+            return this;
+        }
+
         /**
          * Whether or not the driver should acquire a list of available coordinators in an ArangoDB cluster or a single
          * server with active failover.
@@ -833,10 +893,11 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
 
             final int max = maxConnections != null ? Math.max(1, maxConnections)
                     : ArangoDefaults.MAX_CONNECTIONS_VST_DEFAULT;
+            final SslHandshakeMetricsImpl sslHandshakeMetrics = new SslHandshakeMetricsImpl();
             final ConnectionFactory syncConnectionFactory = new VstConnectionFactorySync(host, timeout, connectionTtl,
-                    keepAliveInterval, useSsl, sslContext);
+                    keepAliveInterval, useSsl, sslContext, sslHandshakeMetrics, useVirtualThreads);
             final ConnectionFactory asyncConnectionFactory = new VstConnectionFactoryAsync(host, timeout, connectionTtl,
-                    keepAliveInterval, useSsl, sslContext);
+                    keepAliveInterval, useSsl, sslContext, sslHandshakeMetrics, useVirtualThreads);
             final HostResolver syncHostResolver = createHostResolver(createHostList(max, syncConnectionFactory), max,
                     syncConnectionFactory);
             final HostResolver asyncHostResolver = createHostResolver(createHostList(max, asyncConnectionFactory), max,
@@ -853,7 +914,10 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
                     syncHostHandler,
                     new ArangoContext(),
                     responseQueueTimeSamples,
-                    timeout);
+                    timeout,
+                    sslHandshakeMetrics,
+                    outgoingExecutor,
+                    deserializationExecutor);
         }
 
         private VstCommunicationAsync.Builder asyncBuilder(final HostHandler hostHandler) {
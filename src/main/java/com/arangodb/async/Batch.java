@@ -0,0 +1,55 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async;
+
+import java.util.List;
+
+/**
+ * A batch of results of a cursor, see {@link ArangoCursorAsync#nextBatch()}.
+ *
+ * @param <T> the type of the result elements
+ */
+public final class Batch<T> {
+
+    private final List<T> items;
+    private final boolean hasMore;
+
+    public Batch(final List<T> items, final boolean hasMore) {
+        super();
+        this.items = items;
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * @return the result elements of this batch
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return whether there are more batches to fetch
+     */
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+}
@@ -21,15 +21,22 @@
 package com.arangodb.async.internal;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.DocumentLoader;
 import com.arangodb.async.ArangoCollectionAsync;
 import com.arangodb.entity.*;
+import com.arangodb.internal.DocumentLoaderImpl;
 import com.arangodb.internal.InternalArangoCollection;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.*;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * @author Mark Vollmary
@@ -75,6 +82,14 @@ public class ArangoCollectionAsyncImpl
                 insertDocumentsResponseDeserializer(values, params));
     }
 
+    @Override
+    public CompletableFuture<MultiDocumentResult> insertDocumentsCompact(
+            final Collection<?> values, final DocumentCreateOptions options, final BulkResultMode resultMode) {
+        final DocumentCreateOptions params = (options != null ? options : new DocumentCreateOptions());
+        return executor.execute(compactRequest(insertDocumentsRequest(values, params)),
+                multiDocumentResultDeserializer(resultMode));
+    }
+
     @Override
     public CompletableFuture<DocumentImportEntity> importDocuments(final Collection<?> values) {
         return importDocuments(values, new DocumentImportOptions());
@@ -129,7 +144,20 @@ public class ArangoCollectionAsyncImpl
             final Collection<String> keys,
             final Class<T> type,
             final DocumentReadOptions options) {
-        return executor.execute(getDocumentsRequest(keys, options), getDocumentsResponseDeserializer(type, options));
+        final DocumentReadOptions params = options != null ? options : new DocumentReadOptions();
+        final List<List<String>> batches = splitBatches(keys, params.getBatchSize());
+        if (batches == null) {
+            return executor.execute(getDocumentsRequest(keys, params), getDocumentsResponseDeserializer(type, params));
+        }
+        return executeBatches(batches, batchParallelism(params.getParallelism(), params.getStreamTransactionId()),
+                batch -> executor.execute(getDocumentsRequest(batch, params),
+                        getDocumentsResponseDeserializer(type, params)));
+    }
+
+    @Override
+    public <T> DocumentLoader<T> documentLoader(final Class<T> type, final DocumentLoaderOptions options) {
+        final DocumentReadOptions readOptions = options != null ? options.getReadOptions() : null;
+        return new DocumentLoaderImpl<>(keys -> getDocuments(keys, type, readOptions), options, null);
     }
 
     @Override
@@ -165,6 +193,14 @@ public class ArangoCollectionAsyncImpl
                 replaceDocumentsResponseDeserializer(values, params));
     }
 
+    @Override
+    public CompletableFuture<MultiDocumentResult> replaceDocumentsCompact(
+            final Collection<?> values, final DocumentReplaceOptions options, final BulkResultMode resultMode) {
+        final DocumentReplaceOptions params = (options != null ? options : new DocumentReplaceOptions());
+        return executor.execute(compactRequest(replaceDocumentsRequest(values, params)),
+                multiDocumentResultDeserializer(resultMode));
+    }
+
     @Override
     public <T> CompletableFuture<DocumentUpdateEntity<T>> updateDocument(final String key, final T value) {
         return updateDocument(key, value, new DocumentUpdateOptions());
@@ -211,6 +247,14 @@ public class ArangoCollectionAsyncImpl
                 updateDocumentsResponseDeserializer(returnType));
     }
 
+    @Override
+    public CompletableFuture<MultiDocumentResult> updateDocumentsCompact(
+            final Collection<?> values, final DocumentUpdateOptions options, final BulkResultMode resultMode) {
+        final DocumentUpdateOptions params = (options != null ? options : new DocumentUpdateOptions());
+        return executor.execute(compactRequest(updateDocumentsRequest(values, params)),
+                multiDocumentResultDeserializer(resultMode));
+    }
+
     @Override
     public CompletableFuture<DocumentDeleteEntity<Void>> deleteDocument(final String key) {
         return executor.execute(deleteDocumentRequest(key, new DocumentDeleteOptions()),
@@ -237,7 +281,59 @@ public class ArangoCollectionAsyncImpl
             final Collection<?> values,
             final Class<T> type,
             final DocumentDeleteOptions options) {
-        return executor.execute(deleteDocumentsRequest(values, options), deleteDocumentsResponseDeserializer(type));
+        final DocumentDeleteOptions params = options != null ? options : new DocumentDeleteOptions();
+        final List<? extends List<?>> batches = splitBatches(values, params.getBatchSize());
+        if (batches == null) {
+            return executor.execute(deleteDocumentsRequest(values, params), deleteDocumentsResponseDeserializer(type));
+        }
+        return executeBatches(batches, batchParallelism(params.getParallelism(), params.getStreamTransactionId()),
+                batch -> executor.execute(deleteDocumentsRequest(batch, params),
+                        deleteDocumentsResponseDeserializer(type)));
+    }
+
+    /**
+     * Executes the batches with at most {@code parallelism} requests in flight, each worker starting the next batch
+     * once its previous one completed. After a failure no further batch is started.
+     */
+    private <V, T> CompletableFuture<MultiDocumentEntity<T>> executeBatches(
+            final List<? extends V> batches,
+            final int parallelism,
+            final Function<V, CompletableFuture<MultiDocumentEntity<T>>> operation) {
+        final List<MultiDocumentEntity<T>> results = new ArrayList<>(Collections.nCopies(batches.size(), null));
+        final AtomicInteger next = new AtomicInteger();
+        final CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(parallelism, batches.size())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = executeNextBatch(batches, operation, results, next);
+        }
+        return CompletableFuture.allOf(workers).thenApply(v -> mergeMultiDocuments(results));
+    }
+
+    private <V, T> CompletableFuture<Void> executeNextBatch(
+            final List<? extends V> batches,
+            final Function<V, CompletableFuture<MultiDocumentEntity<T>>> operation,
+            final List<MultiDocumentEntity<T>> results,
+            final AtomicInteger next) {
+        final int index = next.getAndIncrement();
+        if (index >= batches.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return operation.apply(batches.get(index))
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        next.set(batches.size());
+                    }
+                })
+                .thenCompose(result -> {
+                    results.set(index, result);
+                    return executeNextBatch(batches, operation, results, next);
+                });
+    }
+
+    @Override
+    public CompletableFuture<MultiDocumentResult> deleteDocumentsCompact(
+            final Collection<?> values, final DocumentDeleteOptions options, final BulkResultMode resultMode) {
+        return executor.execute(compactRequest(deleteDocumentsRequest(values, options)),
+                multiDocumentResultDeserializer(resultMode));
     }
 
     @Override
@@ -20,14 +20,20 @@
 
 package com.arangodb.async.internal;
 
+import com.arangodb.ArangoFlow;
 import com.arangodb.async.ArangoCursorAsync;
+import com.arangodb.async.Batch;
+import com.arangodb.async.internal.utils.CompletableFutureUtils;
 import com.arangodb.entity.CursorEntity;
-import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.cursor.ArangoCursorImpl;
+import com.arangodb.internal.cursor.BatchSpliterator;
+import com.arangodb.internal.cursor.CursorPublisher;
 
-import java.util.Spliterator;
-import java.util.Spliterators;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -36,13 +42,75 @@ import java.util.stream.StreamSupport;
  */
 public class ArangoCursorAsyncImpl<T> extends ArangoCursorImpl<T> implements ArangoCursorAsync<T> {
 
-    ArangoCursorAsyncImpl(final InternalArangoDatabase<?, ?> db, final ArangoCursorExecute execute,
+    private final ArangoCursorExecuteAsync execute;
+
+    ArangoCursorAsyncImpl(final InternalArangoDatabase<?, ?> db, final ArangoCursorExecuteAsync execute,
                           final Class<T> type, final CursorEntity result) {
         super(db, execute, type, result);
+        this.execute = execute;
     }
 
     @Override
     public Stream<T> streamRemaining() {
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+        return StreamSupport.stream(new BatchSpliterator<>(iterator), false);
+    }
+
+    @Override
+    public CompletableFuture<Batch<T>> nextBatch() {
+        if (iterator.hasNextInBatch()) {
+            return CompletableFuture.completedFuture(currentBatch());
+        }
+        final CursorEntity result = iterator.getResult();
+        if (!Boolean.TRUE.equals(result.getHasMore())) {
+            return CompletableFutureUtils.failedFuture(new NoSuchElementException());
+        }
+        return execute.nextAsync(getId(), result.getMeta()).thenApply(next -> {
+            iterator.setResult(next);
+            return currentBatch();
+        });
+    }
+
+    private Batch<T> currentBatch() {
+        final List<T> items = iterator.nextInBatch();
+        return new Batch<>(items, Boolean.TRUE.equals(iterator.getResult().getHasMore()));
+    }
+
+    @Override
+    public CompletableFuture<Void> forEachAsync(final Consumer<? super T> action) {
+        if (!hasNext()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return nextBatch().thenCompose(batch -> {
+            batch.getItems().forEach(action);
+            return forEachAsync(action);
+        });
+    }
+
+    @Override
+    public ArangoFlow.Publisher<T> publisher() {
+        return new CursorPublisher<>(new CursorPublisher.Source<T>() {
+            @Override
+            public boolean hasMore() {
+                return hasNext();
+            }
+
+            @Override
+            public CompletableFuture<List<T>> nextBatch() {
+                return ArangoCursorAsyncImpl.this.nextBatch().thenApply(Batch::getItems);
+            }
+
+            @Override
+            public CompletableFuture<Void> close() {
+                return closeAsync();
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+        if (getId() != null && hasNext()) {
+            return execute.closeAsync(getId(), iterator.getResult().getMeta());
+        }
+        return CompletableFuture.completedFuture(null);
     }
 }
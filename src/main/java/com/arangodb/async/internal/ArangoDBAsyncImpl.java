@@ -49,6 +49,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * @author Mark Vollmary
@@ -60,6 +61,8 @@ public class ArangoDBAsyncImpl extends InternalArangoDB<ArangoExecutorAsync> imp
     private final CommunicationProtocol cp;
     private final HostHandler asyncHostHandler;
     private final HostHandler syncHostHandler;
+    private final CompressionMetricsImpl compressionMetrics = new CompressionMetricsImpl();
+    private final SslHandshakeMetricsImpl sslHandshakeMetrics;
 
     public ArangoDBAsyncImpl(
             final VstCommunicationAsync.Builder asyncCommBuilder,
@@ -71,17 +74,22 @@ public class ArangoDBAsyncImpl extends InternalArangoDB<ArangoExecutorAsync> imp
             final HostHandler syncHostHandler,
             final ArangoContext context,
             final int responseQueueTimeSamples,
-            final int timeoutMs
+            final int timeoutMs,
+            final SslHandshakeMetricsImpl sslHandshakeMetrics,
+            final Executor outgoingExecutor,
+            final Executor deserializationExecutor
     ) {
 
         super(new ArangoExecutorAsync(asyncCommBuilder.build(util.get(Serializer.INTERNAL)), util, new DocumentCache(),
-                new QueueTimeMetricsImpl(responseQueueTimeSamples), timeoutMs), util, context);
+                new QueueTimeMetricsImpl(responseQueueTimeSamples), timeoutMs, outgoingExecutor,
+                deserializationExecutor), util, context);
 
         final VstCommunication<Response, VstConnectionSync> cacheCom = syncCommBuilder.build(util.get(Serializer.INTERNAL));
 
         cp = new VstProtocol(cacheCom);
         this.asyncHostHandler = asyncHostHandler;
         this.syncHostHandler = syncHostHandler;
+        this.sslHandshakeMetrics = sslHandshakeMetrics;
 
         ArangoExecutorSync arangoExecutorSync = new ArangoExecutorSync(cp, util, new DocumentCache(),
                 new QueueTimeMetricsImpl(responseQueueTimeSamples), timeoutMs);
@@ -128,7 +136,8 @@ public class ArangoDBAsyncImpl extends InternalArangoDB<ArangoExecutorAsync> imp
 
     @Override
     public ArangoMetrics metrics() {
-        return new ArangoMetricsImpl(executor.getQueueTimeMetrics());
+        return new ArangoMetricsImpl(executor.getQueueTimeMetrics(), compressionMetrics, sslHandshakeMetrics,
+                executor.getThreadHopMetrics(), adaptiveBatchSize);
     }
 
     @Override
@@ -32,7 +32,6 @@ import com.arangodb.async.ArangoViewAsync;
 import com.arangodb.entity.*;
 import com.arangodb.entity.arangosearch.AnalyzerEntity;
 import com.arangodb.entity.arangosearch.analyzer.SearchAnalyzer;
-import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.ArangoErrors;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.net.HostHandle;
@@ -196,8 +195,12 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
             final Class<T> type) {
         final Request request = queryRequest(query, bindVars, options);
         final HostHandle hostHandle = new HostHandle();
+        final long start = System.nanoTime();
         final CompletableFuture<CursorEntity> execution = executor.execute(request, CursorEntity.class, hostHandle);
-        return execution.thenApply(result -> createCursor(result, type, options, hostHandle));
+        return execution.thenApply(result -> {
+            measureBatch(query, options, result, start);
+            return createCursor(query, result, type, options, hostHandle);
+        });
     }
 
     @Override
@@ -225,21 +228,20 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
     public <T> CompletableFuture<ArangoCursorAsync<T>> cursor(final String cursorId, final Class<T> type) {
         final HostHandle hostHandle = new HostHandle();
         final CompletableFuture<CursorEntity> execution = executor.execute(queryNextRequest(cursorId, null, null), CursorEntity.class, hostHandle);
-        return execution.thenApply(result -> createCursor(result, type, null, hostHandle));
+        return execution.thenApply(result -> createCursor(null, result, type, null, hostHandle));
     }
 
     private <T> ArangoCursorAsync<T> createCursor(
+            final String query,
             final CursorEntity result,
             final Class<T> type,
             final AqlQueryOptions options,
             final HostHandle hostHandle) {
-        return new ArangoCursorAsyncImpl<>(this, new ArangoCursorExecute() {
+        final ArangoCursorAsyncImpl<T> cursor = new ArangoCursorAsyncImpl<>(this, new ArangoCursorExecuteAsync() {
             @Override
             public CursorEntity next(final String id, Map<String, String> meta) {
-                final CompletableFuture<CursorEntity> result = executor.execute(queryNextRequest(id, options, meta),
-                        CursorEntity.class, hostHandle);
                 try {
-                    return result.get();
+                    return nextAsync(id, meta).get();
                 } catch (InterruptedException | ExecutionException e) {
                     throw new ArangoDBException(e);
                 }
@@ -248,12 +250,32 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
             @Override
             public void close(final String id, Map<String, String> meta) {
                 try {
-                    executor.execute(queryCloseRequest(id, options, meta), Void.class, hostHandle).get();
+                    closeAsync(id, meta).get();
                 } catch (InterruptedException | ExecutionException e) {
                     throw new ArangoDBException(e);
                 }
             }
+
+            @Override
+            public CompletableFuture<CursorEntity> nextAsync(final String id, final Map<String, String> meta) {
+                final long start = System.nanoTime();
+                final CompletableFuture<CursorEntity> execution =
+                        executor.execute(queryNextRequest(id, options, meta), CursorEntity.class, hostHandle);
+                return execution.thenApply(next -> {
+                    measureBatch(query, options, next, start);
+                    return next;
+                });
+            }
+
+            @Override
+            public CompletableFuture<Void> closeAsync(final String id, final Map<String, String> meta) {
+                return executor.execute(queryCloseRequest(id, options, meta), Void.class, hostHandle);
+            }
         }, type, result);
+        if (options != null) {
+            cursor.setDeserializationExecutor(options.getDeserializationExecutor());
+        }
+        return cursor;
     }
 
     @Override
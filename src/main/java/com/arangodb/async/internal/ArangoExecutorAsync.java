@@ -25,6 +25,7 @@ import com.arangodb.async.internal.velocystream.VstCommunicationAsync;
 import com.arangodb.internal.ArangoExecutor;
 import com.arangodb.internal.DocumentCache;
 import com.arangodb.internal.QueueTimeMetricsImpl;
+import com.arangodb.internal.ThreadHopMetricsImpl;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.velocystream.Request;
@@ -32,8 +33,10 @@ import com.arangodb.velocystream.Request;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @author Mark Vollmary
@@ -42,12 +45,32 @@ import java.util.concurrent.Executors;
 public class ArangoExecutorAsync extends ArangoExecutor {
 
     private final VstCommunicationAsync communication;
-    private final ExecutorService outgoingExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService defaultOutgoingExecutor;
+    private final Executor outgoingExecutor;
+    private final Executor deserializationExecutor;
+    private final ThreadHopMetricsImpl threadHopMetrics = new ThreadHopMetricsImpl();
 
     public ArangoExecutorAsync(final VstCommunicationAsync communication, final ArangoSerializationFactory util,
                                final DocumentCache documentCache, final QueueTimeMetricsImpl qtMetrics, final int timeoutMs) {
+        this(communication, util, documentCache, qtMetrics, timeoutMs, null, null);
+    }
+
+    /**
+     * @param outgoingExecutor        executor used to connect and write requests, if {@code null} a dedicated single
+     *                                thread is used
+     * @param deserializationExecutor executor used to deserialize responses, if {@code null}
+     *                                {@link ForkJoinPool#commonPool()} is used
+     */
+    public ArangoExecutorAsync(final VstCommunicationAsync communication, final ArangoSerializationFactory util,
+                               final DocumentCache documentCache, final QueueTimeMetricsImpl qtMetrics, final int timeoutMs,
+                               final Executor outgoingExecutor, final Executor deserializationExecutor) {
         super(util, documentCache, qtMetrics, timeoutMs);
         this.communication = communication;
+        defaultOutgoingExecutor = outgoingExecutor == null ? Executors.newSingleThreadExecutor() : null;
+        this.outgoingExecutor = threadHopMetrics.outgoing(
+                outgoingExecutor != null ? outgoingExecutor : defaultOutgoingExecutor);
+        this.deserializationExecutor = threadHopMetrics.deserialization(
+                deserializationExecutor != null ? deserializationExecutor : ForkJoinPool.commonPool());
     }
 
     public <T> CompletableFuture<T> execute(final Request request, final Type type) {
@@ -67,12 +90,11 @@ public class ArangoExecutorAsync extends ArangoExecutor {
             final ResponseDeserializer<T> responseDeserializer,
             final HostHandle hostHandle) {
 
-        return CompletableFuture.completedFuture(null)
-                .thenComposeAsync((it) -> communication.execute(interceptRequest(request), hostHandle), outgoingExecutor)
+        return communication.execute(interceptRequest(request), hostHandle, outgoingExecutor)
                 .thenApplyAsync(response -> {
                     interceptResponse(response);
                     return responseDeserializer.deserialize(response);
-                });
+                }, deserializationExecutor);
     }
 
     public void disconnect() {
@@ -81,10 +103,16 @@ public class ArangoExecutorAsync extends ArangoExecutor {
         } catch (final IOException e) {
             throw new ArangoDBException(e);
         } finally {
-            outgoingExecutor.shutdown();
+            if (defaultOutgoingExecutor != null) {
+                defaultOutgoingExecutor.shutdown();
+            }
         }
     }
 
+    public ThreadHopMetricsImpl getThreadHopMetrics() {
+        return threadHopMetrics;
+    }
+
     public void setJwt(String jwt) {
         communication.setJwt(jwt);
     }
@@ -26,4 +26,13 @@ public class CompletableFutureUtils {
         return completableFuture;
     }
 
+    /**
+     * Java 8 replacement of {@code CompletableFuture.failedFuture(Throwable)}
+     */
+    public static <T> CompletableFuture<T> failedFuture(Throwable ex) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(ex);
+        return future;
+    }
+
 }
@@ -21,11 +21,13 @@
 package com.arangodb.async.internal.velocystream;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.async.internal.utils.CompletableFutureUtils;
 import com.arangodb.internal.net.ArangoDBRedirectException;
 import com.arangodb.internal.net.HostDescription;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.net.HostHandler;
 import com.arangodb.internal.util.HostUtils;
+import com.arangodb.internal.util.RequestUtils;
 import com.arangodb.internal.velocystream.VstCommunication;
 import com.arangodb.internal.velocystream.internal.AuthenticationRequest;
 import com.arangodb.internal.velocystream.internal.JwtAuthenticationRequest;
@@ -41,6 +43,7 @@ import org.slf4j.LoggerFactory;
 import javax.net.ssl.SSLContext;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 /**
  * @author Mark Vollmary
@@ -62,9 +65,43 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
 
     @Override
     protected CompletableFuture<Response> execute(final Request request, final VstConnectionAsync connection, final int attemptCount) {
+        final Message message;
+        try {
+            message = createMessage(request);
+        } catch (final VPackException e) {
+            LOGGER.error(e.getMessage(), e);
+            return CompletableFutureUtils.failedFuture(e);
+        }
+        return execute(request, message, connection, attemptCount);
+    }
+
+    /**
+     * Serializes the request on the calling thread, then connects and sends it on the given executor. This way the
+     * serialization of concurrent requests is not bound to the parallelism of the executor.
+     *
+     * @param request    request to send
+     * @param hostHandle host handle, can be {@code null}
+     * @param executor   executor used to connect and write the request
+     * @return future of the response
+     */
+    public CompletableFuture<Response> execute(final Request request, final HostHandle hostHandle,
+                                               final Executor executor) {
+        final Message message;
+        try {
+            message = createMessage(request);
+        } catch (final VPackException e) {
+            LOGGER.error(e.getMessage(), e);
+            return CompletableFutureUtils.failedFuture(e);
+        }
+        return CompletableFuture
+                .supplyAsync(() -> connect(hostHandle, RequestUtils.determineAccessType(request)), executor)
+                .thenCompose(connection -> execute(request, message, connection, 0));
+    }
+
+    private CompletableFuture<Response> execute(final Request request, final Message message,
+                                                final VstConnectionAsync connection, final int attemptCount) {
         final CompletableFuture<Response> rfuture = new CompletableFuture<>();
         try {
-            final Message message = createMessage(request);
             send(message, connection).whenComplete((m, ex) -> {
                 if (m != null) {
                     final Response response;
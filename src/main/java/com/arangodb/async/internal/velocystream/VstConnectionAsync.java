@@ -21,6 +21,7 @@
 package com.arangodb.async.internal.velocystream;
 
 import com.arangodb.async.internal.utils.CompletableFutureUtils;
+import com.arangodb.internal.SslHandshakeMetricsImpl;
 import com.arangodb.internal.net.HostDescription;
 import com.arangodb.internal.velocystream.internal.Chunk;
 import com.arangodb.internal.velocystream.internal.Message;
@@ -39,12 +40,13 @@ import java.util.concurrent.TimeUnit;
 public class VstConnectionAsync extends VstConnection<CompletableFuture<Message>> {
 
     private VstConnectionAsync(final HostDescription host, final Integer timeout, final Long ttl, final Integer keepAliveInterval,
-                               final Boolean useSsl, final SSLContext sslContext, final MessageStore messageStore) {
-        super(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, messageStore);
+                               final Boolean useSsl, final SSLContext sslContext, final SslHandshakeMetricsImpl sslHandshakeMetrics,
+                               final Boolean useVirtualThreads, final MessageStore messageStore) {
+        super(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, sslHandshakeMetrics, useVirtualThreads, messageStore);
     }
 
     @Override
-    public synchronized CompletableFuture<Message> write(final Message message, final Collection<Chunk> chunks) {
+    public CompletableFuture<Message> write(final Message message, final Collection<Chunk> chunks) {
         final CompletableFuture<Message> future = new CompletableFuture<>();
         final FutureTask<Message> task = new FutureTask<>(() -> {
             try {
@@ -54,8 +56,13 @@ public class VstConnectionAsync extends VstConnection<CompletableFuture<Message>
             }
             return null;
         });
-        messageStore.storeMessage(message.getId(), task);
-        super.writeIntern(message, chunks);
+        lock.lock();
+        try {
+            messageStore.storeMessage(message.getId(), task);
+            super.writeIntern(message, chunks);
+        } finally {
+            lock.unlock();
+        }
         if (timeout == null || timeout == 0L) {
             return future;
         } else {
@@ -77,6 +84,8 @@ public class VstConnectionAsync extends VstConnection<CompletableFuture<Message>
         private Integer keepAliveInterval;
         private Boolean useSsl;
         private SSLContext sslContext;
+        private SslHandshakeMetricsImpl sslHandshakeMetrics;
+        private Boolean useVirtualThreads;
 
         public Builder() {
             super();
@@ -117,8 +126,18 @@ public class VstConnectionAsync extends VstConnection<CompletableFuture<Message>
             return this;
         }
 
+        public Builder sslHandshakeMetrics(final SslHandshakeMetricsImpl sslHandshakeMetrics) {
+            this.sslHandshakeMetrics = sslHandshakeMetrics;
+            return this;
+        }
+
+        public Builder useVirtualThreads(final Boolean useVirtualThreads) {
+            this.useVirtualThreads = useVirtualThreads;
+            return this;
+        }
+
         public VstConnectionAsync build() {
-            return new VstConnectionAsync(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, messageStore);
+            return new VstConnectionAsync(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, sslHandshakeMetrics, useVirtualThreads, messageStore);
         }
     }
 
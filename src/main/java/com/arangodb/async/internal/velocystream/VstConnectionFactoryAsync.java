@@ -20,6 +20,7 @@
 
 package com.arangodb.async.internal.velocystream;
 
+import com.arangodb.internal.SslHandshakeMetricsImpl;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostDescription;
@@ -35,11 +36,13 @@ public class VstConnectionFactoryAsync implements ConnectionFactory {
     private final VstConnectionAsync.Builder builder;
 
     public VstConnectionFactoryAsync(final HostDescription host, final Integer timeout, final Long connectionTtl,
-                                     final Integer keepAliveInterval, final Boolean useSsl, final SSLContext sslContext) {
+                                     final Integer keepAliveInterval, final Boolean useSsl, final SSLContext sslContext,
+                                     final SslHandshakeMetricsImpl sslHandshakeMetrics, final Boolean useVirtualThreads) {
         super();
         builder = new VstConnectionAsync.Builder().timeout(timeout).ttl(connectionTtl)
                 .keepAliveInterval(keepAliveInterval).useSsl(useSsl)
-                .sslContext(sslContext);
+                .sslContext(sslContext).sslHandshakeMetrics(sslHandshakeMetrics)
+                .useVirtualThreads(useVirtualThreads);
     }
 
     @Override
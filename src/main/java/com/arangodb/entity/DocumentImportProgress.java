@@ -0,0 +1,94 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.entity;
+
+/**
+ * Progress of a streaming import, reported after each imported batch.
+ *
+ * @see com.arangodb.model.StreamImportOptions#progressListener(java.util.function.Consumer)
+ */
+public class DocumentImportProgress {
+
+    private final long documents;
+    private final long bytes;
+    private final long batches;
+    private final long elapsedTime;
+
+    public DocumentImportProgress(final long documents, final long bytes, final long batches, final long elapsedTime) {
+        super();
+        this.documents = documents;
+        this.bytes = bytes;
+        this.batches = batches;
+        this.elapsedTime = elapsedTime;
+    }
+
+    /**
+     * @return number of documents sent in the batches imported so far
+     */
+    public long getDocuments() {
+        return documents;
+    }
+
+    /**
+     * @return size in bytes of the documents sent in the batches imported so far
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return number of batches imported so far
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * @return time in milliseconds since the import started
+     */
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * @return average number of documents imported per second
+     */
+    public double getDocumentsPerSecond() {
+        return elapsedTime > 0 ? documents * 1000.0 / elapsedTime : 0;
+    }
+
+    /**
+     * @return average number of bytes imported per second
+     */
+    public double getBytesPerSecond() {
+        return elapsedTime > 0 ? bytes * 1000.0 / elapsedTime : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "DocumentImportProgress{" +
+                "documents=" + documents +
+                ", bytes=" + bytes +
+                ", batches=" + batches +
+                ", elapsedTime=" + elapsedTime +
+                '}';
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.entity;
+
+import com.arangodb.velocypack.VPackSlice;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Base of typed, read-only views over documents. An interface extending {@code DocumentView} can be used as result
+ * type of queries and document reads, in place of a POJO class. Its getters are then mapped onto the attributes of the
+ * underlying {@link VPackSlice}, which are only looked up and converted when a getter is called, the document is
+ * never deserialized as a whole.
+ * <p>
+ * The attribute of a getter is taken from {@link Attribute}, or else from the name of the getter ({@code getName()}
+ * and {@code isActive()} map to {@code name} and {@code active}, any other method to its name). Getters returning
+ * {@link VPackSlice}, {@link String}, primitives, their wrappers or other {@code DocumentView} interfaces are read
+ * directly from the slice, other types are deserialized with the configured serializer. Missing or {@code null}
+ * attributes are returned as {@code null}, or as the default value of primitive types.
+ *
+ * <pre>
+ * interface Person extends DocumentView {
+ *     &#64;Attribute("_key")
+ *     String getKey();
+ *
+ *     String getName();
+ *
+ *     int getAge();
+ * }
+ *
+ * Person person = collection.getDocument("42", Person.class);
+ * </pre>
+ */
+public interface DocumentView {
+
+    /**
+     * Maps a getter of a {@link DocumentView} to a document attribute.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @interface Attribute {
+
+        /**
+         * @return name of the attribute
+         */
+        String value();
+    }
+
+    /**
+     * @return the underlying document
+     */
+    VPackSlice getSlice();
+
+}
@@ -0,0 +1,101 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.entity;
+
+import java.util.Arrays;
+
+/**
+ * Compact result of a multi-document operation: keys and revisions of the documents in parallel arrays, indexed by
+ * the position of the document in the request, and the errors with their positions.
+ *
+ * @see com.arangodb.model.BulkResultMode
+ */
+public class MultiDocumentResult implements Entity {
+
+    private static final int[] NO_INDEXES = new int[0];
+    private static final ErrorEntity[] NO_ERRORS = new ErrorEntity[0];
+
+    private final int size;
+    private final String[] keys;
+    private final String[] revs;
+    private final int[] errorIndexes;
+    private final ErrorEntity[] errors;
+
+    public MultiDocumentResult(final int size, final String[] keys, final String[] revs, final int[] errorIndexes,
+                               final ErrorEntity[] errors) {
+        super();
+        this.size = size;
+        this.keys = keys;
+        this.revs = revs;
+        this.errorIndexes = errorIndexes != null ? errorIndexes : NO_INDEXES;
+        this.errors = errors != null ? errors : NO_ERRORS;
+    }
+
+    /**
+     * @return number of documents in the response
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return keys of the documents by position, {@code null} at the positions of errors, or {@code null} in mode
+     * {@link com.arangodb.model.BulkResultMode#FAILURES_ONLY}
+     */
+    public String[] getKeys() {
+        return keys;
+    }
+
+    /**
+     * @return revisions of the documents by position, {@code null} at the positions of errors, or {@code null} in
+     * mode {@link com.arangodb.model.BulkResultMode#FAILURES_ONLY}
+     */
+    public String[] getRevs() {
+        return revs;
+    }
+
+    /**
+     * @return positions of the failed documents in ascending order
+     */
+    public int[] getErrorIndexes() {
+        return errorIndexes;
+    }
+
+    /**
+     * @return errors of the failed documents, in the order of {@link #getErrorIndexes()}
+     */
+    public ErrorEntity[] getErrors() {
+        return errors;
+    }
+
+    public boolean hasErrors() {
+        return errorIndexes.length > 0;
+    }
+
+    /**
+     * @param index position of a document in the request
+     * @return the error of the document, or {@code null} if it has been processed successfully
+     */
+    public ErrorEntity getError(final int index) {
+        final int i = Arrays.binarySearch(errorIndexes, index);
+        return i >= 0 ? errors[i] : null;
+    }
+
+}
@@ -21,15 +21,45 @@
 package com.arangodb.internal;
 
 import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoDBException;
+import com.arangodb.BulkWriter;
+import com.arangodb.DocumentLoader;
+import com.arangodb.DocumentReadCache;
+import com.arangodb.WriteBehindBuffer;
 import com.arangodb.entity.*;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
 import com.arangodb.internal.util.DocumentUtil;
+import com.arangodb.internal.util.JsonDocumentReader;
+import com.arangodb.internal.util.VPackJsonWriter;
 import com.arangodb.model.*;
+import com.arangodb.util.ArangoSerializer;
 import com.arangodb.velocypack.VPackSlice;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * @author Mark Vollmary
@@ -38,8 +68,17 @@ import java.util.Collection;
 public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl, ArangoDatabaseImpl, ArangoExecutorSync>
         implements ArangoCollection {
 
+    private static final String KEY = DocumentField.Type.KEY.getSerializeName();
+    private static final String SCAN_QUERY = "FOR d IN @@collection RETURN d";
+    private static final String SCAN_SAMPLE_QUERY =
+            "FOR d IN @@collection FILTER RAND() < @fraction SORT d._key RETURN d._key";
+    // number of keys sampled per key range, more even out the sizes of the ranges
+    private static final int SCAN_SAMPLES_PER_RANGE = 64;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(ArangoCollection.class);
 
+    private final List<DocumentReadCacheImpl<?>> caches = new CopyOnWriteArrayList<>();
+
     protected ArangoCollectionImpl(final ArangoDatabaseImpl db, final String name) {
         super(db, name);
     }
@@ -52,8 +91,8 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
     @Override
     public <T> DocumentCreateEntity<T> insertDocument(final T value, final DocumentCreateOptions options)
             throws ArangoDBException {
-        return executor
-                .execute(insertDocumentRequest(value, options), insertDocumentResponseDeserializer(value, options));
+        return invalidatedDocument(() -> executor
+                .execute(insertDocumentRequest(value, options), insertDocumentResponseDeserializer(value, options)));
     }
 
     @Override
@@ -66,8 +105,17 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
     public <T> MultiDocumentEntity<DocumentCreateEntity<T>> insertDocuments(
             final Collection<T> values, final DocumentCreateOptions options) throws ArangoDBException {
         final DocumentCreateOptions params = (options != null ? options : new DocumentCreateOptions());
-        return executor
-                .execute(insertDocumentsRequest(values, params), insertDocumentsResponseDeserializer(values, params));
+        return invalidated(values, () -> executor
+                .execute(insertDocumentsRequest(values, params), insertDocumentsResponseDeserializer(values, params)));
+    }
+
+    @Override
+    public MultiDocumentResult insertDocumentsCompact(
+            final Collection<?> values, final DocumentCreateOptions options, final BulkResultMode resultMode)
+            throws ArangoDBException {
+        final DocumentCreateOptions params = (options != null ? options : new DocumentCreateOptions());
+        return invalidatedCompact(values, false, () -> executor.execute(
+                compactRequest(insertDocumentsRequest(values, params)), multiDocumentResultDeserializer(resultMode)));
     }
 
     @Override
@@ -78,7 +126,11 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
     @Override
     public DocumentImportEntity importDocuments(final Collection<?> values, final DocumentImportOptions options)
             throws ArangoDBException {
-        return executor.execute(importDocumentsRequest(values, options), DocumentImportEntity.class);
+        try {
+            return executor.execute(importDocumentsRequest(values, options), DocumentImportEntity.class);
+        } finally {
+            invalidateAll();
+        }
     }
 
     @Override
@@ -89,7 +141,33 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
     @Override
     public DocumentImportEntity importDocuments(final String values, final DocumentImportOptions options)
             throws ArangoDBException {
-        return executor.execute(importDocumentsRequest(values, options), DocumentImportEntity.class);
+        try {
+            return executor.execute(importDocumentsRequest(values, options), DocumentImportEntity.class);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public DocumentImportEntity importDocuments(final Iterator<?> values, final StreamImportOptions options)
+            throws ArangoDBException {
+        try {
+            return new StreamImporter(this, options).importDocuments(values);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public DocumentImportEntity importDocuments(final Stream<?> values, final StreamImportOptions options)
+            throws ArangoDBException {
+        return importDocuments(values.iterator(), options);
+    }
+
+    @Override
+    public DocumentImportEntity importDocuments(final InputStream values, final StreamImportOptions options)
+            throws ArangoDBException {
+        return importDocuments(new JsonDocumentReader(values), options);
     }
 
     @Override
@@ -104,23 +182,53 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
         try {
             return executor.execute(getDocumentRequest(key, options), type);
         } catch (final ArangoDBException e) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(e.getMessage(), e);
+            if (isCaughtReadException(e, options)) {
+                return null;
             }
+            throw e;
+        }
+    }
 
-            // handle Response: 404, Error: 1655 - transaction not found
-            if (e.getErrorNum() != null && e.getErrorNum() == 1655) {
-                throw e;
-            }
+    @Override
+    public boolean getDocumentAsJson(final String key, final OutputStream out) throws ArangoDBException {
+        return getDocumentAsJson(key, out, new DocumentReadOptions());
+    }
 
-            if ((e.getResponseCode() != null && (e.getResponseCode() == 404 || e.getResponseCode() == 304
-                    || e.getResponseCode() == 412)) && (options == null || options.isCatchException())) {
-                return null;
+    @Override
+    public boolean getDocumentAsJson(final String key, final OutputStream out, final DocumentReadOptions options)
+            throws ArangoDBException {
+        DocumentUtil.validateDocumentKey(key);
+        try {
+            return executor.execute(getDocumentRequest(key, options), response -> {
+                try {
+                    VPackJsonWriter.write(response.getBody(), out);
+                } catch (final IOException e) {
+                    throw new ArangoDBException(e);
+                }
+                return true;
+            });
+        } catch (final ArangoDBException e) {
+            if (isCaughtReadException(e, options)) {
+                return false;
             }
             throw e;
         }
     }
 
+    private static boolean isCaughtReadException(final ArangoDBException e, final DocumentReadOptions options) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(e.getMessage(), e);
+        }
+
+        // handle Response: 404, Error: 1655 - transaction not found
+        if (e.getErrorNum() != null && e.getErrorNum() == 1655) {
+            return false;
+        }
+
+        return (e.getResponseCode() != null && (e.getResponseCode() == 404 || e.getResponseCode() == 304
+                || e.getResponseCode() == 412)) && (options == null || options.isCatchException());
+    }
+
     @Override
     public <T> MultiDocumentEntity<T> getDocuments(final Collection<String> keys, final Class<T> type)
             throws ArangoDBException {
@@ -131,7 +239,14 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
     public <T> MultiDocumentEntity<T> getDocuments(
             final Collection<String> keys, final Class<T> type, final DocumentReadOptions options)
             throws ArangoDBException {
-        return executor.execute(getDocumentsRequest(keys, options), getDocumentsResponseDeserializer(type, options));
+        final DocumentReadOptions params = options != null ? options : new DocumentReadOptions();
+        final List<List<String>> batches = splitBatches(keys, params.getBatchSize());
+        if (batches == null) {
+            return executor.execute(getDocumentsRequest(keys, params), getDocumentsResponseDeserializer(type, params));
+        }
+        return executeBatches(batches, batchParallelism(params.getParallelism(), params.getStreamTransactionId()),
+                batch -> executor.execute(getDocumentsRequest(batch, params),
+                        getDocumentsResponseDeserializer(type, params)));
     }
 
     @Override
@@ -142,8 +257,8 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
     @Override
     public <T> DocumentUpdateEntity<T> replaceDocument(
             final String key, final T value, final DocumentReplaceOptions options) throws ArangoDBException {
-        return executor.execute(replaceDocumentRequest(key, value, options),
-                replaceDocumentResponseDeserializer(value, options));
+        return invalidated(key, () -> executor.execute(replaceDocumentRequest(key, value, options),
+                replaceDocumentResponseDeserializer(value, options)));
     }
 
     @Override
@@ -156,8 +271,17 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
     public <T> MultiDocumentEntity<DocumentUpdateEntity<T>> replaceDocuments(
             final Collection<T> values, final DocumentReplaceOptions options) throws ArangoDBException {
         final DocumentReplaceOptions params = (options != null ? options : new DocumentReplaceOptions());
-        return executor
-                .execute(replaceDocumentsRequest(values, params), replaceDocumentsResponseDeserializer(values, params));
+        return invalidated(values, () -> executor
+                .execute(replaceDocumentsRequest(values, params), replaceDocumentsResponseDeserializer(values, params)));
+    }
+
+    @Override
+    public MultiDocumentResult replaceDocumentsCompact(
+            final Collection<?> values, final DocumentReplaceOptions options, final BulkResultMode resultMode)
+            throws ArangoDBException {
+        final DocumentReplaceOptions params = (options != null ? options : new DocumentReplaceOptions());
+        return invalidatedCompact(values, false, () -> executor.execute(
+                compactRequest(replaceDocumentsRequest(values, params)), multiDocumentResultDeserializer(resultMode)));
     }
 
     @Override
@@ -174,8 +298,8 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
     @Override
     public <T, U> DocumentUpdateEntity<U> updateDocument(
             final String key, final T value, final DocumentUpdateOptions options, final Class<U> returnType) throws ArangoDBException {
-        return executor.execute(updateDocumentRequest(key, value, options),
-                updateDocumentResponseDeserializer(value, options, returnType));
+        return invalidated(key, () -> executor.execute(updateDocumentRequest(key, value, options),
+                updateDocumentResponseDeserializer(value, options, returnType)));
     }
 
     @Override
@@ -194,34 +318,119 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
     public <T, U> MultiDocumentEntity<DocumentUpdateEntity<U>> updateDocuments(
             final Collection<T> values, final DocumentUpdateOptions options, final Class<U> returnType) throws ArangoDBException {
         final DocumentUpdateOptions params = (options != null ? options : new DocumentUpdateOptions());
-        return executor
-                .execute(updateDocumentsRequest(values, params), updateDocumentsResponseDeserializer(returnType));
+        return invalidated(values, () -> executor
+                .execute(updateDocumentsRequest(values, params), updateDocumentsResponseDeserializer(returnType)));
+    }
+
+    @Override
+    public MultiDocumentResult updateDocumentsCompact(
+            final Collection<?> values, final DocumentUpdateOptions options, final BulkResultMode resultMode)
+            throws ArangoDBException {
+        final DocumentUpdateOptions params = (options != null ? options : new DocumentUpdateOptions());
+        return invalidatedCompact(values, false, () -> executor.execute(
+                compactRequest(updateDocumentsRequest(values, params)), multiDocumentResultDeserializer(resultMode)));
     }
 
     @Override
     public DocumentDeleteEntity<Void> deleteDocument(final String key) throws ArangoDBException {
-        return executor.execute(deleteDocumentRequest(key, new DocumentDeleteOptions()),
-                deleteDocumentResponseDeserializer(Void.class));
+        return invalidated(key, () -> executor.execute(deleteDocumentRequest(key, new DocumentDeleteOptions()),
+                deleteDocumentResponseDeserializer(Void.class)));
     }
 
     @Override
     public <T> DocumentDeleteEntity<T> deleteDocument(
             final String key, final Class<T> type, final DocumentDeleteOptions options) throws ArangoDBException {
-        return executor.execute(deleteDocumentRequest(key, options), deleteDocumentResponseDeserializer(type));
+        return invalidated(key,
+                () -> executor.execute(deleteDocumentRequest(key, options), deleteDocumentResponseDeserializer(type)));
     }
 
     @Override
     public MultiDocumentEntity<DocumentDeleteEntity<Void>> deleteDocuments(final Collection<?> values)
             throws ArangoDBException {
-        return executor.execute(deleteDocumentsRequest(values, new DocumentDeleteOptions()),
-                deleteDocumentsResponseDeserializer(Void.class));
+        return invalidated(values, () -> executor.execute(deleteDocumentsRequest(values, new DocumentDeleteOptions()),
+                deleteDocumentsResponseDeserializer(Void.class)));
     }
 
     @Override
     public <T> MultiDocumentEntity<DocumentDeleteEntity<T>> deleteDocuments(
             final Collection<?> values, final Class<T> type, final DocumentDeleteOptions options)
             throws ArangoDBException {
-        return executor.execute(deleteDocumentsRequest(values, options), deleteDocumentsResponseDeserializer(type));
+        final DocumentDeleteOptions params = options != null ? options : new DocumentDeleteOptions();
+        final List<? extends List<?>> batches = splitBatches(values, params.getBatchSize());
+        if (batches == null) {
+            return invalidated(values, () -> executor.execute(deleteDocumentsRequest(values, params),
+                    deleteDocumentsResponseDeserializer(type)));
+        }
+        return invalidated(values, () -> executeBatches(batches,
+                batchParallelism(params.getParallelism(), params.getStreamTransactionId()),
+                batch -> executor.execute(deleteDocumentsRequest(batch, params),
+                        deleteDocumentsResponseDeserializer(type))));
+    }
+
+    private <V, T> MultiDocumentEntity<T> executeBatches(
+            final List<? extends V> batches, final int parallelism, final Function<V, MultiDocumentEntity<T>> operation)
+            throws ArangoDBException {
+
+        final List<MultiDocumentEntity<T>> results = new ArrayList<>(batches.size());
+        if (parallelism <= 1) {
+            for (final V batch : batches) {
+                results.add(operation.apply(batch));
+            }
+            return mergeMultiDocuments(results);
+        }
+
+        final ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, batches.size()), r -> {
+            final Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("arangodb-multi-document-" + t.getId());
+            t.setDaemon(true);
+            return t;
+        });
+        final AtomicBoolean failed = new AtomicBoolean();
+        final List<Future<MultiDocumentEntity<T>>> futures = new ArrayList<>(batches.size());
+        try {
+            for (final V batch : batches) {
+                futures.add(pool.submit(() -> {
+                    if (failed.get()) {
+                        return null;
+                    }
+                    try {
+                        return operation.apply(batch);
+                    } catch (final RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                }));
+            }
+            ArangoDBException failure = null;
+            for (final Future<MultiDocumentEntity<T>> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (final ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof ArangoDBException ?
+                                (ArangoDBException) e.getCause() : new ArangoDBException(e.getCause());
+                    }
+                } catch (final InterruptedException e) {
+                    failed.set(true);
+                    Thread.currentThread().interrupt();
+                    throw new ArangoDBException(e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return mergeMultiDocuments(results);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    public MultiDocumentResult deleteDocumentsCompact(
+            final Collection<?> values, final DocumentDeleteOptions options, final BulkResultMode resultMode)
+            throws ArangoDBException {
+        return invalidatedCompact(values, true, () -> executor.execute(
+                compactRequest(deleteDocumentsRequest(values, options)), multiDocumentResultDeserializer(resultMode)));
     }
 
     @Override
@@ -328,7 +537,11 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
 
     @Override
     public CollectionEntity truncate(CollectionTruncateOptions options) throws ArangoDBException {
-        return executor.execute(truncateRequest(options), CollectionEntity.class);
+        try {
+            return executor.execute(truncateRequest(options), CollectionEntity.class);
+        } finally {
+            invalidateAll();
+        }
     }
 
     @Override
@@ -353,12 +566,20 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
 
     @Override
     public void drop() throws ArangoDBException {
-        executor.execute(dropRequest(null), Void.class);
+        try {
+            executor.execute(dropRequest(null), Void.class);
+        } finally {
+            invalidateAll();
+        }
     }
 
     @Override
     public void drop(final boolean isSystem) throws ArangoDBException {
-        executor.execute(dropRequest(isSystem), Void.class);
+        try {
+            executor.execute(dropRequest(isSystem), Void.class);
+        } finally {
+            invalidateAll();
+        }
     }
 
     @Override
@@ -399,6 +620,308 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
         return executor.execute(responsibleShardRequest(value), ShardEntity.class);
     }
 
+    @Override
+    public Collection<String> getShards() throws ArangoDBException {
+        return executor.execute(getShardsRequest(), getShardsResponseDeserializer());
+    }
+
+    @Override
+    public <T> void parallelScan(
+            final Class<T> type, final CollectionScanOptions options, final Consumer<? super T> action)
+            throws ArangoDBException {
+
+        final CollectionScanOptions opt = options != null ? options : new CollectionScanOptions();
+        final boolean cluster = db().arango().cachedRole() == ServerRole.COORDINATOR;
+        final int parallelism = opt.getParallelism() != null ?
+                opt.getParallelism() : Runtime.getRuntime().availableProcessors();
+        final List<Supplier<ArangoCursor<T>>> partitions = cluster ?
+                shardScans(type, opt) : keyRangeScans(type, opt, parallelism);
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        final ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, partitions.size()), r -> {
+            final Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("arangodb-scan-" + t.getId());
+            t.setDaemon(true);
+            return t;
+        });
+        final AtomicBoolean failed = new AtomicBoolean();
+        final List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (final Supplier<ArangoCursor<T>> partition : partitions) {
+                futures.add(pool.submit(() -> {
+                    if (failed.get()) {
+                        return;
+                    }
+                    try (ArangoCursor<T> cursor = partition.get()) {
+                        while (!failed.get() && cursor.hasNext()) {
+                            action.accept(cursor.next());
+                        }
+                    } catch (final IOException e) {
+                        failed.set(true);
+                        throw new ArangoDBException(e);
+                    } catch (final RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                }));
+            }
+            ArangoDBException failure = null;
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (final ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof ArangoDBException ?
+                                (ArangoDBException) e.getCause() : new ArangoDBException(e.getCause());
+                    }
+                } catch (final InterruptedException e) {
+                    failed.set(true);
+                    Thread.currentThread().interrupt();
+                    throw new ArangoDBException(e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private <T> List<Supplier<ArangoCursor<T>>> shardScans(final Class<T> type, final CollectionScanOptions options) {
+        final Map<String, Object> bindVars = Collections.singletonMap("@collection", name);
+        final List<Supplier<ArangoCursor<T>>> scans = new ArrayList<>();
+        for (final String shard : getShards()) {
+            scans.add(() -> db().query(SCAN_QUERY, bindVars, scanQueryOptions(options).shardIds(shard), type));
+        }
+        return scans;
+    }
+
+    private <T> List<Supplier<ArangoCursor<T>>> keyRangeScans(
+            final Class<T> type, final CollectionScanOptions options, final int parallelism) {
+        final long count = count().getCount();
+        final int minPartitionSize = options.getMinPartitionSize() != null ?
+                options.getMinPartitionSize() : ArangoDefaults.DEFAULT_MIN_SCAN_PARTITION_SIZE;
+        final long ranges = Math.max(1, Math.min(parallelism, count / Math.max(minPartitionSize, 1)));
+
+        // keys splitting the collection into ranges of about the same size, taken from a random sample of the keys
+        // read in a single pass, the ranges are therefore only approximately even
+        final List<String> bounds = new ArrayList<>();
+        if (ranges > 1) {
+            final Map<String, Object> bindVars = new HashMap<>();
+            bindVars.put("@collection", name);
+            bindVars.put("fraction", Math.min(1.0, (double) ranges * SCAN_SAMPLES_PER_RANGE / count));
+            final List<String> sample = db().query(SCAN_SAMPLE_QUERY, bindVars, null, String.class).asListRemaining();
+            for (long i = 1; i < ranges && !sample.isEmpty(); i++) {
+                final String bound = sample.get((int) (i * sample.size() / ranges));
+                if (bounds.isEmpty() || !bounds.get(bounds.size() - 1).equals(bound)) {
+                    bounds.add(bound);
+                }
+            }
+        }
+
+        final List<Supplier<ArangoCursor<T>>> scans = new ArrayList<>();
+        for (int i = 0; i <= bounds.size(); i++) {
+            final Map<String, Object> bindVars = new HashMap<>();
+            bindVars.put("@collection", name);
+            final StringBuilder query = new StringBuilder("FOR d IN @@collection");
+            if (i > 0) {
+                query.append(" FILTER d._key >= @from");
+                bindVars.put("from", bounds.get(i - 1));
+            }
+            if (i < bounds.size()) {
+                query.append(" FILTER d._key < @to");
+                bindVars.put("to", bounds.get(i));
+            }
+            query.append(" RETURN d");
+            scans.add(() -> db().query(query.toString(), bindVars, scanQueryOptions(options), type));
+        }
+        return scans;
+    }
+
+    private static AqlQueryOptions scanQueryOptions(final CollectionScanOptions options) {
+        return new AqlQueryOptions().stream(true).batchSize(options.getBatchSize());
+    }
+
+    @Override
+    public <T> BulkWriter<T> bulkWriter(final Class<T> type, final BulkWriterOptions options) {
+        return new BulkWriterImpl<>(this, type, options);
+    }
+
+    @Override
+    public <T> DocumentLoader<T> documentLoader(final Class<T> type, final DocumentLoaderOptions options) {
+        final DocumentLoaderOptions opt = options != null ? options : new DocumentLoaderOptions();
+        final ExecutorService pool = Executors.newFixedThreadPool(DocumentLoaderImpl.maxInFlightBatches(opt), r -> {
+            final Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("arangodb-loader-" + t.getId());
+            t.setDaemon(true);
+            return t;
+        });
+        return new DocumentLoaderImpl<>(keys -> CompletableFuture.supplyAsync(
+                () -> getDocuments(keys, type, opt.getReadOptions()), pool), opt, pool::shutdown);
+    }
+
+    @Override
+    public <T> DocumentReadCache<T> documentReadCache(final Class<T> type, final DocumentReadCacheOptions options) {
+        final DocumentReadCacheImpl<T> cache = new DocumentReadCacheImpl<>(this, type, options);
+        caches.add(cache);
+        return cache;
+    }
+
+    @Override
+    public <T> WriteBehindBuffer<T> writeBehindBuffer(final WriteBehindOptions options) {
+        return new WriteBehindBufferImpl<>(this, options);
+    }
+
+    void removeCache(final DocumentReadCacheImpl<?> cache) {
+        caches.remove(cache);
+    }
+
+    private void invalidate(final String key) {
+        for (final DocumentReadCacheImpl<?> cache : caches) {
+            if (key != null) {
+                cache.invalidate(key);
+            } else {
+                cache.invalidateAll();
+            }
+        }
+    }
+
+    private void invalidateAll() {
+        for (final DocumentReadCacheImpl<?> cache : caches) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Performs the write of the document with the given key, invalidating it also if the write failed, since the
+     * document may have been modified anyway.
+     */
+    private <R> R invalidated(final String key, final Supplier<R> write) {
+        try {
+            return write.get();
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    /**
+     * Performs the write of a document whose key is only known from the result, invalidating all documents if it
+     * failed.
+     */
+    private <R extends DocumentEntity> R invalidatedDocument(final Supplier<R> write) {
+        final R result;
+        try {
+            result = write.get();
+        } catch (final RuntimeException e) {
+            invalidateAll();
+            throw e;
+        }
+        invalidate(result.getKey());
+        return result;
+    }
+
+    private <E extends DocumentEntity> MultiDocumentEntity<E> invalidated(
+            final Collection<?> values, final Supplier<MultiDocumentEntity<E>> write) {
+        final MultiDocumentEntity<E> result;
+        try {
+            result = write.get();
+        } catch (final RuntimeException e) {
+            invalidateAll();
+            throw e;
+        }
+        if (caches.isEmpty()) {
+            return result;
+        }
+        // silent requests do not return the documents
+        if (result.getDocuments().size() + result.getErrors().size() < values.size()) {
+            invalidateAll();
+        } else {
+            for (final E document : result.getDocuments()) {
+                invalidate(document.getKey());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Performs a compact write of the given documents, invalidating their keys also if the write failed. The keys are
+     * taken from the documents, or from the result if a document has no key, such as inserted documents whose key is
+     * generated. All documents are invalidated if neither knows the keys.
+     *
+     * @param keyStrings whether strings are document keys, as for deletes, or JSON documents
+     */
+    private MultiDocumentResult invalidatedCompact(
+            final Collection<?> values, final boolean keyStrings, final Supplier<MultiDocumentResult> write) {
+        final List<String> keys = caches.isEmpty() ? Collections.emptyList() : keysOf(values, keyStrings);
+        final MultiDocumentResult result;
+        try {
+            result = write.get();
+        } catch (final RuntimeException e) {
+            invalidate(keys);
+            throw e;
+        }
+        if (caches.isEmpty()) {
+            return result;
+        }
+        invalidate(keys != null ? keys : result.getKeys() != null ? Arrays.asList(result.getKeys()) : null);
+        return result;
+    }
+
+    private void invalidate(final Collection<String> keys) {
+        if (keys == null) {
+            invalidateAll();
+            return;
+        }
+        for (final String key : keys) {
+            if (key != null) {
+                invalidate(key);
+            }
+        }
+    }
+
+    /**
+     * @return the keys of the given documents, or {@code null} if a document has no key
+     */
+    private List<String> keysOf(final Collection<?> values, final boolean keyStrings) {
+        final List<String> keys = new ArrayList<>(values.size());
+        for (final Object value : values) {
+            final String key = keyOf(value, keyStrings);
+            if (key == null) {
+                return null;
+            }
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    private String keyOf(final Object value, final boolean keyStrings) {
+        if (value instanceof String && keyStrings) {
+            return (String) value;
+        } else if (value instanceof BaseDocument) {
+            return ((BaseDocument) value).getKey();
+        } else if (value instanceof DocumentEntity) {
+            return ((DocumentEntity) value).getKey();
+        } else if (value instanceof Map) {
+            final Object key = ((Map<?, ?>) value).get(KEY);
+            return key instanceof String ? (String) key : null;
+        } else if (value == null) {
+            return null;
+        }
+        final VPackSlice slice = value instanceof VPackSlice ? (VPackSlice) value : util(Serializer.CUSTOM).serialize(
+                value, new ArangoSerializer.Options().stringAsJson(true));
+        if (slice.isString() && keyStrings) {
+            return slice.getAsString();
+        }
+        if (slice.isObject()) {
+            final VPackSlice key = slice.get(KEY);
+            return key.isString() ? key.getAsString() : null;
+        }
+        return null;
+    }
+
     @Override
     public CollectionRevisionEntity getRevision() throws ArangoDBException {
         return executor.execute(getRevisionRequest(), CollectionRevisionEntity.class);
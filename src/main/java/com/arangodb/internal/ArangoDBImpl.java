@@ -58,10 +58,15 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
     private ArangoCursorInitializer cursorInitializer;
     private final CommunicationProtocol cp;
     private final HostHandler hostHandler;
+    private final CompressionMetricsImpl compressionMetrics;
+    private final SslHandshakeMetricsImpl sslHandshakeMetrics;
+    private final ThreadHopMetricsImpl threadHopMetrics = new ThreadHopMetricsImpl();
+    private volatile ServerRole role;
 
     public ArangoDBImpl(final VstCommunicationSync.Builder vstBuilder, final HttpCommunication.Builder httpBuilder,
                         final ArangoSerializationFactory util, final Protocol protocol, final HostResolver hostResolver,
-                        final HostHandler hostHandler, final ArangoContext context, int responseQueueTimeSamples, final int timeoutMs) {
+                        final HostHandler hostHandler, final ArangoContext context, int responseQueueTimeSamples, final int timeoutMs,
+                        final CompressionMetricsImpl compressionMetrics, final SslHandshakeMetricsImpl sslHandshakeMetrics) {
 
         super(new ArangoExecutorSync(
                         createProtocol(vstBuilder, httpBuilder, util.get(Serializer.INTERNAL), protocol),
@@ -76,6 +81,8 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
                 util.get(Serializer.INTERNAL),
                 protocol);
         this.hostHandler = hostHandler;
+        this.compressionMetrics = compressionMetrics;
+        this.sslHandshakeMetrics = sslHandshakeMetrics;
 
         hostResolver.init(this.executor(), util());
 
@@ -142,7 +149,8 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
 
     @Override
     public ArangoMetrics metrics() {
-        return new ArangoMetricsImpl(executor.getQueueTimeMetrics());
+        return new ArangoMetricsImpl(executor.getQueueTimeMetrics(), compressionMetrics, sslHandshakeMetrics,
+                threadHopMetrics, adaptiveBatchSize);
     }
 
     @Override
@@ -186,6 +194,18 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
         return executor.execute(getRoleRequest(), getRoleResponseDeserializer());
     }
 
+    /**
+     * @return the role of the server, only requested once since all servers of a deployment have the same role
+     */
+    ServerRole cachedRole() throws ArangoDBException {
+        ServerRole r = role;
+        if (r == null) {
+            r = getRole();
+            role = r;
+        }
+        return r;
+    }
+
     @Override
     public String getServerId() throws ArangoDBException {
         return executor.execute(getServerIdRequest(), getServerIdResponseDeserializer());
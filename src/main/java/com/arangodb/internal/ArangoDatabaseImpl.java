@@ -25,6 +25,8 @@ import com.arangodb.entity.*;
 import com.arangodb.entity.arangosearch.AnalyzerEntity;
 import com.arangodb.entity.arangosearch.analyzer.SearchAnalyzer;
 import com.arangodb.internal.cursor.ArangoCursorImpl;
+import com.arangodb.internal.cursor.CursorPublisher;
+import com.arangodb.internal.cursor.PrefetchCursorExecute;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.*;
@@ -36,7 +38,11 @@ import com.arangodb.velocystream.Request;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
  * @author Mark Vollmary
@@ -45,6 +51,13 @@ import java.util.Map;
 public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, ArangoExecutorSync>
         implements ArangoDatabase {
 
+    private static final Executor PUBLISHER_THREADS = r -> {
+        final Thread thread = Executors.defaultThreadFactory().newThread(r);
+        thread.setName("arangodb-cursor-publisher-" + thread.getId());
+        thread.setDaemon(true);
+        thread.start();
+    };
+
     private ArangoCursorInitializer cursorInitializer;
 
     protected ArangoDatabaseImpl(final ArangoDBImpl arangoDB, final DbName name) {
@@ -168,9 +181,11 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
 
         final Request request = queryRequest(query, bindVars, options);
         final HostHandle hostHandle = new HostHandle();
+        final long start = System.nanoTime();
         final CursorEntity result = executor.execute(request, CursorEntity.class, hostHandle);
+        measureBatch(query, options, result, start);
 
-        return createCursor(result, type, options, hostHandle);
+        return createCursor(query, result, type, options, hostHandle);
 
     }
 
@@ -196,19 +211,90 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
         final HostHandle hostHandle = new HostHandle();
         final CursorEntity result = executor
                 .execute(queryNextRequest(cursorId, null, null), CursorEntity.class, hostHandle);
-        return createCursor(result, type, null, hostHandle);
+        return createCursor(null, result, type, null, hostHandle);
+    }
+
+    @Override
+    public <T> ArangoFlow.Publisher<T> queryPublisher(
+            final String query, final Map<String, Object> bindVars, final AqlQueryOptions options, final Class<T> type) {
+
+        final Executor requests = options != null && options.getPublisherExecutor() != null ?
+                options.getPublisherExecutor() : PUBLISHER_THREADS;
+        return new CursorPublisher<>(new CursorPublisher.Source<T>() {
+            private volatile ArangoCursorImpl<T> cursor;
+
+            @Override
+            public boolean hasMore() {
+                return cursor == null || cursor.hasNext();
+            }
+
+            @Override
+            public CompletableFuture<List<T>> nextBatch() {
+                return CompletableFuture.supplyAsync(() -> {
+                    if (cursor == null) {
+                        final HostHandle hostHandle = new HostHandle();
+                        final long start = System.nanoTime();
+                        final CursorEntity result = executor
+                                .execute(queryRequest(query, bindVars, options), CursorEntity.class, hostHandle);
+                        measureBatch(query, options, result, start);
+                        cursor = new ArangoCursorImpl<>(ArangoDatabaseImpl.this,
+                                createCursorExecute(query, result, options, hostHandle), type, result);
+                        if (options != null) {
+                            cursor.setDeserializationExecutor(options.getDeserializationExecutor());
+                        }
+                    }
+                    return cursor.nextBatchElements();
+                }, requests);
+            }
+
+            @Override
+            public CompletableFuture<Void> close() {
+                return CompletableFuture.runAsync(() -> {
+                    if (cursor != null) {
+                        cursor.close();
+                    }
+                }, requests);
+            }
+        });
+    }
+
+    @Override
+    public <T> ArangoFlow.Publisher<T> queryPublisher(final String query, final Class<T> type) {
+        return queryPublisher(query, null, null, type);
     }
 
     private <T> ArangoCursor<T> createCursor(
+            final String query,
             final CursorEntity result,
             final Class<T> type,
             final AqlQueryOptions options,
             final HostHandle hostHandle) {
 
-        final ArangoCursorExecute execute = new ArangoCursorExecute() {
+        final ArangoCursorExecute execute = createCursorExecute(query, result, options, hostHandle);
+        final ArangoCursor<T> cursor = cursorInitializer != null ?
+                cursorInitializer.createInstance(this, execute, type, result) :
+                new ArangoCursorImpl<>(this, execute, type, result);
+        final Executor deserializationExecutor = options != null ? options.getDeserializationExecutor() : null;
+        if (deserializationExecutor != null && cursor instanceof ArangoCursorImpl) {
+            ((ArangoCursorImpl<T>) cursor).setDeserializationExecutor(deserializationExecutor);
+        }
+        return cursor;
+    }
+
+    private ArangoCursorExecute createCursorExecute(
+            final String query,
+            final CursorEntity result,
+            final AqlQueryOptions options,
+            final HostHandle hostHandle) {
+
+        final ArangoCursorExecute fetch = new ArangoCursorExecute() {
             @Override
             public CursorEntity next(final String id, Map<String, String> meta) {
-                return executor.execute(queryNextRequest(id, options, meta), CursorEntity.class, hostHandle);
+                final long start = System.nanoTime();
+                final CursorEntity next =
+                        executor.execute(queryNextRequest(id, options, meta), CursorEntity.class, hostHandle);
+                measureBatch(query, options, next, start);
+                return next;
             }
 
             @Override
@@ -216,10 +302,13 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
                 executor.execute(queryCloseRequest(id, options, meta), Void.class, hostHandle);
             }
         };
-
-        return cursorInitializer != null ?
-                cursorInitializer.createInstance(this, execute, type, result) :
-                new ArangoCursorImpl<>(this, execute, type, result);
+        final Integer prefetchBatches = options != null ? options.getPrefetchBatches() : null;
+        if (prefetchBatches != null && prefetchBatches > 0 && result.getId() != null) {
+            final Long maxBytes = options.getPrefetchMaxBytes();
+            return new PrefetchCursorExecute(fetch, result, prefetchBatches,
+                    maxBytes != null ? maxBytes : ArangoDefaults.DEFAULT_PREFETCH_MAX_BYTES);
+        }
+        return fetch;
     }
 
     @Override
@@ -20,6 +20,7 @@
 
 package com.arangodb.internal;
 
+import com.arangodb.Compression;
 import com.arangodb.Protocol;
 import com.arangodb.entity.LoadBalancingStrategy;
 
@@ -51,5 +52,29 @@ public final class ArangoDefaults {
     public static final int DEFAULT_ACQUIRE_HOST_LIST_INTERVAL = 60 * 60 * 1000; // hour
     public static final LoadBalancingStrategy DEFAULT_LOAD_BALANCING_STRATEGY = LoadBalancingStrategy.NONE;
     public static final int DEFAULT_RESPONSE_QUEUE_TIME_SAMPLES = 10;
+    public static final Compression DEFAULT_COMPRESSION = Compression.NONE;
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+    public static final Boolean DEFAULT_USE_VIRTUAL_THREADS = false;
+    public static final long DEFAULT_PREFETCH_MAX_BYTES = 16L * 1024 * 1024;
+    public static final long DEFAULT_TARGET_BATCH_BYTES = 1024L * 1024;
+    public static final long DEFAULT_TARGET_BATCH_LATENCY = 100L;
+    public static final int DEFAULT_MIN_SCAN_PARTITION_SIZE = 10_000;
+    public static final int DEFAULT_BULK_BATCH_SIZE = 1000;
+    public static final long DEFAULT_BULK_BATCH_BYTES = 4L * 1024 * 1024;
+    public static final long DEFAULT_BULK_LINGER_TIME = 10L;
+    public static final int DEFAULT_BULK_MAX_IN_FLIGHT_BATCHES = 4;
+    public static final int DEFAULT_IMPORT_BATCH_SIZE = 10_000;
+    public static final long DEFAULT_IMPORT_BATCH_BYTES = 4L * 1024 * 1024;
+    public static final int DEFAULT_IMPORT_PARALLELISM = 4;
+    public static final long DEFAULT_IMPORT_MAX_IN_FLIGHT_BYTES = 64L * 1024 * 1024;
+    public static final int DEFAULT_MULTI_DOCUMENT_PARALLELISM = 4;
+    public static final int DEFAULT_LOADER_BATCH_SIZE = 100;
+    public static final long DEFAULT_LOADER_MAX_DELAY = 1000L;
+    public static final int DEFAULT_LOADER_MAX_IN_FLIGHT_BATCHES = 4;
+    public static final long DEFAULT_READ_CACHE_MAXIMUM_SIZE = 10_000L;
+    public static final long DEFAULT_READ_CACHE_TIME_TO_LIVE = 10_000L;
+    public static final long DEFAULT_WRITE_BEHIND_MAX_STALENESS = 1000L;
+    public static final int DEFAULT_WRITE_BEHIND_MAX_PENDING_DOCUMENTS = 10_000;
 
 }
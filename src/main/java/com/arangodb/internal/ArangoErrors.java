@@ -29,6 +29,7 @@ public final class ArangoErrors {
         super();
     }
 
+    public static final Integer ERROR_ARANGO_DOCUMENT_NOT_FOUND = 1202;
     public static final Integer ERROR_ARANGO_DATA_SOURCE_NOT_FOUND = 1203;
     public static final Integer ERROR_ARANGO_DATABASE_NOT_FOUND = 1228;
     public static final Integer ERROR_GRAPH_NOT_FOUND = 1924;
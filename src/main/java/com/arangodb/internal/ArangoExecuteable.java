@@ -23,6 +23,7 @@ package com.arangodb.internal;
 import com.arangodb.DbName;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.internal.util.ArrayBodyRequest;
 import com.arangodb.internal.util.EncodeUtils;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.velocystream.Request;
@@ -61,7 +62,15 @@ public abstract class ArangoExecuteable<E extends ArangoExecutor> {
     }
 
     protected Request request(final DbName dbName, final RequestType requestType, final String... path) {
-        final Request request = new Request(dbName, requestType, createPath(path));
+        return withContextHeaders(new Request(dbName, requestType, createPath(path)));
+    }
+
+    protected ArrayBodyRequest arrayBodyRequest(
+            final DbName dbName, final RequestType requestType, final String... path) {
+        return withContextHeaders(new ArrayBodyRequest(dbName, requestType, createPath(path)));
+    }
+
+    private <R extends Request> R withContextHeaders(final R request) {
         for (final Entry<String, String> header : context.getHeaderParam().entrySet()) {
             request.putHeaderParam(header.getKey(), header.getValue());
         }
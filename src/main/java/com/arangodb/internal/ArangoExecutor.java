@@ -24,6 +24,7 @@ import com.arangodb.QueueTimeMetrics;
 import com.arangodb.entity.Entity;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.internal.util.DocumentViews;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.Response;
@@ -43,7 +44,7 @@ public abstract class ArangoExecutor {
             if (isInternal(type)) {
                 return (T) util.get(Serializer.INTERNAL).deserialize(response.getBody(), type);
             } else {
-                return (T) util.get(Serializer.CUSTOM).deserialize(response.getBody(), type);
+                return DocumentViews.deserialize(util.get(Serializer.CUSTOM), response.getBody(), type);
             }
         } else {
             return null;
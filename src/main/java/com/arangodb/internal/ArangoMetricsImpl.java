@@ -21,7 +21,11 @@
 package com.arangodb.internal;
 
 import com.arangodb.ArangoMetrics;
+import com.arangodb.CompressionMetrics;
+import com.arangodb.CursorBatchSizeMetrics;
 import com.arangodb.QueueTimeMetrics;
+import com.arangodb.SslHandshakeMetrics;
+import com.arangodb.ThreadHopMetrics;
 
 /**
  * @author Michele Rastelli
@@ -29,9 +33,19 @@ import com.arangodb.QueueTimeMetrics;
 public class ArangoMetricsImpl implements ArangoMetrics {
 
     private final QueueTimeMetrics queueTimeMetrics;
+    private final CompressionMetrics compressionMetrics;
+    private final SslHandshakeMetrics sslHandshakeMetrics;
+    private final ThreadHopMetrics threadHopMetrics;
+    private final CursorBatchSizeMetrics cursorBatchSizeMetrics;
 
-    public ArangoMetricsImpl(QueueTimeMetrics queueTimeMetrics) {
+    public ArangoMetricsImpl(QueueTimeMetrics queueTimeMetrics, CompressionMetrics compressionMetrics,
+                             SslHandshakeMetrics sslHandshakeMetrics, ThreadHopMetrics threadHopMetrics,
+                             CursorBatchSizeMetrics cursorBatchSizeMetrics) {
         this.queueTimeMetrics = queueTimeMetrics;
+        this.compressionMetrics = compressionMetrics;
+        this.sslHandshakeMetrics = sslHandshakeMetrics;
+        this.threadHopMetrics = threadHopMetrics;
+        this.cursorBatchSizeMetrics = cursorBatchSizeMetrics;
     }
 
     @Override
@@ -39,4 +53,24 @@ public class ArangoMetricsImpl implements ArangoMetrics {
         return queueTimeMetrics;
     }
 
+    @Override
+    public CompressionMetrics getCompression() {
+        return compressionMetrics;
+    }
+
+    @Override
+    public SslHandshakeMetrics getSslHandshakes() {
+        return sslHandshakeMetrics;
+    }
+
+    @Override
+    public ThreadHopMetrics getThreadHops() {
+        return threadHopMetrics;
+    }
+
+    @Override
+    public CursorBatchSizeMetrics getCursorBatchSizes() {
+        return cursorBatchSizeMetrics;
+    }
+
 }
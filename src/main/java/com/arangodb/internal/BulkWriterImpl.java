@@ -0,0 +1,382 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.BulkWriter;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentField;
+import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.model.BulkWriterOptions;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.DocumentUpdateOptions;
+import com.arangodb.util.ArangoSerialization;
+import com.arangodb.util.ArangoSerializer;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * {@link BulkWriter} sending its batches with {@link ArangoCollectionImpl#insertDocuments(Collection,
+ * DocumentCreateOptions)} and {@link ArangoCollectionImpl#updateDocuments(Collection, DocumentUpdateOptions, Class)}.
+ * Documents are serialized by the submitting threads, so that the size of a batch is known before it is sent.
+ */
+public class BulkWriterImpl<T> implements BulkWriter<T> {
+
+    private static final String KEY = DocumentField.Type.KEY.getSerializeName();
+
+    private final ArangoCollectionImpl collection;
+    private final Class<T> type;
+    private final int batchSize;
+    private final long batchBytes;
+    private final long lingerTime;
+    private final int maxInFlightBatches;
+    private final DocumentCreateOptions insertOptions;
+    private final DocumentUpdateOptions updateOptions;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Semaphore inFlight;
+    private final Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender;
+    private final ScheduledExecutorService scheduler;
+    private Batch<DocumentCreateEntity<T>> inserts;
+    private Batch<DocumentUpdateEntity<T>> updates;
+    private volatile boolean closed;
+
+    public BulkWriterImpl(final ArangoCollectionImpl collection, final Class<T> type, final BulkWriterOptions options) {
+        super();
+        final BulkWriterOptions opt = options != null ? options : new BulkWriterOptions();
+        this.collection = collection;
+        this.type = type;
+        batchSize = opt.getBatchSize() != null ? opt.getBatchSize() : ArangoDefaults.DEFAULT_BULK_BATCH_SIZE;
+        batchBytes = opt.getBatchBytes() != null ? opt.getBatchBytes() : ArangoDefaults.DEFAULT_BULK_BATCH_BYTES;
+        lingerTime = opt.getLingerTime() != null ? opt.getLingerTime() : ArangoDefaults.DEFAULT_BULK_LINGER_TIME;
+        maxInFlightBatches = opt.getMaxInFlightBatches() != null ?
+                opt.getMaxInFlightBatches() : ArangoDefaults.DEFAULT_BULK_MAX_IN_FLIGHT_BATCHES;
+        if (batchSize < 1 || maxInFlightBatches < 1) {
+            throw new IllegalArgumentException("batchSize and maxInFlightBatches must be positive");
+        }
+        insertOptions = opt.getInsertOptions() != null ? opt.getInsertOptions() : new DocumentCreateOptions();
+        updateOptions = opt.getUpdateOptions() != null ? opt.getUpdateOptions() : new DocumentUpdateOptions();
+        // results are matched to the operations by position, which requires a result for every document
+        if (Boolean.TRUE.equals(insertOptions.getSilent()) || Boolean.TRUE.equals(updateOptions.getSilent())) {
+            throw new IllegalArgumentException("silent is not supported by the bulk writer");
+        }
+        if (updateOptions.getIfMatch() != null) {
+            throw new IllegalArgumentException("ifMatch is not supported by the bulk writer");
+        }
+        inFlight = new Semaphore(maxInFlightBatches);
+        sender = Executors.newFixedThreadPool(maxInFlightBatches, threadFactory("arangodb-bulk-writer-"));
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory("arangodb-bulk-linger-"));
+    }
+
+    private static ThreadFactory threadFactory(final String prefix) {
+        return r -> {
+            final Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName(prefix + t.getId());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    @Override
+    public CompletableFuture<DocumentCreateEntity<T>> insertDocument(final T value) {
+        final VPackSlice slice = serialization().serialize(value,
+                new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true));
+        final CompletableFuture<DocumentCreateEntity<T>> future = new CompletableFuture<>();
+        Batch<DocumentCreateEntity<T>> full = null;
+        lock.lock();
+        try {
+            checkOpen();
+            if (inserts == null) {
+                inserts = new Batch<>(this::sendInserts);
+                scheduleLinger(inserts);
+            }
+            if (inserts.add(slice, future)) {
+                full = detach(inserts);
+                inserts = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            send(full);
+        }
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<DocumentUpdateEntity<T>> updateDocument(final String key, final T value) {
+        final VPackSlice slice = withKey(serialization().serialize(value, new ArangoSerializer.Options()
+                .serializeNullValues(updateOptions.getSerializeNull() == null || updateOptions.getSerializeNull())
+                .stringAsJson(true)), key);
+        final CompletableFuture<DocumentUpdateEntity<T>> future = new CompletableFuture<>();
+        Batch<DocumentUpdateEntity<T>> full = null;
+        lock.lock();
+        try {
+            checkOpen();
+            if (updates == null) {
+                updates = new Batch<>(this::sendUpdates);
+                scheduleLinger(updates);
+            }
+            if (updates.add(slice, future)) {
+                full = detach(updates);
+                updates = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            send(full);
+        }
+        return future;
+    }
+
+    private ArangoSerialization serialization() {
+        return collection.util(Serializer.CUSTOM);
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("BulkWriter is closed");
+        }
+    }
+
+    /**
+     * @return the document with the given key as first attribute, replacing any {@code _key} attribute it already has
+     */
+    static VPackSlice withKey(final VPackSlice document, final String key) {
+        if (!document.isObject()) {
+            return document;
+        }
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.OBJECT);
+        builder.add(KEY, key);
+        for (final Iterator<Map.Entry<String, VPackSlice>> iterator = document.objectIterator(); iterator.hasNext(); ) {
+            final Map.Entry<String, VPackSlice> entry = iterator.next();
+            if (!KEY.equals(entry.getKey())) {
+                builder.add(entry.getKey(), entry.getValue());
+            }
+        }
+        builder.close();
+        return builder.slice();
+    }
+
+    private void scheduleLinger(final Batch<?> batch) {
+        scheduler.schedule(() -> {
+            lock.lock();
+            try {
+                if (batch == inserts) {
+                    inserts = null;
+                } else if (batch == updates) {
+                    updates = null;
+                } else {
+                    // already sent
+                    return;
+                }
+                detach(batch);
+            } finally {
+                lock.unlock();
+            }
+            send(batch);
+        }, lingerTime, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registers a batch taken out of {@link #inserts} or {@link #updates} as pending, so that {@link #flush()} waits
+     * for it even before it has been handed to the sender. Must be called while holding {@link #lock}.
+     */
+    private <R> Batch<R> detach(final Batch<R> batch) {
+        pending.add(batch.done);
+        return batch;
+    }
+
+    private void send(final Batch<?> batch) {
+        try {
+            inFlight.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final ArangoDBException failure = new ArangoDBException(e);
+            batch.fail(failure);
+            batch.finish();
+            throw failure;
+        }
+        try {
+            sender.execute(() -> {
+                try {
+                    batch.send();
+                } finally {
+                    inFlight.release();
+                    batch.finish();
+                }
+            });
+        } catch (final RuntimeException e) {
+            inFlight.release();
+            batch.fail(e);
+            batch.finish();
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> sendInserts(final List<VPackSlice> documents) {
+        final MultiDocumentEntity<DocumentCreateEntity<VPackSlice>> result =
+                collection.insertDocuments(documents, insertOptions);
+        final List<Object> documentsAndErrors = new ArrayList<>(result.getDocumentsAndErrors());
+        for (final Object entry : documentsAndErrors) {
+            if (entry instanceof DocumentCreateEntity) {
+                final DocumentCreateEntity<Object> doc = (DocumentCreateEntity<Object>) entry;
+                if (doc.getNew() != null) {
+                    doc.setNew(serialization().deserialize((VPackSlice) doc.getNew(), type));
+                }
+                if (doc.getOld() != null) {
+                    doc.setOld(serialization().deserialize((VPackSlice) doc.getOld(), type));
+                }
+            }
+        }
+        return documentsAndErrors;
+    }
+
+    private List<Object> sendUpdates(final List<VPackSlice> documents) {
+        return new ArrayList<>(collection.updateDocuments(documents, updateOptions, type).getDocumentsAndErrors());
+    }
+
+    @Override
+    public void flush() {
+        final List<Batch<?>> batches = new ArrayList<>(2);
+        lock.lock();
+        try {
+            if (inserts != null) {
+                batches.add(detach(inserts));
+                inserts = null;
+            }
+            if (updates != null) {
+                batches.add(detach(updates));
+                updates = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (final Batch<?> batch : batches) {
+            send(batch);
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            // also waits for the batches detached by a linger task that is still running
+            flush();
+        } finally {
+            scheduler.shutdownNow();
+            sender.shutdown();
+        }
+    }
+
+    /**
+     * Operations of the same kind waiting to be sent together.
+     */
+    private final class Batch<R> {
+
+        private final Function<List<VPackSlice>, List<Object>> request;
+        private final List<VPackSlice> documents = new ArrayList<>();
+        private final List<CompletableFuture<R>> futures = new ArrayList<>();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private long bytes;
+
+        Batch(final Function<List<VPackSlice>, List<Object>> request) {
+            super();
+            this.request = request;
+        }
+
+        /**
+         * @return whether the batch is full and has to be sent
+         */
+        boolean add(final VPackSlice document, final CompletableFuture<R> future) {
+            documents.add(document);
+            futures.add(future);
+            bytes += document.getByteSize();
+            return documents.size() >= batchSize || bytes >= batchBytes;
+        }
+
+        @SuppressWarnings("unchecked")
+        void send() {
+            final List<Object> results;
+            try {
+                results = request.apply(documents);
+            } catch (final RuntimeException e) {
+                fail(e);
+                return;
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                final Object result = i < results.size() ? results.get(i) : null;
+                if (result instanceof ErrorEntity) {
+                    futures.get(i).completeExceptionally(new ArangoDBException((ErrorEntity) result));
+                } else if (result != null) {
+                    futures.get(i).complete((R) result);
+                } else {
+                    futures.get(i).completeExceptionally(new ArangoDBException("Missing result of bulk operation"));
+                }
+            }
+        }
+
+        void fail(final Throwable cause) {
+            for (final CompletableFuture<R> future : futures) {
+                future.completeExceptionally(cause);
+            }
+        }
+
+        void finish() {
+            pending.remove(done);
+            done.complete(null);
+        }
+    }
+
+}
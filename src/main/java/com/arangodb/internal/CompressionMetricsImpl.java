@@ -0,0 +1,97 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.CompressionMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CompressionMetricsImpl implements CompressionMetrics {
+
+    private final LongAdder compressedRequests = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder compressedRequestBytes = new LongAdder();
+    private final LongAdder compressionTime = new LongAdder();
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder compressedResponseBytes = new LongAdder();
+    private final LongAdder decompressionTime = new LongAdder();
+
+    public void addRequest(final long size, final long compressedSize, final long nanos) {
+        compressedRequests.increment();
+        requestBytes.add(size);
+        compressedRequestBytes.add(compressedSize);
+        compressionTime.add(nanos);
+    }
+
+    public void addResponse(final long size, final long compressedSize, final long nanos) {
+        compressedResponses.increment();
+        responseBytes.add(size);
+        compressedResponseBytes.add(compressedSize);
+        decompressionTime.add(nanos);
+    }
+
+    @Override
+    public long getCompressedRequests() {
+        return compressedRequests.sum();
+    }
+
+    @Override
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    @Override
+    public long getCompressedRequestBytes() {
+        return compressedRequestBytes.sum();
+    }
+
+    @Override
+    public long getCompressionTimeNanos() {
+        return compressionTime.sum();
+    }
+
+    @Override
+    public long getCompressedResponses() {
+        return compressedResponses.sum();
+    }
+
+    @Override
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    @Override
+    public long getCompressedResponseBytes() {
+        return compressedResponseBytes.sum();
+    }
+
+    @Override
+    public long getDecompressionTimeNanos() {
+        return decompressionTime.sum();
+    }
+
+    @Override
+    public long getBytesSaved() {
+        return getRequestBytes() - getCompressedRequestBytes() + getResponseBytes() - getCompressedResponseBytes();
+    }
+
+}
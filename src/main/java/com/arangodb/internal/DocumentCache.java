@@ -23,82 +23,190 @@ package com.arangodb.internal;
 import com.arangodb.ArangoDBException;
 import com.arangodb.entity.DocumentField;
 import com.arangodb.entity.DocumentField.Type;
+import com.arangodb.velocypack.VPackSlice;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Map.Entry;
 
 /**
+ * Writes the document meta fields returned by the server back into the fields annotated with {@link DocumentField}.
+ * The setters of each class are resolved once into {@link MethodHandle}s and cached in a {@link ClassValue}, so the
+ * cache can be shared by concurrent requests without locking.
+ *
  * @author Mark Vollmary
  */
 public class DocumentCache {
 
-    private final Map<Class<?>, Map<DocumentField.Type, Field>> cache;
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, String.class);
+    private static final Setters NO_SETTERS = new Setters(new EnumMap<>(Type.class));
+
+    private static final Type[] META_FIELDS = {Type.ID, Type.KEY, Type.REV};
+    private static final byte[][] META_NAMES = new byte[META_FIELDS.length][];
+    private static final byte[] META_IDS = new byte[META_FIELDS.length];
+
+    static {
+        for (int i = 0; i < META_FIELDS.length; i++) {
+            final String name = META_FIELDS[i].getSerializeName();
+            META_NAMES[i] = name.getBytes(StandardCharsets.UTF_8);
+            // attribute names known to the translator are stored as small ints, 0x00 (none) is never a key
+            final VPackSlice id = VPackSlice.attributeTranslator.translate(name);
+            META_IDS[i] = id != null ? id.head() : 0;
+        }
+    }
+
+    private final ClassValue<Setters> cache;
 
     public DocumentCache() {
         super();
-        cache = new HashMap<>();
+        cache = new ClassValue<Setters>() {
+            @Override
+            protected Setters computeValue(final Class<?> type) {
+                return isTypeRestricted(type) ? NO_SETTERS : createSetters(type);
+            }
+        };
     }
 
-    public void setValues(final Object doc, final Map<DocumentField.Type, String> values) throws ArangoDBException {
-        try {
-            final Map<DocumentField.Type, Field> fields = getFields(doc.getClass());
-            for (final Entry<DocumentField.Type, String> value : values.entrySet()) {
-                final Field field = fields.get(value.getKey());
-                if (field != null) {
-                    field.set(doc, value.getValue());
-                }
+    /**
+     * Sets {@code _id}, {@code _key} and {@code _rev} of the given document from the given server response.
+     *
+     * @param doc  the document to update
+     * @param meta the response object containing the meta fields
+     */
+    public void setValues(final Object doc, final VPackSlice meta) throws ArangoDBException {
+        setValues(cache.get(doc.getClass()), doc, meta, false);
+    }
+
+    /**
+     * Sets {@code _rev} of the given document from the given server response.
+     *
+     * @param doc  the document to update
+     * @param meta the response object containing the meta fields
+     */
+    public void setRevision(final Object doc, final VPackSlice meta) throws ArangoDBException {
+        setValues(cache.get(doc.getClass()), doc, meta, true);
+    }
+
+    /**
+     * Walks the attributes of the response once and decodes only the values of the meta fields which have a setter,
+     * matching the raw attribute names, or their translated ids, without decoding them.
+     */
+    private static void setValues(final Setters setters, final Object doc, final VPackSlice meta,
+                                  final boolean revisionOnly) {
+        int missing = revisionOnly ? (setters.rev != null ? 1 : 0) : setters.meta;
+        if (missing == 0 || !meta.isObject()) {
+            return;
+        }
+        for (int i = 0, length = meta.getLength(); i < length && missing > 0; i++) {
+            final Type type = metaField(meta.keyAt(i));
+            if (type == null || (revisionOnly && type != Type.REV)) {
+                continue;
+            }
+            final MethodHandle setter = setters.get(type);
+            if (setter != null) {
+                final VPackSlice value = meta.valueAt(i);
+                set(setter, doc, value.isString() ? value.getAsString() : null);
+                missing--;
+            }
+        }
+    }
+
+    private static Type metaField(final VPackSlice key) {
+        final byte[] buffer = key.getBuffer();
+        final int start = key.getStart();
+        final byte head = buffer[start];
+        for (int i = 0; i < META_FIELDS.length; i++) {
+            if (head == META_IDS[i] || matches(buffer, start, META_NAMES[i])) {
+                return META_FIELDS[i];
             }
-        } catch (final IllegalArgumentException | IllegalAccessException e) {
-            throw new ArangoDBException(e);
         }
+        return null;
     }
 
-    private Map<DocumentField.Type, Field> getFields(final Class<?> clazz) {
-        Map<DocumentField.Type, Field> fields = new HashMap<>();
-        if (!isTypeRestricted(clazz)) {
-            fields = cache.get(clazz);
-            if (fields == null) {
-                fields = createFields(clazz);
-                cache.put(clazz, fields);
+    private static boolean matches(final byte[] buffer, final int start, final byte[] name) {
+        // short strings have the head 0x40 + length followed by the UTF-8 bytes
+        if ((buffer[start] & 0xff) != 0x40 + name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (buffer[start + 1 + i] != name[i]) {
+                return false;
             }
         }
-        return fields;
+        return true;
+    }
+
+    private static void set(final MethodHandle setter, final Object doc, final String value) {
+        if (setter == null) {
+            return;
+        }
+        try {
+            setter.invokeExact(doc, value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new ArangoDBException(e);
+        }
     }
 
-    private boolean isTypeRestricted(final Class<?> type) {
+    private static boolean isTypeRestricted(final Class<?> type) {
         return Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type);
     }
 
-    private Map<DocumentField.Type, Field> createFields(final Class<?> clazz) {
-        final Map<DocumentField.Type, Field> fields = new HashMap<>();
+    private static Setters createSetters(final Class<?> clazz) {
+        final Map<Type, MethodHandle> setters = new EnumMap<>(Type.class);
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
         Class<?> tmp = clazz;
-        final Collection<DocumentField.Type> values = new ArrayList<>(
-                Arrays.asList(DocumentField.Type.values()));
-        while (tmp != null && tmp != Object.class && values.size() > 0) {
-            final Field[] declaredFields = tmp.getDeclaredFields();
-            for (int i = 0; i < declaredFields.length && values.size() > 0; i++) {
-                findAnnotation(values, fields, declaredFields[i]);
+        while (tmp != null && tmp != Object.class && setters.size() < Type.values().length) {
+            for (final Field field : tmp.getDeclaredFields()) {
+                final DocumentField annotation = field.getAnnotation(DocumentField.class);
+                if (annotation != null && !field.isSynthetic() && !Modifier.isStatic(field.getModifiers())
+                        && String.class.isAssignableFrom(field.getType())
+                        && !setters.containsKey(annotation.value())) {
+                    setters.put(annotation.value(), setter(lookup, field));
+                }
             }
             tmp = tmp.getSuperclass();
         }
-        return fields;
+        return setters.isEmpty() ? NO_SETTERS : new Setters(setters);
     }
 
-    private void findAnnotation(
-            final Collection<Type> values,
-            final Map<DocumentField.Type, Field> fields,
-            final Field field) {
-        final DocumentField annotation = field.getAnnotation(DocumentField.class);
-        if (annotation != null && !field.isSynthetic() && !Modifier.isStatic(field.getModifiers())
-                && String.class.isAssignableFrom(field.getType())) {
-            final Type value = annotation.value();
-            if (values.contains(value)) {
-                field.setAccessible(true);
-                fields.put(value, field);
-                values.remove(value);
+    private static MethodHandle setter(final MethodHandles.Lookup lookup, final Field field) {
+        try {
+            field.setAccessible(true);
+            return lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (final IllegalAccessException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+    private static final class Setters {
+        private final MethodHandle[] setters;
+        private final MethodHandle id;
+        private final MethodHandle key;
+        private final MethodHandle rev;
+        private final int meta;
+
+        private Setters(final Map<Type, MethodHandle> setters) {
+            this.setters = new MethodHandle[Type.values().length];
+            for (final Entry<Type, MethodHandle> setter : setters.entrySet()) {
+                this.setters[setter.getKey().ordinal()] = setter.getValue();
             }
+            id = setters.get(Type.ID);
+            key = setters.get(Type.KEY);
+            rev = setters.get(Type.REV);
+            meta = (id != null ? 1 : 0) + (key != null ? 1 : 0) + (rev != null ? 1 : 0);
+        }
+
+        private MethodHandle get(final Type type) {
+            return setters[type.ordinal()];
         }
     }
 }
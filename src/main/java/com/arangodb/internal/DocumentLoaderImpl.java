@@ -0,0 +1,260 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.DocumentLoader;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.internal.util.DocumentUtil;
+import com.arangodb.model.DocumentLoaderOptions;
+import com.arangodb.model.DocumentReadOptions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * {@link DocumentLoader} reading its batches with the given multi-document read, which is either
+ * {@link ArangoCollectionImpl#getDocuments} executed on a thread pool or
+ * {@link com.arangodb.async.internal.ArangoCollectionAsyncImpl#getDocuments}. Batches exceeding the maximum number of
+ * requests in flight are queued and sent once a request completed, so that readers never block.
+ */
+public class DocumentLoaderImpl<T> implements DocumentLoader<T> {
+
+    private final Function<List<String>, CompletableFuture<MultiDocumentEntity<T>>> request;
+    private final Runnable onClose;
+    private final int batchSize;
+    private final long maxDelay;
+    private final int maxInFlightBatches;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+    // reads waiting for their batch or in flight, by key
+    private final Map<String, CompletableFuture<T>> loading = new HashMap<>();
+    private final Queue<Map<String, CompletableFuture<T>>> queued = new ArrayDeque<>();
+    private Map<String, CompletableFuture<T>> batch;
+    private int inFlightBatches;
+    private boolean closed;
+
+    /**
+     * @param request the multi-document read of a batch of keys
+     * @param options the options of the loader
+     * @param onClose invoked once the loader has been closed and all reads have been completed, can be null
+     */
+    public DocumentLoaderImpl(
+            final Function<List<String>, CompletableFuture<MultiDocumentEntity<T>>> request,
+            final DocumentLoaderOptions options,
+            final Runnable onClose) {
+        super();
+        final DocumentLoaderOptions opt = options != null ? options : new DocumentLoaderOptions();
+        this.request = request;
+        this.onClose = onClose;
+        batchSize = opt.getBatchSize() != null ? opt.getBatchSize() : ArangoDefaults.DEFAULT_LOADER_BATCH_SIZE;
+        maxDelay = opt.getMaxDelay() != null ? opt.getMaxDelay() : ArangoDefaults.DEFAULT_LOADER_MAX_DELAY;
+        maxInFlightBatches = maxInFlightBatches(opt);
+        if (batchSize < 1 || maxInFlightBatches < 1) {
+            throw new IllegalArgumentException("batchSize and maxInFlightBatches must be positive");
+        }
+        final DocumentReadOptions readOptions = opt.getReadOptions();
+        // the results of a batch are shared by unrelated reads
+        if (readOptions != null && (readOptions.getIfMatch() != null || readOptions.getIfNoneMatch() != null)) {
+            throw new IllegalArgumentException("ifMatch and ifNoneMatch are not supported by the document loader");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("arangodb-loader-linger-" + t.getId());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public static int maxInFlightBatches(final DocumentLoaderOptions options) {
+        return options.getMaxInFlightBatches() != null ?
+                options.getMaxInFlightBatches() : ArangoDefaults.DEFAULT_LOADER_MAX_IN_FLIGHT_BATCHES;
+    }
+
+    @Override
+    public CompletableFuture<T> getDocument(final String key) {
+        DocumentUtil.validateDocumentKey(key);
+        final CompletableFuture<T> future;
+        Map<String, CompletableFuture<T>> full = null;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("DocumentLoader is closed");
+            }
+            final CompletableFuture<T> existing = loading.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            future = new CompletableFuture<>();
+            loading.put(key, future);
+            if (batch == null) {
+                batch = new LinkedHashMap<>();
+                scheduleLinger(batch);
+            }
+            batch.put(key, future);
+            if (batch.size() >= batchSize) {
+                full = batch;
+                batch = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            send(full);
+        }
+        return future;
+    }
+
+    private void scheduleLinger(final Map<String, CompletableFuture<T>> linger) {
+        scheduler.schedule(() -> {
+            lock.lock();
+            try {
+                if (linger != batch) {
+                    // already sent
+                    return;
+                }
+                batch = null;
+            } finally {
+                lock.unlock();
+            }
+            send(linger);
+        }, maxDelay, TimeUnit.MICROSECONDS);
+    }
+
+    private void send(final Map<String, CompletableFuture<T>> next) {
+        lock.lock();
+        try {
+            if (inFlightBatches >= maxInFlightBatches) {
+                queued.add(next);
+                return;
+            }
+            inFlightBatches++;
+        } finally {
+            lock.unlock();
+        }
+        CompletableFuture<MultiDocumentEntity<T>> result;
+        try {
+            result = request.apply(new ArrayList<>(next.keySet()));
+        } catch (final RuntimeException e) {
+            result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+        }
+        result.whenComplete((documents, e) -> complete(next, documents, e));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete(
+            final Map<String, CompletableFuture<T>> sent,
+            final MultiDocumentEntity<T> documents,
+            final Throwable failure) {
+        final Map<String, CompletableFuture<T>> next;
+        lock.lock();
+        try {
+            for (final Map.Entry<String, CompletableFuture<T>> entry : sent.entrySet()) {
+                loading.remove(entry.getKey(), entry.getValue());
+            }
+            inFlightBatches--;
+            next = queued.poll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (failure != null) {
+            final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ?
+                    failure.getCause() : failure;
+            for (final CompletableFuture<T> future : sent.values()) {
+                future.completeExceptionally(cause);
+            }
+        } else {
+            // one result per key, in the order of the keys
+            final Iterator<Object> results = documents.getDocumentsAndErrors().iterator();
+            for (final CompletableFuture<T> future : sent.values()) {
+                final Object result = results.hasNext() ? results.next() : null;
+                if (result instanceof ErrorEntity) {
+                    final ErrorEntity error = (ErrorEntity) result;
+                    if (ArangoErrors.ERROR_ARANGO_DOCUMENT_NOT_FOUND.equals(error.getErrorNum())) {
+                        future.complete(null);
+                    } else {
+                        future.completeExceptionally(new ArangoDBException(error));
+                    }
+                } else if (result != null) {
+                    future.complete((T) result);
+                } else {
+                    future.completeExceptionally(new ArangoDBException("Missing result of document read"));
+                }
+            }
+        }
+
+        if (next != null) {
+            send(next);
+        }
+    }
+
+    @Override
+    public void close() {
+        final Map<String, CompletableFuture<T>> last;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            last = batch;
+            batch = null;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            if (last != null) {
+                send(last);
+            }
+            final CompletableFuture<?>[] pending;
+            lock.lock();
+            try {
+                pending = loading.values().toArray(new CompletableFuture<?>[0]);
+            } finally {
+                lock.unlock();
+            }
+            CompletableFuture.allOf(pending).handle((v, e) -> null).join();
+        } finally {
+            scheduler.shutdownNow();
+            if (onClose != null) {
+                onClose.run();
+            }
+        }
+    }
+
+}
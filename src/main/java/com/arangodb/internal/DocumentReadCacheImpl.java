@@ -0,0 +1,366 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.DocumentReadCache;
+import com.arangodb.DocumentReadCacheMetrics;
+import com.arangodb.entity.DocumentField;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.internal.util.DocumentUtil;
+import com.arangodb.internal.util.FrequencySketch;
+import com.arangodb.model.DocumentReadCacheOptions;
+import com.arangodb.model.DocumentReadOptions;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link DocumentReadCache} reading with {@link ArangoCollectionImpl#getDocument(String, Class, DocumentReadOptions)}
+ * and {@link ArangoCollectionImpl#getDocuments(Collection, Class, DocumentReadOptions)}. Documents are cached as
+ * VelocyPack, in a map kept in access order for eviction.
+ * <p>
+ * Every invalidation increments an epoch, a document read from the server is only cached if no invalidation happened
+ * since the read started, so that a concurrent write cannot be overwritten by the previous version of the document.
+ */
+public class DocumentReadCacheImpl<T> implements DocumentReadCache<T> {
+
+    private static final String REV = DocumentField.Type.REV.getSerializeName();
+    private static final int NOT_MODIFIED = 304;
+
+    private final ArangoCollectionImpl collection;
+    private final Class<T> type;
+    private final long maximumSize;
+    private final long maximumWeight;
+    private final long timeToLive;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final DocumentReadCacheMetricsImpl metrics;
+    private long weight;
+    private long epoch;
+    private volatile boolean closed;
+
+    public DocumentReadCacheImpl(
+            final ArangoCollectionImpl collection, final Class<T> type, final DocumentReadCacheOptions options) {
+        super();
+        final DocumentReadCacheOptions opt = options != null ? options : new DocumentReadCacheOptions();
+        this.collection = collection;
+        this.type = type;
+        maximumSize = opt.getMaximumSize() != null ?
+                opt.getMaximumSize() : ArangoDefaults.DEFAULT_READ_CACHE_MAXIMUM_SIZE;
+        maximumWeight = opt.getMaximumWeight() != null ? opt.getMaximumWeight() : Long.MAX_VALUE;
+        timeToLive = TimeUnit.MILLISECONDS.toNanos(opt.getTimeToLive() != null ?
+                opt.getTimeToLive() : ArangoDefaults.DEFAULT_READ_CACHE_TIME_TO_LIVE);
+        if (maximumSize < 1 || maximumWeight < 1) {
+            throw new IllegalArgumentException("maximumSize and maximumWeight must be positive");
+        }
+        sketch = new FrequencySketch(maximumSize);
+        metrics = new DocumentReadCacheMetricsImpl(this::size, this::weight);
+    }
+
+    @Override
+    public T getDocument(final String key) throws ArangoDBException {
+        checkOpen();
+        DocumentUtil.validateDocumentKey(key);
+        final Entry cached;
+        final boolean fresh;
+        final long start;
+        lock.lock();
+        try {
+            sketch.increment(key);
+            cached = entries.get(key);
+            fresh = cached != null && cached.isFresh();
+            start = epoch;
+        } finally {
+            lock.unlock();
+        }
+
+        if (fresh) {
+            metrics.addHits(1);
+            return deserialize(cached.document);
+        }
+        if (cached == null) {
+            metrics.addMisses(1);
+            final VPackSlice document = collection.getDocument(key, VPackSlice.class);
+            return document != null ? deserialize(put(key, document, start)) : null;
+        }
+
+        final VPackSlice document;
+        try {
+            document = collection.getDocument(key, VPackSlice.class,
+                    new DocumentReadOptions().ifNoneMatch(cached.rev).catchException(false));
+        } catch (final ArangoDBException e) {
+            if (e.getResponseCode() != null && e.getResponseCode() == NOT_MODIFIED) {
+                metrics.addRevalidation(false);
+                lock.lock();
+                try {
+                    cached.validated = System.nanoTime();
+                } finally {
+                    lock.unlock();
+                }
+                return deserialize(cached.document);
+            }
+            if (ArangoErrors.ERROR_ARANGO_DOCUMENT_NOT_FOUND.equals(e.getErrorNum())) {
+                metrics.addRevalidation(true);
+                remove(key, cached);
+                return null;
+            }
+            throw e;
+        }
+        metrics.addRevalidation(true);
+        return deserialize(put(key, document, start));
+    }
+
+    @Override
+    public MultiDocumentEntity<T> getDocuments(final Collection<String> keys) throws ArangoDBException {
+        checkOpen();
+        final List<String> keyList = new ArrayList<>(keys);
+        final Object[] results = new Object[keyList.size()];
+        final List<String> missing = new ArrayList<>();
+        final List<Integer> missingIndexes = new ArrayList<>();
+        final long start;
+        lock.lock();
+        try {
+            for (int i = 0; i < results.length; i++) {
+                final String key = keyList.get(i);
+                sketch.increment(key);
+                final Entry cached = entries.get(key);
+                if (cached != null && cached.isFresh()) {
+                    results[i] = cached.document;
+                } else {
+                    missing.add(key);
+                    missingIndexes.add(i);
+                }
+            }
+            start = epoch;
+        } finally {
+            lock.unlock();
+        }
+        metrics.addHits(results.length - missing.size());
+
+        if (!missing.isEmpty()) {
+            metrics.addMisses(missing.size());
+            final Iterator<Object> fetched = collection.getDocuments(missing, VPackSlice.class, null)
+                    .getDocumentsAndErrors().iterator();
+            for (int i = 0; i < missing.size() && fetched.hasNext(); i++) {
+                final Object result = fetched.next();
+                if (result instanceof VPackSlice) {
+                    results[missingIndexes.get(i)] = put(missing.get(i), (VPackSlice) result, start);
+                } else {
+                    results[missingIndexes.get(i)] = result;
+                    if (result instanceof ErrorEntity && ArangoErrors.ERROR_ARANGO_DOCUMENT_NOT_FOUND
+                            .equals(((ErrorEntity) result).getErrorNum())) {
+                        remove(missing.get(i), null);
+                    }
+                }
+            }
+        }
+
+        final MultiDocumentEntity<T> multiDocument = new MultiDocumentEntity<>();
+        final Collection<T> docs = new ArrayList<>();
+        final Collection<ErrorEntity> errors = new ArrayList<>();
+        final Collection<Object> documentsAndErrors = new ArrayList<>();
+        for (final Object result : results) {
+            if (result instanceof VPackSlice) {
+                final T doc = deserialize((VPackSlice) result);
+                docs.add(doc);
+                documentsAndErrors.add(doc);
+            } else if (result instanceof ErrorEntity) {
+                errors.add((ErrorEntity) result);
+                documentsAndErrors.add(result);
+            }
+        }
+        multiDocument.setDocuments(docs);
+        multiDocument.setErrors(errors);
+        multiDocument.setDocumentsAndErrors(documentsAndErrors);
+        return multiDocument;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("DocumentReadCache is closed");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T deserialize(final VPackSlice document) {
+        if (type == VPackSlice.class) {
+            return (T) document;
+        }
+        return collection.util(Serializer.CUSTOM).deserialize(document, type);
+    }
+
+    /**
+     * Caches the given document unless an invalidation happened since the given epoch, or the admission filter
+     * preferred the eviction candidate.
+     *
+     * @return a copy of the document, not referencing the buffer of the response it has been read from
+     */
+    private VPackSlice put(final String key, final VPackSlice document, final long start) {
+        final VPackSlice copy = new VPackSlice(document.toByteArray());
+        final VPackSlice rev = copy.get(REV);
+        final int size = copy.getByteSize();
+        if (!rev.isString() || size > maximumWeight) {
+            return copy;
+        }
+        lock.lock();
+        try {
+            if (start != epoch) {
+                return copy;
+            }
+            final Entry previous = entries.remove(key);
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            while (!entries.isEmpty() && (entries.size() >= maximumSize || weight + size > maximumWeight)) {
+                final Map.Entry<String, Entry> victim = entries.entrySet().iterator().next();
+                if (previous == null && sketch.frequency(key) <= sketch.frequency(victim.getKey())) {
+                    return copy;
+                }
+                entries.remove(victim.getKey());
+                weight -= victim.getValue().weight;
+                metrics.addEviction();
+            }
+            entries.put(key, new Entry(copy, rev.getAsString(), size));
+            weight += size;
+        } finally {
+            lock.unlock();
+        }
+        return copy;
+    }
+
+    /**
+     * Removes the entry of a deleted document, if it is still the given one or the given one is {@code null}.
+     */
+    private void remove(final String key, final Entry cached) {
+        lock.lock();
+        try {
+            final Entry current = entries.get(key);
+            if (current != null && (cached == null || current == cached)) {
+                entries.remove(key);
+                weight -= current.weight;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(final String key) {
+        lock.lock();
+        try {
+            epoch++;
+            final Entry removed = entries.remove(key);
+            if (removed != null) {
+                weight -= removed.weight;
+                metrics.addInvalidations(1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            epoch++;
+            metrics.addInvalidations(entries.size());
+            entries.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public DocumentReadCacheMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            epoch++;
+            entries.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+        collection.removeCache(this);
+    }
+
+    private long size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long weight() {
+        lock.lock();
+        try {
+            return weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private final class Entry {
+
+        private final VPackSlice document;
+        private final String rev;
+        private final int weight;
+        // guarded by the lock of the cache
+        private long validated;
+
+        Entry(final VPackSlice document, final String rev, final int weight) {
+            super();
+            this.document = document;
+            this.rev = rev;
+            this.weight = weight;
+            validated = System.nanoTime();
+        }
+
+        boolean isFresh() {
+            return System.nanoTime() - validated < timeToLive;
+        }
+    }
+
+}
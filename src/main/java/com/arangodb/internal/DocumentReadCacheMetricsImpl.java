@@ -0,0 +1,115 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.DocumentReadCacheMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public class DocumentReadCacheMetricsImpl implements DocumentReadCacheMetrics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongSupplier size;
+    private final LongSupplier weight;
+
+    public DocumentReadCacheMetricsImpl(final LongSupplier size, final LongSupplier weight) {
+        super();
+        this.size = size;
+        this.weight = weight;
+    }
+
+    public void addHits(final int count) {
+        hits.add(count);
+    }
+
+    public void addMisses(final int count) {
+        misses.add(count);
+    }
+
+    public void addRevalidation(final boolean modified) {
+        revalidations.increment();
+        if (!modified) {
+            notModified.increment();
+        }
+    }
+
+    public void addEviction() {
+        evictions.increment();
+    }
+
+    public void addInvalidations(final int count) {
+        invalidations.add(count);
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getRevalidations() {
+        return revalidations.sum();
+    }
+
+    @Override
+    public long getNotModified() {
+        return notModified.sum();
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public long getSize() {
+        return size.getAsLong();
+    }
+
+    @Override
+    public long getWeight() {
+        return weight.getAsLong();
+    }
+
+    @Override
+    public double getHitRate() {
+        final long served = getHits() + getNotModified();
+        final long total = getHits() + getMisses() + getRevalidations();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+}
@@ -25,12 +25,18 @@ import com.arangodb.DbName;
 import com.arangodb.entity.*;
 import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.internal.util.ArrayBodyRequest;
 import com.arangodb.internal.util.DocumentUtil;
+import com.arangodb.internal.util.DocumentViews;
 import com.arangodb.internal.util.RequestUtils;
+import com.arangodb.internal.util.VPackArrayBody;
 import com.arangodb.model.*;
+import com.arangodb.util.ArangoSerialization;
 import com.arangodb.util.ArangoSerializer;
 import com.arangodb.velocypack.Type;
+import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.RequestType;
 
@@ -62,6 +68,10 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
     private static final String SILENT = "silent";
 
     private static final String TRANSACTION_ID = "x-arango-trx-id";
+    private static final String KEY = DocumentField.Type.KEY.getSerializeName();
+    private static final String REV = DocumentField.Type.REV.getSerializeName();
+
+    private static final VPackSlice NULL_SLICE = new VPackBuilder().add(ValueType.NULL).slice();
 
     private final D db;
     protected volatile String name;
@@ -91,6 +101,7 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         request.putQueryParam(OVERWRITE_MODE, params.getOverwriteMode() != null ? params.getOverwriteMode().getValue() : null);
         request.putQueryParam(MERGE_OBJECTS, params.getMergeObjects());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
+        request.setCompression(params.getCompressRequest());
 
         request.setBody(util(Serializer.CUSTOM).serialize(value));
 
@@ -111,18 +122,14 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
                 doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, value.getClass()));
             }
             if (options == null || Boolean.TRUE != options.getSilent()) {
-                final Map<DocumentField.Type, String> values = new HashMap<>();
-                values.put(DocumentField.Type.ID, doc.getId());
-                values.put(DocumentField.Type.KEY, doc.getKey());
-                values.put(DocumentField.Type.REV, doc.getRev());
-                executor.documentCache().setValues(value, values);
+                executor.documentCache().setValues(value, body);
             }
             return doc;
         };
     }
 
     protected <T> Request insertDocumentsRequest(final Collection<T> values, final DocumentCreateOptions params) {
-        final Request request = request(db.dbName(), RequestType.POST, PATH_API_DOCUMENT, name);
+        final ArrayBodyRequest request = arrayBodyRequest(db.dbName(), RequestType.POST, PATH_API_DOCUMENT, name);
         request.putQueryParam(ArangoRequestParam.WAIT_FOR_SYNC, params.getWaitForSync());
         request.putQueryParam(RETURN_NEW, params.getReturnNew());
         request.putQueryParam(RETURN_OLD, params.getReturnOld());
@@ -131,9 +138,9 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         request.putQueryParam(OVERWRITE_MODE, params.getOverwriteMode() != null ? params.getOverwriteMode().getValue() : null);
         request.putQueryParam(MERGE_OBJECTS, params.getMergeObjects());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
+        request.setCompression(params.getCompressRequest());
 
-        request.setBody(util(Serializer.CUSTOM)
-                .serialize(values, new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)));
+        request.setArrayBody(documentsBody(values, false));
         return request;
     }
 
@@ -186,19 +193,39 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
     }
 
     protected Request importDocumentsRequest(final Collection<?> values, final DocumentImportOptions options) {
-        return importDocumentsRequest(options).putQueryParam("type", ImportType.list).setBody(util(Serializer.CUSTOM)
-                .serialize(values, new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)));
+        final ArrayBodyRequest request = arrayBodyRequest(db.dbName(), RequestType.POST, PATH_API_IMPORT);
+        request.setArrayBody(documentsBody(values, false));
+        return importDocumentsRequest(request, options).putQueryParam("type", ImportType.list);
     }
 
     protected Request importDocumentsRequest(final DocumentImportOptions options) {
+        return importDocumentsRequest(request(db.dbName(), RequestType.POST, PATH_API_IMPORT), options);
+    }
+
+    private Request importDocumentsRequest(final Request request, final DocumentImportOptions options) {
         final DocumentImportOptions params = options != null ? options : new DocumentImportOptions();
-        return request(db.dbName(), RequestType.POST, PATH_API_IMPORT).putQueryParam(COLLECTION, name)
+        return request.setCompression(params.getCompressRequest())
+                .putQueryParam(COLLECTION, name)
                 .putQueryParam(ArangoRequestParam.WAIT_FOR_SYNC, params.getWaitForSync())
                 .putQueryParam("fromPrefix", params.getFromPrefix()).putQueryParam("toPrefix", params.getToPrefix())
                 .putQueryParam(OVERWRITE, params.getOverwrite()).putQueryParam("onDuplicate", params.getOnDuplicate())
                 .putQueryParam("complete", params.getComplete()).putQueryParam("details", params.getDetails());
     }
 
+    /**
+     * @return body of a multi-document request, its elements are serialized one at a time while it is sent
+     */
+    private VPackArrayBody documentsBody(final Collection<?> values, final boolean serializeNullValues) {
+        final ArangoSerialization serialization = util(Serializer.CUSTOM);
+        return new VPackArrayBody(values, value -> {
+            if (value == null) {
+                return NULL_SLICE;
+            }
+            return value instanceof VPackSlice ? (VPackSlice) value : serialization.serialize(value,
+                    new ArangoSerializer.Options().serializeNullValues(serializeNullValues).stringAsJson(true));
+        });
+    }
+
     protected Request getDocumentRequest(final String key, final DocumentReadOptions options) {
         final Request request = request(db.dbName(), RequestType.GET, PATH_API_DOCUMENT,
                 DocumentUtil.createDocumentHandle(name, key));
@@ -240,7 +267,7 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
                     errors.add(error);
                     documentsAndErrors.add(error);
                 } else {
-                    final T doc = util(Serializer.CUSTOM).deserialize(next, type);
+                    final T doc = DocumentViews.deserialize(util(Serializer.CUSTOM), next, type);
                     docs.add(doc);
                     documentsAndErrors.add(doc);
                 }
@@ -282,16 +309,14 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
                 doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, value.getClass()));
             }
             if (options == null || Boolean.TRUE != options.getSilent()) {
-                final Map<DocumentField.Type, String> values = new HashMap<>();
-                values.put(DocumentField.Type.REV, doc.getRev());
-                executor.documentCache().setValues(value, values);
+                executor.documentCache().setRevision(value, body);
             }
             return doc;
         };
     }
 
     protected <T> Request replaceDocumentsRequest(final Collection<T> values, final DocumentReplaceOptions params) {
-        final Request request = request(db.dbName(), RequestType.PUT, PATH_API_DOCUMENT, name);
+        final ArrayBodyRequest request = arrayBodyRequest(db.dbName(), RequestType.PUT, PATH_API_DOCUMENT, name);
         request.putHeaderParam(ArangoRequestParam.IF_MATCH, params.getIfMatch());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
         request.putQueryParam(ArangoRequestParam.WAIT_FOR_SYNC, params.getWaitForSync());
@@ -299,8 +324,7 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         request.putQueryParam(RETURN_NEW, params.getReturnNew());
         request.putQueryParam(RETURN_OLD, params.getReturnOld());
         request.putQueryParam(SILENT, params.getSilent());
-        request.setBody(util(Serializer.CUSTOM)
-                .serialize(values, new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)));
+        request.setArrayBody(documentsBody(values, false));
         return request;
     }
 
@@ -380,16 +404,14 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
                 doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, returnType));
             }
             if (options == null || Boolean.TRUE != options.getSilent()) {
-                final Map<DocumentField.Type, String> values = new HashMap<>();
-                values.put(DocumentField.Type.REV, doc.getRev());
-                executor.documentCache().setValues(value, values);
+                executor.documentCache().setRevision(value, body);
             }
             return doc;
         };
     }
 
     protected <T> Request updateDocumentsRequest(final Collection<T> values, final DocumentUpdateOptions params) {
-        final Request request = request(db.dbName(), RequestType.PATCH, PATH_API_DOCUMENT, name);
+        final ArrayBodyRequest request = arrayBodyRequest(db.dbName(), RequestType.PATCH, PATH_API_DOCUMENT, name);
         final Boolean keepNull = params.getKeepNull();
         request.putHeaderParam(ArangoRequestParam.IF_MATCH, params.getIfMatch());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
@@ -400,9 +422,7 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         request.putQueryParam(RETURN_NEW, params.getReturnNew());
         request.putQueryParam(RETURN_OLD, params.getReturnOld());
         request.putQueryParam(SILENT, params.getSilent());
-        request.setBody(util(Serializer.CUSTOM).serialize(values, new ArangoSerializer.Options()
-                .serializeNullValues(params.getSerializeNull() == null || params.getSerializeNull())
-                .stringAsJson(true)));
+        request.setArrayBody(documentsBody(values, params.getSerializeNull() == null || params.getSerializeNull()));
         return request;
     }
 
@@ -513,6 +533,95 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         };
     }
 
+    /**
+     * Splits the values of a multi-document request into batches of at most {@code batchSize} values.
+     *
+     * @return the batches, or {@code null} if the values fit into a single request
+     */
+    protected static <V> List<List<V>> splitBatches(final Collection<V> values, final Integer batchSize) {
+        if (batchSize == null || batchSize <= 0 || values.size() <= batchSize) {
+            return null;
+        }
+        final List<V> list = values instanceof List && values instanceof RandomAccess ?
+                (List<V>) values : new ArrayList<>(values);
+        final List<List<V>> batches = new ArrayList<>((list.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < list.size(); from += batchSize) {
+            batches.add(list.subList(from, Math.min(from + batchSize, list.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * @return the number of batches of a split multi-document request to execute at the same time, requests within a
+     * stream transaction must not be executed concurrently
+     */
+    protected static int batchParallelism(final Integer parallelism, final String streamTransactionId) {
+        if (streamTransactionId != null) {
+            return 1;
+        }
+        return parallelism != null ? Math.max(1, parallelism) : ArangoDefaults.DEFAULT_MULTI_DOCUMENT_PARALLELISM;
+    }
+
+    /**
+     * Concatenates the results of the batches of a split multi-document request, in the order of the batches.
+     */
+    protected static <T> MultiDocumentEntity<T> mergeMultiDocuments(final List<MultiDocumentEntity<T>> results) {
+        final MultiDocumentEntity<T> multiDocument = new MultiDocumentEntity<>();
+        final Collection<T> docs = new ArrayList<>();
+        final Collection<ErrorEntity> errors = new ArrayList<>();
+        final Collection<Object> documentsAndErrors = new ArrayList<>();
+        for (final MultiDocumentEntity<T> result : results) {
+            docs.addAll(result.getDocuments());
+            errors.addAll(result.getErrors());
+            documentsAndErrors.addAll(result.getDocumentsAndErrors());
+        }
+        multiDocument.setDocuments(docs);
+        multiDocument.setErrors(errors);
+        multiDocument.setDocumentsAndErrors(documentsAndErrors);
+        return multiDocument;
+    }
+
+    /**
+     * Removes the options of a multi-document request which are not supported by {@link MultiDocumentResult}: the
+     * new and old documents are not read, and silent responses do not tell which documents failed.
+     */
+    protected Request compactRequest(final Request request) {
+        request.getQueryParam().remove(RETURN_NEW);
+        request.getQueryParam().remove(RETURN_OLD);
+        request.getQueryParam().remove(SILENT);
+        return request;
+    }
+
+    protected ResponseDeserializer<MultiDocumentResult> multiDocumentResultDeserializer(final BulkResultMode mode) {
+        final boolean failuresOnly = mode == BulkResultMode.FAILURES_ONLY;
+        return response -> {
+            final VPackSlice body = response.getBody();
+            final int size = body.isArray() ? body.size() : 0;
+            final String[] keys = failuresOnly ? null : new String[size];
+            final String[] revs = failuresOnly ? null : new String[size];
+            int[] errorIndexes = new int[0];
+            ErrorEntity[] errors = new ErrorEntity[0];
+            int errorCount = 0;
+            final Iterator<VPackSlice> iterator = size > 0 ? body.arrayIterator() : null;
+            for (int index = 0; index < size; index++) {
+                final VPackSlice next = iterator.next();
+                if (next.get(ArangoResponseField.ERROR).isTrue()) {
+                    if (errorCount == errorIndexes.length) {
+                        errorIndexes = Arrays.copyOf(errorIndexes, Math.max(4, errorCount * 2));
+                        errors = Arrays.copyOf(errors, errorIndexes.length);
+                    }
+                    errorIndexes[errorCount] = index;
+                    errors[errorCount++] = util().deserialize(next, ErrorEntity.class);
+                } else if (!failuresOnly) {
+                    keys[index] = next.get(KEY).getAsString();
+                    revs[index] = next.get(REV).getAsString();
+                }
+            }
+            return new MultiDocumentResult(size, keys, revs, Arrays.copyOf(errorIndexes, errorCount),
+                    Arrays.copyOf(errors, errorCount));
+        };
+    }
+
     protected Request documentExistsRequest(final String key, final DocumentExistsOptions options) {
         final Request request = request(db.dbName(), RequestType.HEAD, PATH_API_DOCUMENT,
                 DocumentUtil.createDocumentHandle(name, key));
@@ -670,6 +779,15 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         return request;
     }
 
+    protected Request getShardsRequest() {
+        return request(db.dbName(), RequestType.GET, PATH_API_COLLECTION, name, "shards");
+    }
+
+    protected ResponseDeserializer<Collection<String>> getShardsResponseDeserializer() {
+        return response -> util().deserialize(response.getBody().get("shards"), new Type<Collection<String>>() {
+        }.getType());
+    }
+
     protected Request getRevisionRequest() {
         return request(db.dbName(), RequestType.GET, PATH_API_COLLECTION, name, "revision");
     }
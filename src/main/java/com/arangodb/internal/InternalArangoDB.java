@@ -23,6 +23,7 @@ package com.arangodb.internal;
 import com.arangodb.DbName;
 import com.arangodb.entity.*;
 import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
+import com.arangodb.internal.cursor.AdaptiveBatchSize;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.model.*;
 import com.arangodb.velocypack.Type;
@@ -49,6 +50,8 @@ public abstract class InternalArangoDB<E extends ArangoExecutor> extends ArangoE
     private static final String PATH_ENDPOINTS = "/_api/cluster/endpoints";
     private static final String PATH_API_USER = "/_api/user";
 
+    protected final AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize();
+
     protected InternalArangoDB(final E executor, final ArangoSerializationFactory util, final ArangoContext context) {
         super(executor, util, context);
     }
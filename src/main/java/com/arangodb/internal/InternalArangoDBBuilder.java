@@ -22,6 +22,7 @@ package com.arangodb.internal;
 
 import com.arangodb.ArangoDB;
 import com.arangodb.ArangoDBException;
+import com.arangodb.Compression;
 import com.arangodb.entity.LoadBalancingStrategy;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
@@ -77,6 +78,10 @@ public abstract class InternalArangoDBBuilder {
     private static final String PROPERTY_KEY_ACQUIRE_HOST_LIST_INTERVAL = "arangodb.acquireHostList.interval";
     private static final String PROPERTY_KEY_LOAD_BALANCING_STRATEGY = "arangodb.loadBalancingStrategy";
     private static final String PROPERTY_KEY_RESPONSE_QUEUE_TIME_SAMPLES = "arangodb.metrics.responseQueueTimeSamples";
+    private static final String PROPERTY_KEY_COMPRESSION = "arangodb.compression";
+    private static final String PROPERTY_KEY_COMPRESSION_THRESHOLD = "arangodb.compression.threshold";
+    private static final String PROPERTY_KEY_COMPRESSION_LEVEL = "arangodb.compression.level";
+    private static final String PROPERTY_KEY_USE_VIRTUAL_THREADS = "arangodb.useVirtualThreads";
     private static final String DEFAULT_PROPERTY_FILE = "/arangodb.properties";
 
     protected final List<HostDescription> hosts;
@@ -103,6 +108,10 @@ public abstract class InternalArangoDBBuilder {
     protected LoadBalancingStrategy loadBalancingStrategy;
     protected ArangoSerialization customSerializer;
     protected Integer responseQueueTimeSamples;
+    protected Compression compression;
+    protected Integer compressionThreshold;
+    protected Integer compressionLevel;
+    protected Boolean useVirtualThreads;
 
 
     public InternalArangoDBBuilder() {
@@ -155,12 +164,25 @@ public abstract class InternalArangoDBBuilder {
         acquireHostListInterval = loadAcquireHostListInterval(properties, acquireHostListInterval);
         loadBalancingStrategy = loadLoadBalancingStrategy(properties, loadBalancingStrategy);
         responseQueueTimeSamples = loadResponseQueueTimeSamples(properties, responseQueueTimeSamples);
+        compression = loadCompression(properties, compression);
+        compressionThreshold = loadCompressionThreshold(properties, compressionThreshold);
+        compressionLevel = loadCompressionLevel(properties, compressionLevel);
+        useVirtualThreads = loadUseVirtualThreads(properties, useVirtualThreads);
     }
 
     protected void setHost(final String host, final int port) {
         hosts.add(new HostDescription(host, port));
     }
 
+    protected void setEndpoint(final String endpoint) {
+        final HostDescription host = HostUtils.createFromEndpoint(endpoint);
+        if (host == null) {
+            throw new ArangoDBException(String.format(
+                    "Could not parse endpoint %s. Expected format host:port or unix:///path/to/socket", endpoint));
+        }
+        hosts.add(host);
+    }
+
     protected void setTimeout(final Integer timeout) {
         this.timeout = timeout;
     }
@@ -225,6 +247,25 @@ public abstract class InternalArangoDBBuilder {
         this.responseQueueTimeSamples = responseQueueTimeSamples;
     }
 
+    protected void setCompression(final Compression compression) {
+        this.compression = compression;
+    }
+
+    protected void setCompressionThreshold(final Integer compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    protected void setCompressionLevel(final Integer compressionLevel) {
+        if (compressionLevel != null) {
+            checkCompressionLevel(compressionLevel);
+        }
+        this.compressionLevel = compressionLevel;
+    }
+
+    protected void setUseVirtualThreads(final Boolean useVirtualThreads) {
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
     protected void serializer(final ArangoSerializer serializer) {
         this.serializer = serializer;
     }
@@ -243,9 +284,11 @@ public abstract class InternalArangoDBBuilder {
             final String[] hostsSplit = hostsProp.split(",");
             for (final String host : hostsSplit) {
                 final String[] split = host.split(":");
-                if (split.length != 2 || !split[1].matches("[0-9]+")) {
+                if (host.startsWith(HostDescription.UNIX_SCHEME)) {
+                    hosts.add(HostUtils.createFromEndpoint(host));
+                } else if (split.length != 2 || !split[1].matches("[0-9]+")) {
                     throw new ArangoDBException(String.format(
-                            "Could not load property-value arangodb.hosts=%s. Expected format ip:port,ip:port,...",
+                            "Could not load property-value arangodb.hosts=%s. Expected format ip:port,ip:port,... or unix:///path/to/socket",
                             hostsProp));
                 } else {
                     hosts.add(new HostDescription(split[0], Integer.parseInt(split[1])));
@@ -369,6 +412,34 @@ public abstract class InternalArangoDBBuilder {
                 ArangoDefaults.DEFAULT_RESPONSE_QUEUE_TIME_SAMPLES));
     }
 
+    private static Compression loadCompression(final Properties properties, final Compression currentValue) {
+        return Compression.valueOf(getProperty(properties, PROPERTY_KEY_COMPRESSION, currentValue,
+                ArangoDefaults.DEFAULT_COMPRESSION).toUpperCase(Locale.ENGLISH));
+    }
+
+    private static int loadCompressionThreshold(final Properties properties, final Integer currentValue) {
+        return Integer.parseInt(getProperty(properties, PROPERTY_KEY_COMPRESSION_THRESHOLD, currentValue,
+                ArangoDefaults.DEFAULT_COMPRESSION_THRESHOLD));
+    }
+
+    private static int loadCompressionLevel(final Properties properties, final Integer currentValue) {
+        return checkCompressionLevel(Integer.parseInt(getProperty(properties, PROPERTY_KEY_COMPRESSION_LEVEL,
+                currentValue, ArangoDefaults.DEFAULT_COMPRESSION_LEVEL)));
+    }
+
+    private static int checkCompressionLevel(final int compressionLevel) {
+        if (compressionLevel < -1 || compressionLevel > 9) {
+            throw new ArangoDBException(String.format(
+                    "Invalid compression level %s. Expected -1 (default level) or 0 to 9", compressionLevel));
+        }
+        return compressionLevel;
+    }
+
+    private static Boolean loadUseVirtualThreads(final Properties properties, final Boolean currentValue) {
+        return Boolean.parseBoolean(getProperty(properties, PROPERTY_KEY_USE_VIRTUAL_THREADS, currentValue,
+                ArangoDefaults.DEFAULT_USE_VIRTUAL_THREADS));
+    }
+
     private static LoadBalancingStrategy loadLoadBalancingStrategy(
             final Properties properties,
             final LoadBalancingStrategy currentValue) {
@@ -34,7 +34,9 @@ import com.arangodb.model.arangosearch.ArangoSearchCreateOptions;
 import com.arangodb.model.arangosearch.ArangoSearchOptionsBuilder;
 import com.arangodb.util.ArangoSerializer;
 import com.arangodb.velocypack.Type;
+import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.RequestType;
@@ -43,6 +45,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Mark Vollmary
@@ -67,6 +70,8 @@ public abstract class InternalArangoDatabase<A extends InternalArangoDB<EXECUTOR
     private static final String PATH_API_QUERY_SLOW = "/_api/query/slow";
     private static final String PATH_API_TRAVERSAL = "/_api/traversal";
     private static final String PATH_API_ADMIN_ROUTING_RELOAD = "/_admin/routing/reload";
+
+    private static final String BATCH_SIZE = "batchSize";
     private static final String PATH_API_USER = "/_api/user";
 
     private static final String TRANSACTION_ID = "x-arango-trx-id";
@@ -172,11 +177,17 @@ public abstract class InternalArangoDatabase<A extends InternalArangoDB<EXECUTOR
     protected Request queryRequest(
             final String query, final Map<String, Object> bindVars, final AqlQueryOptions options) {
         final AqlQueryOptions opt = options != null ? options : new AqlQueryOptions();
-        final Request request = request(dbName, RequestType.POST, PATH_API_CURSOR)
-                .setBody(util().serialize(OptionsBuilder
-                        .build(opt, query, bindVars != null ?
-                                util(ArangoSerializationFactory.Serializer.CUSTOM).serialize(bindVars, new ArangoSerializer.Options().serializeNullValues(true)) :
-                                null)));
+        VPackSlice body = util().serialize(OptionsBuilder.build(opt, query, bindVars != null ?
+                util(ArangoSerializationFactory.Serializer.CUSTOM).serialize(bindVars, new ArangoSerializer.Options().serializeNullValues(true)) :
+                null));
+        final Integer adaptiveBatchSize = opt.getBatchSize() == null && opt.getAdaptiveBatchSize() == Boolean.TRUE
+                ? arango.adaptiveBatchSize.getBatchSize(query) : null;
+        if (adaptiveBatchSize != null) {
+            // added to the serialized options only, the options may be shared with other threads
+            body = withBatchSize(body, adaptiveBatchSize);
+        }
+        final Request request = request(dbName, RequestType.POST, PATH_API_CURSOR).setBody(body)
+                .setCompression(opt.getCompressRequest());
         if (opt.getAllowDirtyRead() == Boolean.TRUE) {
             RequestUtils.allowDirtyRead(request);
         }
@@ -184,6 +195,39 @@ public abstract class InternalArangoDatabase<A extends InternalArangoDB<EXECUTOR
         return request;
     }
 
+    private static VPackSlice withBatchSize(final VPackSlice options, final int batchSize) {
+        final VPackBuilder builder = new VPackBuilder().add(ValueType.OBJECT);
+        for (final Iterator<Map.Entry<String, VPackSlice>> iterator = options.objectIterator(); iterator.hasNext(); ) {
+            final Map.Entry<String, VPackSlice> attribute = iterator.next();
+            builder.add(attribute.getKey(), attribute.getValue());
+        }
+        return builder.add(BATCH_SIZE, batchSize).close().slice();
+    }
+
+    /**
+     * Measures a batch of a query performed with adaptive batch size, see
+     * {@link AqlQueryOptions#adaptiveBatchSize(Boolean)}.
+     *
+     * @param query      query string, {@code null} if unknown
+     * @param options    query options
+     * @param result     the fetched batch
+     * @param startNanos {@link System#nanoTime()} before fetching the batch
+     */
+    protected void measureBatch(
+            final String query, final AqlQueryOptions options, final CursorEntity result, final long startNanos) {
+        if (query == null || options == null || options.getAdaptiveBatchSize() != Boolean.TRUE) {
+            return;
+        }
+        final long nanos = System.nanoTime() - startNanos;
+        final VPackSlice batch = result.getResult();
+        final Long targetBytes = options.getTargetBatchBytes();
+        final Long targetLatency = options.getTargetBatchLatency();
+        arango.adaptiveBatchSize.addBatch(query, batch.size(), batch.getByteSize(), nanos,
+                targetBytes != null ? targetBytes : ArangoDefaults.DEFAULT_TARGET_BATCH_BYTES,
+                TimeUnit.MILLISECONDS.toNanos(
+                        targetLatency != null ? targetLatency : ArangoDefaults.DEFAULT_TARGET_BATCH_LATENCY));
+    }
+
     protected Request queryNextRequest(final String id, final AqlQueryOptions options, Map<String, String> meta) {
 
         final Request request = request(dbName, RequestType.PUT, PATH_API_CURSOR, id);
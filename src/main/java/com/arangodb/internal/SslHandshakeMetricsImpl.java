@@ -0,0 +1,84 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.SslHandshakeMetrics;
+
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SslHandshakeMetricsImpl implements SslHandshakeMetrics {
+
+    private final LongAdder handshakes = new LongAdder();
+    private final LongAdder resumedHandshakes = new LongAdder();
+    private final LongAdder handshakeTime = new LongAdder();
+
+    /**
+     * Performs the handshake on the given socket and records its duration.
+     *
+     * @param socket connected socket
+     * @throws IOException if the handshake fails
+     */
+    public void handshake(final SSLSocket socket) throws IOException {
+        final long startMillis = System.currentTimeMillis();
+        final long start = System.nanoTime();
+        socket.startHandshake();
+        add(startMillis, System.nanoTime() - start, socket.getSession());
+    }
+
+    /**
+     * @param startMillis wall clock time at which the handshake started
+     * @param nanos       duration of the handshake
+     * @param session     negotiated session
+     */
+    public void add(final long startMillis, final long nanos, final SSLSession session) {
+        handshakes.increment();
+        handshakeTime.add(nanos);
+        // a resumed session keeps the creation time of the session it has been resumed from
+        if (session != null && session.getCreationTime() < startMillis) {
+            resumedHandshakes.increment();
+        }
+    }
+
+    @Override
+    public long getHandshakes() {
+        return handshakes.sum();
+    }
+
+    @Override
+    public long getResumedHandshakes() {
+        return resumedHandshakes.sum();
+    }
+
+    @Override
+    public long getHandshakeTimeNanos() {
+        return handshakeTime.sum();
+    }
+
+    @Override
+    public double getAvgHandshakeTimeNanos() {
+        final long count = getHandshakes();
+        return count == 0 ? 0.0 : (double) getHandshakeTimeNanos() / count;
+    }
+
+}
@@ -0,0 +1,257 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.DocumentImportEntity;
+import com.arangodb.entity.DocumentImportProgress;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.model.DocumentImportOptions;
+import com.arangodb.model.StreamImportOptions;
+import com.arangodb.util.ArangoSerializer;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Imports documents read from an iterator with concurrent import requests. The input is read by the calling thread and
+ * partitioned into batches bounded by document count and size; reading is suspended while the batches in flight reach
+ * the parallelism or the byte budget, so that memory usage does not depend on the size of the input.
+ * <p>
+ * Strings are sent as JSON texts and parsed by the thread sending their batch, other values are serialized by the
+ * reading thread to know their size.
+ */
+public class StreamImporter {
+
+    private final ArangoCollectionImpl collection;
+    private final DocumentImportOptions importOptions;
+    private final int batchSize;
+    private final long batchBytes;
+    private final int parallelism;
+    private final long maxInFlightBytes;
+    private final Consumer<DocumentImportProgress> progressListener;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final DocumentImportEntity result = new DocumentImportEntity();
+    private int inFlightBatches;
+    private long inFlightBytes;
+    private long documents;
+    private long bytes;
+    private long batches;
+    private long start;
+    private RuntimeException failure;
+
+    public StreamImporter(final ArangoCollectionImpl collection, final StreamImportOptions options) {
+        super();
+        final StreamImportOptions opt = options != null ? options : new StreamImportOptions();
+        this.collection = collection;
+        importOptions = opt.getImportOptions();
+        batchSize = opt.getBatchSize() != null ? opt.getBatchSize() : ArangoDefaults.DEFAULT_IMPORT_BATCH_SIZE;
+        batchBytes = opt.getBatchBytes() != null ? opt.getBatchBytes() : ArangoDefaults.DEFAULT_IMPORT_BATCH_BYTES;
+        parallelism = opt.getParallelism() != null ? opt.getParallelism() : ArangoDefaults.DEFAULT_IMPORT_PARALLELISM;
+        maxInFlightBytes = opt.getMaxInFlightBytes() != null ?
+                opt.getMaxInFlightBytes() : ArangoDefaults.DEFAULT_IMPORT_MAX_IN_FLIGHT_BYTES;
+        progressListener = opt.getProgressListener();
+        if (batchSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("batchSize and parallelism must be positive");
+        }
+        result.setCreated(0);
+        result.setErrors(0);
+        result.setEmpty(0);
+        result.setUpdated(0);
+        result.setIgnored(0);
+    }
+
+    /**
+     * @param values documents to import, read by the calling thread
+     * @return the sum of the results of the import requests, the line numbers in the details are relative to the batch
+     * of the document
+     * @throws ArangoDBException if reading the input or an import request failed, no further batches are sent then
+     */
+    public DocumentImportEntity importDocuments(final Iterator<?> values) throws ArangoDBException {
+        final ExecutorService sender = Executors.newFixedThreadPool(parallelism, r -> {
+            final Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("arangodb-import-" + t.getId());
+            t.setDaemon(true);
+            return t;
+        });
+        start = System.nanoTime();
+        try {
+            List<Object> batch = new ArrayList<>();
+            long size = 0;
+            boolean strings = false;
+            while (values.hasNext() && !failed()) {
+                final Object value = values.next();
+                final boolean string = value instanceof String;
+                if (!batch.isEmpty() && string != strings) {
+                    // the serializer treats a collection either as JSON texts or as values
+                    send(sender, batch, size);
+                    batch = new ArrayList<>();
+                    size = 0;
+                }
+                strings = string;
+                if (string) {
+                    batch.add(value);
+                    size += ((String) value).length();
+                } else {
+                    final VPackSlice document = collection.util(Serializer.CUSTOM).serialize(value,
+                            new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true));
+                    batch.add(document);
+                    size += document.getByteSize();
+                }
+                if (batch.size() >= batchSize || size >= batchBytes) {
+                    send(sender, batch, size);
+                    batch = new ArrayList<>();
+                    size = 0;
+                }
+            }
+            if (!batch.isEmpty()) {
+                send(sender, batch, size);
+            }
+            awaitBatches();
+        } catch (final RuntimeException e) {
+            fail(e);
+            awaitBatches();
+        } finally {
+            sender.shutdown();
+        }
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw failure instanceof ArangoDBException ? (ArangoDBException) failure : new ArangoDBException(failure);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean failed() {
+        lock.lock();
+        try {
+            return failure != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fail(final RuntimeException e) {
+        lock.lock();
+        try {
+            if (failure == null) {
+                failure = e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void send(final ExecutorService sender, final List<Object> batch, final long size) {
+        lock.lock();
+        try {
+            // a batch larger than the budget is sent alone
+            while (failure == null && inFlightBatches > 0
+                    && (inFlightBatches >= parallelism || inFlightBytes + size > maxInFlightBytes)) {
+                released.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                return;
+            }
+            inFlightBatches++;
+            inFlightBytes += size;
+        } finally {
+            lock.unlock();
+        }
+        sender.execute(() -> {
+            DocumentImportEntity batchResult = null;
+            RuntimeException error = null;
+            try {
+                batchResult = collection.executor.execute(
+                        collection.importDocumentsRequest(batch, importOptions), DocumentImportEntity.class);
+            } catch (final RuntimeException e) {
+                error = e;
+            }
+            lock.lock();
+            try {
+                inFlightBatches--;
+                inFlightBytes -= size;
+                if (error != null) {
+                    if (failure == null) {
+                        failure = error;
+                    }
+                } else {
+                    add(batchResult, batch.size(), size);
+                }
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    // called with the lock held
+    private void add(final DocumentImportEntity batchResult, final int count, final long size) {
+        result.setCreated(result.getCreated() + value(batchResult.getCreated()));
+        result.setErrors(result.getErrors() + value(batchResult.getErrors()));
+        result.setEmpty(result.getEmpty() + value(batchResult.getEmpty()));
+        result.setUpdated(result.getUpdated() + value(batchResult.getUpdated()));
+        result.setIgnored(result.getIgnored() + value(batchResult.getIgnored()));
+        if (batchResult.getDetails() != null) {
+            result.getDetails().addAll(batchResult.getDetails());
+        }
+        documents += count;
+        bytes += size;
+        batches++;
+        if (progressListener != null) {
+            try {
+                progressListener.accept(new DocumentImportProgress(documents, bytes, batches,
+                        (System.nanoTime() - start) / 1_000_000));
+            } catch (final RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+    }
+
+    private static int value(final Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private void awaitBatches() {
+        lock.lock();
+        try {
+            while (inFlightBatches > 0) {
+                released.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
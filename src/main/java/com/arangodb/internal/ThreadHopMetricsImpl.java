@@ -0,0 +1,107 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ThreadHopMetrics;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ThreadHopMetricsImpl implements ThreadHopMetrics {
+
+    private final LongAdder outgoingHops = new LongAdder();
+    private final LongAdder outgoingHopTime = new LongAdder();
+    private final LongAdder deserializationHops = new LongAdder();
+    private final LongAdder deserializationHopTime = new LongAdder();
+
+    public void addOutgoing(final long nanos) {
+        outgoingHops.increment();
+        outgoingHopTime.add(nanos);
+    }
+
+    public void addDeserialization(final long nanos) {
+        deserializationHops.increment();
+        deserializationHopTime.add(nanos);
+    }
+
+    /**
+     * @param executor executor to wrap
+     * @return an executor delegating to the given one, which records the time each task waits before being run as an
+     * outgoing hop
+     */
+    public Executor outgoing(final Executor executor) {
+        return command -> {
+            final long start = System.nanoTime();
+            executor.execute(() -> {
+                addOutgoing(System.nanoTime() - start);
+                command.run();
+            });
+        };
+    }
+
+    /**
+     * @param executor executor to wrap
+     * @return an executor delegating to the given one, which records the time each task waits before being run as a
+     * deserialization hop
+     */
+    public Executor deserialization(final Executor executor) {
+        return command -> {
+            final long start = System.nanoTime();
+            executor.execute(() -> {
+                addDeserialization(System.nanoTime() - start);
+                command.run();
+            });
+        };
+    }
+
+    @Override
+    public long getOutgoingHops() {
+        return outgoingHops.sum();
+    }
+
+    @Override
+    public long getOutgoingHopTimeNanos() {
+        return outgoingHopTime.sum();
+    }
+
+    @Override
+    public double getAvgOutgoingHopTimeNanos() {
+        final long count = getOutgoingHops();
+        return count == 0 ? 0.0 : (double) getOutgoingHopTimeNanos() / count;
+    }
+
+    @Override
+    public long getDeserializationHops() {
+        return deserializationHops.sum();
+    }
+
+    @Override
+    public long getDeserializationHopTimeNanos() {
+        return deserializationHopTime.sum();
+    }
+
+    @Override
+    public double getAvgDeserializationHopTimeNanos() {
+        final long count = getDeserializationHops();
+        return count == 0 ? 0.0 : (double) getDeserializationHopTimeNanos() / count;
+    }
+
+}
@@ -0,0 +1,309 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.WriteBehindBuffer;
+import com.arangodb.WriteBehindMetrics;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentResult;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.model.BulkResultMode;
+import com.arangodb.model.DocumentUpdateOptions;
+import com.arangodb.model.WriteBehindOptions;
+import com.arangodb.util.ArangoSerializer;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link WriteBehindBuffer} sending the merged updates with {@link ArangoCollectionImpl#updateDocumentsCompact}, from a
+ * single thread which also runs the staleness timer. Updates are serialized by the submitting threads and merged as
+ * VelocyPack. The futures of the updates are completed by a second thread, so that their callbacks can neither block
+ * the writer thread nor deadlock when calling {@link #flush()} or {@link #updateDocument(String, Object)}.
+ */
+public class WriteBehindBufferImpl<T> implements WriteBehindBuffer<T> {
+
+    private final ArangoCollectionImpl collection;
+    private final long maxStaleness;
+    private final int batchSize;
+    private final int maxPendingDocuments;
+    private final DocumentUpdateOptions updateOptions;
+    private final boolean mergeObjects;
+    private final ArangoSerializer.Options serializerOptions;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final ScheduledExecutorService writer;
+    private final ExecutorService callbacks;
+    private volatile Thread callbackThread;
+    private final WriteBehindMetricsImpl metrics = new WriteBehindMetricsImpl();
+    private Map<String, Pending> pending = new LinkedHashMap<>();
+    private boolean writeRequested;
+    private boolean closed;
+
+    public WriteBehindBufferImpl(final ArangoCollectionImpl collection, final WriteBehindOptions options) {
+        super();
+        final WriteBehindOptions opt = options != null ? options : new WriteBehindOptions();
+        this.collection = collection;
+        maxStaleness = opt.getMaxStaleness() != null ?
+                opt.getMaxStaleness() : ArangoDefaults.DEFAULT_WRITE_BEHIND_MAX_STALENESS;
+        batchSize = opt.getBatchSize() != null ? opt.getBatchSize() : ArangoDefaults.DEFAULT_BULK_BATCH_SIZE;
+        maxPendingDocuments = opt.getMaxPendingDocuments() != null ?
+                opt.getMaxPendingDocuments() : ArangoDefaults.DEFAULT_WRITE_BEHIND_MAX_PENDING_DOCUMENTS;
+        if (batchSize < 1 || maxPendingDocuments < 1) {
+            throw new IllegalArgumentException("batchSize and maxPendingDocuments must be positive");
+        }
+        updateOptions = opt.getUpdateOptions() != null ? opt.getUpdateOptions() : new DocumentUpdateOptions();
+        // failures are matched to the documents by position, which requires a result for every document
+        if (Boolean.TRUE.equals(updateOptions.getSilent())) {
+            throw new IllegalArgumentException("silent is not supported by the write-behind buffer");
+        }
+        if (updateOptions.getIfMatch() != null) {
+            throw new IllegalArgumentException("ifMatch is not supported by the write-behind buffer");
+        }
+        mergeObjects = updateOptions.getMergeObjects() == null || updateOptions.getMergeObjects();
+        serializerOptions = new ArangoSerializer.Options()
+                .serializeNullValues(updateOptions.getSerializeNull() == null || updateOptions.getSerializeNull())
+                .stringAsJson(true);
+        writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("arangodb-write-behind-" + t.getId());
+            t.setDaemon(true);
+            return t;
+        });
+        callbacks = Executors.newSingleThreadExecutor(r -> {
+            final Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("arangodb-write-behind-callback-" + t.getId());
+            t.setDaemon(true);
+            callbackThread = t;
+            return t;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> updateDocument(final String key, final T value) {
+        final VPackSlice patch = collection.util(Serializer.CUSTOM).serialize(value, serializerOptions);
+        if (!patch.isObject()) {
+            throw new IllegalArgumentException("the update of a document has to be an object");
+        }
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        lock.lock();
+        try {
+            Pending current;
+            while ((current = pending.get(key)) == null && !closed && pending.size() >= maxPendingDocuments) {
+                requestWrite();
+                notFull.awaitUninterruptibly();
+            }
+            checkOpen();
+            if (current == null) {
+                pending.put(key, new Pending(patch, future));
+                if (pending.size() == 1) {
+                    writer.schedule(this::write, maxStaleness, TimeUnit.MILLISECONDS);
+                }
+                if (pending.size() >= batchSize) {
+                    requestWrite();
+                }
+            } else {
+                current.merge(patch, future);
+            }
+            metrics.addUpdate();
+        } finally {
+            lock.unlock();
+        }
+        return future;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("WriteBehindBuffer is closed");
+        }
+    }
+
+    /**
+     * Requests the pending updates to be sent by the writer thread, to be called holding the lock.
+     */
+    private void requestWrite() {
+        if (!writeRequested) {
+            writeRequested = true;
+            writer.execute(this::write);
+        }
+    }
+
+    /**
+     * Sends the pending updates, runs on the writer thread.
+     */
+    private void write() {
+        final Map<String, Pending> documents;
+        lock.lock();
+        try {
+            writeRequested = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            documents = pending;
+            pending = new LinkedHashMap<>();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        final Iterator<Map.Entry<String, Pending>> iterator = documents.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final List<VPackSlice> values = new ArrayList<>(Math.min(batchSize, documents.size()));
+            final List<Pending> batch = new ArrayList<>(values.size());
+            while (iterator.hasNext() && values.size() < batchSize) {
+                final Map.Entry<String, Pending> entry = iterator.next();
+                values.add(BulkWriterImpl.withKey(entry.getValue().patch, entry.getKey()));
+                batch.add(entry.getValue());
+            }
+            send(values, batch);
+        }
+    }
+
+    private void send(final List<VPackSlice> values, final List<Pending> batch) {
+        final int updates = batch.stream().mapToInt(p -> p.futures.size()).sum();
+        final MultiDocumentResult result;
+        try {
+            result = collection.updateDocumentsCompact(values, updateOptions, BulkResultMode.FAILURES_ONLY);
+        } catch (final RuntimeException e) {
+            metrics.addRequest(values.size(), updates, values.size());
+            callbacks.execute(() -> batch.forEach(p -> p.complete(e)));
+            return;
+        }
+        metrics.addRequest(values.size(), updates, result.getErrorIndexes().length);
+        callbacks.execute(() -> {
+            for (int i = 0; i < batch.size(); i++) {
+                final ErrorEntity error = result.getError(i);
+                batch.get(i).complete(error != null ? new ArangoDBException(error) : null);
+            }
+        });
+    }
+
+    @Override
+    public void flush() {
+        try {
+            CompletableFuture.runAsync(this::write, writer).join();
+            // waits for the futures of the written updates, unless called by a callback of one of them
+            if (Thread.currentThread() != callbackThread) {
+                CompletableFuture.runAsync(() -> { }, callbacks).join();
+            }
+        } catch (final RuntimeException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flush();
+        } finally {
+            writer.shutdownNow();
+            callbacks.shutdown();
+        }
+    }
+
+    @Override
+    public WriteBehindMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Merges the second update into the first one: attributes of the second update replace the ones of the first,
+     * nested objects present in both are merged recursively if {@code mergeObjects} is set.
+     */
+    private VPackSlice merge(final VPackSlice first, final VPackSlice second) {
+        final Map<String, VPackSlice> attributes = new LinkedHashMap<>();
+        for (final Iterator<Map.Entry<String, VPackSlice>> iterator = first.objectIterator(); iterator.hasNext(); ) {
+            final Map.Entry<String, VPackSlice> entry = iterator.next();
+            attributes.put(entry.getKey(), entry.getValue());
+        }
+        for (final Iterator<Map.Entry<String, VPackSlice>> iterator = second.objectIterator(); iterator.hasNext(); ) {
+            final Map.Entry<String, VPackSlice> entry = iterator.next();
+            final VPackSlice previous = attributes.get(entry.getKey());
+            if (mergeObjects && previous != null && previous.isObject() && entry.getValue().isObject()) {
+                attributes.put(entry.getKey(), merge(previous, entry.getValue()));
+            } else {
+                attributes.put(entry.getKey(), entry.getValue());
+            }
+        }
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.OBJECT);
+        for (final Map.Entry<String, VPackSlice> entry : attributes.entrySet()) {
+            builder.add(entry.getKey(), entry.getValue());
+        }
+        builder.close();
+        return builder.slice();
+    }
+
+    /**
+     * Merged update of a document waiting to be sent.
+     */
+    private final class Pending {
+
+        private VPackSlice patch;
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>(1);
+
+        Pending(final VPackSlice patch, final CompletableFuture<Void> future) {
+            super();
+            this.patch = patch;
+            futures.add(future);
+        }
+
+        void merge(final VPackSlice next, final CompletableFuture<Void> future) {
+            patch = WriteBehindBufferImpl.this.merge(patch, next);
+            futures.add(future);
+        }
+
+        void complete(final Throwable failure) {
+            for (final CompletableFuture<Void> future : futures) {
+                if (failure == null) {
+                    future.complete(null);
+                } else {
+                    future.completeExceptionally(failure);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.WriteBehindMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class WriteBehindMetricsImpl implements WriteBehindMetrics {
+
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder writtenDocuments = new LongAdder();
+    private final LongAdder writesSaved = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failedDocuments = new LongAdder();
+
+    public void addUpdate() {
+        updates.increment();
+    }
+
+    /**
+     * @param documents number of documents sent
+     * @param updates   number of updates merged into the sent documents
+     * @param failed    number of documents which could not be updated
+     */
+    public void addRequest(final int documents, final int updates, final int failed) {
+        requests.increment();
+        writtenDocuments.add(documents);
+        writesSaved.add(updates - documents);
+        failedDocuments.add(failed);
+    }
+
+    @Override
+    public long getUpdates() {
+        return updates.sum();
+    }
+
+    @Override
+    public long getWrittenDocuments() {
+        return writtenDocuments.sum();
+    }
+
+    @Override
+    public long getWritesSaved() {
+        return writesSaved.sum();
+    }
+
+    @Override
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getFailedDocuments() {
+        return failedDocuments.sum();
+    }
+
+}
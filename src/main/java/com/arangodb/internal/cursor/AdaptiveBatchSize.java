@@ -0,0 +1,106 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.cursor;
+
+import com.arangodb.CursorBatchSizeMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chooses the batch sizes of queries from the byte sizes and fetch latencies of their previous batches. The batch size
+ * of a cursor can not be changed after its creation, the chosen size hence applies to the next execution of the same
+ * query.
+ * <p>
+ * The batch size is chosen so that a batch neither exceeds the target size in bytes nor the target latency, it at most
+ * doubles from one measurement to the next.
+ */
+public class AdaptiveBatchSize implements CursorBatchSizeMetrics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveBatchSize.class);
+
+    static final int MAX_BATCH_SIZE = 100_000;
+    private static final int MAX_QUERIES = 1_000;
+
+    private final LongAdder measuredBatches = new LongAdder();
+    private final Map<String, Integer> batchSizes = new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Integer> eldest) {
+            return size() > MAX_QUERIES;
+        }
+    };
+
+    /**
+     * @param query query string
+     * @return the batch size chosen for the query, or {@code null} if no batch of the query has been measured yet
+     */
+    public Integer getBatchSize(final String query) {
+        synchronized (batchSizes) {
+            return batchSizes.get(query);
+        }
+    }
+
+    /**
+     * @param query              query string
+     * @param count              number of documents in the batch
+     * @param bytes              size of the batch in bytes
+     * @param nanos              time taken to fetch the batch, in nanoseconds
+     * @param targetBytes        target size of a batch in bytes
+     * @param targetLatencyNanos target time to fetch a batch, in nanoseconds
+     */
+    public void addBatch(final String query, final int count, final long bytes, final long nanos,
+                         final long targetBytes, final long targetLatencyNanos) {
+        if (count == 0) {
+            return;
+        }
+        measuredBatches.increment();
+        long size = Math.max(targetBytes * count / Math.max(bytes, 1), 1);
+        if (nanos > targetLatencyNanos) {
+            size = Math.min(size, Math.max(targetLatencyNanos * count / nanos, 1));
+        }
+        synchronized (batchSizes) {
+            final Integer previous = batchSizes.get(query);
+            final long limit = 2L * (previous != null ? Math.max(previous, count) : count);
+            final int batchSize = (int) Math.min(Math.min(size, limit), MAX_BATCH_SIZE);
+            batchSizes.put(query, batchSize);
+            if (LOGGER.isDebugEnabled() && !Integer.valueOf(batchSize).equals(previous)) {
+                LOGGER.debug("Batch size of query {} changed from {} to {}", query, previous, batchSize);
+            }
+        }
+    }
+
+    @Override
+    public long getMeasuredBatches() {
+        return measuredBatches.sum();
+    }
+
+    @Override
+    public Map<String, Integer> getBatchSizes() {
+        synchronized (batchSizes) {
+            return Collections.unmodifiableMap(new HashMap<>(batchSizes));
+        }
+    }
+
+}
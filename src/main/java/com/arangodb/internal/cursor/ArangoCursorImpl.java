@@ -33,6 +33,8 @@ import com.arangodb.internal.InternalArangoDatabase;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
 
 /**
  * @author Mark Vollmary
@@ -120,6 +122,22 @@ public class ArangoCursorImpl<T> extends AbstractArangoIterable<T> implements Ar
         return remaining;
     }
 
+    /**
+     * @return the not yet consumed elements of the current batch or, if these have all been consumed, of the next batch
+     * fetched from the server
+     */
+    public List<T> nextBatchElements() {
+        return iterator.nextBatch();
+    }
+
+    /**
+     * @param executor executor to deserialize the result batches on, see
+     *                 {@link ArangoCursorIterator#setDeserializationExecutor(Executor)}
+     */
+    public void setDeserializationExecutor(final Executor executor) {
+        iterator.setDeserializationExecutor(executor);
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException();
@@ -130,6 +148,15 @@ public class ArangoCursorImpl<T> extends AbstractArangoIterable<T> implements Ar
         return iterator;
     }
 
+    /**
+     * @return spliterator splitting on batch boundaries, so that {@code stream().parallel()} processes the batches
+     * concurrently
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new BatchSpliterator<>(iterator);
+    }
+
     @Override
     public void foreach(final Consumer<? super T> action) {
         while (hasNext()) {
@@ -21,15 +21,24 @@
 package com.arangodb.internal.cursor;
 
 import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoIterator;
 import com.arangodb.entity.CursorEntity;
 import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.internal.util.DocumentViews;
 import com.arangodb.velocypack.VPackSlice;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @param <T>
@@ -37,8 +46,14 @@ import java.util.NoSuchElementException;
  */
 public class ArangoCursorIterator<T> implements ArangoIterator<T> {
 
+    // smallest number of elements deserialized by a single task of a parallel deserialization
+    private static final int MIN_CHUNK_SIZE = 16;
+
     private CursorEntity result;
     private Iterator<VPackSlice> arrayIterator;
+    private Iterator<T> batchIterator;
+    private Executor deserializationExecutor;
+    private long consumed;
 
     private final ArangoCursor<T> cursor;
     private final InternalArangoDatabase<?, ?> db;
@@ -50,33 +65,179 @@ public class ArangoCursorIterator<T> implements ArangoIterator<T> {
         this.cursor = cursor;
         this.execute = execute;
         this.db = db;
-        this.result = result;
-        arrayIterator = result.getResult().arrayIterator();
+        setResult(result);
     }
 
     public CursorEntity getResult() {
         return result;
     }
 
+    /**
+     * @return the number of elements returned so far
+     */
+    public long getConsumed() {
+        return consumed;
+    }
+
+    /**
+     * Replaces the current batch with a batch fetched by the caller.
+     *
+     * @param result next batch
+     */
+    public void setResult(final CursorEntity result) {
+        this.result = result;
+        arrayIterator = result.getResult().arrayIterator();
+        batchIterator = deserializationExecutor != null ? deserializeBatch() : new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return arrayIterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return deserialize(arrayIterator.next(), cursor.getType());
+            }
+        };
+    }
+
+    /**
+     * Deserializes each batch, starting with the not yet consumed elements of the current one, as a whole as soon as
+     * it has been fetched, by splitting it into chunks which are deserialized in parallel on the given executor.
+     * Chunks the executor has not started yet are deserialized by the consuming thread, which may thus be one of the
+     * threads of the executor.
+     *
+     * @param executor executor to deserialize the chunks on, or {@code null} to deserialize elements one at a time
+     *                 on the consuming thread
+     */
+    public void setDeserializationExecutor(final Executor executor) {
+        deserializationExecutor = executor;
+        if (executor != null) {
+            batchIterator = deserializeBatch();
+        }
+    }
+
+    private Iterator<T> deserializeBatch() {
+        final List<VPackSlice> slices = new ArrayList<>();
+        while (arrayIterator.hasNext()) {
+            slices.add(arrayIterator.next());
+        }
+        final int chunks = Math.min(Runtime.getRuntime().availableProcessors(), slices.size() / MIN_CHUNK_SIZE);
+        if (chunks < 2) {
+            return deserializeAll(slices).iterator();
+        }
+        final List<Chunk> tasks = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            tasks.add(new Chunk(slices.subList(i * slices.size() / chunks, (i + 1) * slices.size() / chunks)));
+        }
+        for (final Chunk task : tasks.subList(1, chunks)) {
+            try {
+                deserializationExecutor.execute(task);
+            } catch (final RejectedExecutionException e) {
+                // deserialized by the consuming thread below
+            }
+        }
+        final List<T> elements = new ArrayList<>(slices.size());
+        for (final Chunk task : tasks) {
+            // chunks not yet started by the executor are deserialized by the consuming thread, so that a busy
+            // executor, or the consuming thread being one of its threads, cannot stall the cursor
+            task.run();
+            try {
+                elements.addAll(task.elements.join());
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new ArangoDBException(e.getCause());
+            }
+        }
+        return elements.iterator();
+    }
+
+    private List<T> deserializeAll(final List<VPackSlice> slices) {
+        final List<T> elements = new ArrayList<>(slices.size());
+        for (final VPackSlice slice : slices) {
+            elements.add(deserialize(slice, cursor.getType()));
+        }
+        return elements;
+    }
+
+    /**
+     * Chunk of a batch, deserialized by whichever thread runs it first.
+     */
+    private final class Chunk implements Runnable {
+
+        private final List<VPackSlice> slices;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CompletableFuture<List<T>> elements = new CompletableFuture<>();
+
+        Chunk(final List<VPackSlice> slices) {
+            super();
+            this.slices = slices;
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                elements.complete(deserializeAll(slices));
+            } catch (final RuntimeException e) {
+                elements.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * @return the not yet consumed elements of the current batch, which are consumed by this call
+     */
+    public List<T> nextInBatch() {
+        final List<T> elements = new ArrayList<>();
+        while (batchIterator.hasNext()) {
+            elements.add(batchIterator.next());
+        }
+        consumed += elements.size();
+        return elements;
+    }
+
+    /**
+     * @return the not yet consumed elements of the current batch or, if these have all been consumed, of the next batch
+     * fetched from the server, which are consumed by this call
+     */
+    public List<T> nextBatch() {
+        if (!batchIterator.hasNext() && result.getHasMore()) {
+            setResult(execute.next(cursor.getId(), result.getMeta()));
+        }
+        return nextInBatch();
+    }
+
+    /**
+     * @return whether the current batch has elements not yet consumed
+     */
+    public boolean hasNextInBatch() {
+        return batchIterator.hasNext();
+    }
+
     @Override
     public boolean hasNext() {
-        return arrayIterator.hasNext() || result.getHasMore();
+        return batchIterator.hasNext() || result.getHasMore();
     }
 
     @Override
     public T next() {
-        if (!arrayIterator.hasNext() && result.getHasMore()) {
-            result = execute.next(cursor.getId(), result.getMeta());
-            arrayIterator = result.getResult().arrayIterator();
+        if (!batchIterator.hasNext() && result.getHasMore()) {
+            setResult(execute.next(cursor.getId(), result.getMeta()));
         }
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return deserialize(arrayIterator.next(), cursor.getType());
+        final T next = batchIterator.next();
+        consumed++;
+        return next;
     }
 
     protected <R> R deserialize(final VPackSlice result, final Class<R> type) {
-        return db.util(Serializer.CUSTOM).deserialize(result, type);
+        return DocumentViews.deserialize(db.util(Serializer.CUSTOM), result, type);
     }
 
     @Override
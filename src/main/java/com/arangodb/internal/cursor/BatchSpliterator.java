@@ -0,0 +1,85 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * {@link Spliterator} over the elements of a cursor, which splits on batch boundaries: {@link #trySplit()} hands over
+ * the not yet consumed elements of the current batch or, if these have all been consumed, of the next batch fetched
+ * from the server. Parallel streams hence process one batch per task, while fetching stays sequential.
+ * <p>
+ * If the query was performed with {@code count} set, it is used as size estimate. The spliterator is deliberately not
+ * {@link #SIZED}, since terminal operations of sized streams, like {@link java.util.stream.Stream#count()}, could
+ * then complete without consuming, and hence closing, the cursor.
+ *
+ * @param <T> the type of the result elements
+ */
+public class BatchSpliterator<T> implements Spliterator<T> {
+
+    private final ArangoCursorIterator<T> iterator;
+    private final Integer count;
+
+    public BatchSpliterator(final ArangoCursorIterator<T> iterator) {
+        super();
+        this.iterator = iterator;
+        count = iterator.getResult().getCount();
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        while (iterator.hasNext()) {
+            action.accept(iterator.next());
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        final List<T> batch = iterator.nextBatch();
+        return Spliterators.spliterator(batch, ORDERED);
+    }
+
+    @Override
+    public long estimateSize() {
+        return count != null ? Math.max(count - iterator.getConsumed(), 0) : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+
+}
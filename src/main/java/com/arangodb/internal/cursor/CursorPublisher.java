@@ -0,0 +1,225 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoFlow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ArangoFlow.Publisher} over the batches of a cursor. The next batch is only fetched once the elements of the
+ * current one have been delivered and the subscriber has outstanding demand, so that at most one batch is held in
+ * memory. Cancelling the subscription closes the cursor on the server, by the thread delivering the elements and only
+ * once a batch being fetched has been received, since cursors are not thread-safe. Only one subscriber is supported.
+ *
+ * @param <T> the type of the result elements
+ */
+public class CursorPublisher<T> implements ArangoFlow.Publisher<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CursorPublisher.class);
+
+    /**
+     * Batch-wise access to a cursor.
+     */
+    public interface Source<T> {
+
+        /**
+         * @return whether {@link #nextBatch()} has more elements to return
+         */
+        boolean hasMore();
+
+        /**
+         * @return the next elements of the cursor, never invoked concurrently
+         */
+        CompletableFuture<List<T>> nextBatch();
+
+        /**
+         * Closes the cursor on the server, never invoked concurrently with {@link #nextBatch()}.
+         */
+        CompletableFuture<Void> close();
+    }
+
+    private final Source<T> source;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    public CursorPublisher(final Source<T> source) {
+        super();
+        this.source = source;
+    }
+
+    @Override
+    public void subscribe(final ArangoFlow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new ArangoFlow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Cursor publisher allows only a single subscriber"));
+            return;
+        }
+        final CursorSubscription subscription = new CursorSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    private class CursorSubscription implements ArangoFlow.Subscription {
+
+        private final ArangoFlow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private Iterator<T> current = Collections.emptyIterator();
+        private volatile boolean fetching;
+        private volatile List<T> fetched;
+        private volatile Throwable error;
+        private boolean done;
+        private boolean closed;
+
+        CursorSubscription(final ArangoFlow.Subscriber<? super T> subscriber) {
+            super();
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("non-positive subscription request: " + n);
+            } else {
+                demand.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                drain();
+            }
+        }
+
+        private void closeSource() {
+            if (source.hasMore()) {
+                source.close().whenComplete((v, e) -> {
+                    if (e != null) {
+                        LOGGER.debug("Could not close cursor", e);
+                    }
+                });
+            }
+        }
+
+        /**
+         * Delivers buffered elements and fetches the next batch, or closes the source once cancelled and no batch is
+         * being fetched. Runs on one thread at a time, further invocations while running are looped over by the
+         * running thread.
+         */
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                if (!done && !cancelled.get()) {
+                    emit();
+                }
+                if (cancelled.get() && !fetching && !closed) {
+                    closed = true;
+                    closeSource();
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private void emit() {
+            final Throwable e = error;
+            if (e != null) {
+                done = true;
+                cancelled.set(true);
+                subscriber.onError(e);
+                return;
+            }
+            final List<T> batch = fetched;
+            if (batch != null) {
+                fetched = null;
+                current = batch.iterator();
+            }
+            while (demand.get() > 0 && current.hasNext()) {
+                if (cancelled.get()) {
+                    return;
+                }
+                final T item = current.next();
+                demand.decrementAndGet();
+                try {
+                    subscriber.onNext(item);
+                } catch (final RuntimeException ex) {
+                    LOGGER.error("Subscriber threw exception, cancelling", ex);
+                    cancelled.set(true);
+                    return;
+                }
+            }
+            if (current.hasNext() || fetching || cancelled.get()) {
+                return;
+            }
+            if (!source.hasMore()) {
+                done = true;
+                subscriber.onComplete();
+            } else if (demand.get() > 0) {
+                fetch();
+            }
+        }
+
+        private void fetch() {
+            fetching = true;
+            CompletableFuture<List<T>> next;
+            try {
+                next = source.nextBatch();
+            } catch (final RuntimeException e) {
+                next = new CompletableFuture<>();
+                next.completeExceptionally(e);
+            }
+            // completes inline for already completed sources, the nested drain() is then looped over by the running one
+            next.whenComplete((items, e) -> {
+                if (e != null) {
+                    error = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                } else {
+                    fetched = items;
+                }
+                fetching = false;
+                drain();
+            });
+        }
+    }
+
+}
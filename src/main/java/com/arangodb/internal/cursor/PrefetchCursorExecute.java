@@ -0,0 +1,214 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link ArangoCursorExecute} fetching the following batches of a cursor in the background, while the current batch is
+ * being consumed. Batches are fetched one after the other, until either {@code maxBatches} batches or
+ * {@code maxBytes} bytes are buffered.
+ */
+public class PrefetchCursorExecute implements ArangoCursorExecute {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchCursorExecute.class);
+
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(r -> {
+        final Thread t = Executors.defaultThreadFactory().newThread(r);
+        t.setName("arangodb-cursor-prefetch-" + t.getId());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final ArangoCursorExecute delegate;
+    private final Executor executor;
+    private final String id;
+    private final int maxBatches;
+    private final long maxBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Deque<CursorEntity> buffer = new ArrayDeque<>();
+    private long bufferedBytes;
+    private Map<String, String> meta;
+    private boolean hasMore;
+    private boolean fetching;
+    private boolean closed;
+    private RuntimeException failure;
+
+    /**
+     * @param delegate   fetches the batches
+     * @param result     first batch of the cursor
+     * @param maxBatches maximum number of buffered batches
+     * @param maxBytes   maximum size of the buffered batches, a batch is fetched as long as the buffer is smaller or
+     *                   empty, must be positive
+     */
+    public PrefetchCursorExecute(final ArangoCursorExecute delegate, final CursorEntity result,
+                                 final int maxBatches, final long maxBytes) {
+        this(delegate, DEFAULT_EXECUTOR, result, maxBatches, maxBytes);
+    }
+
+    PrefetchCursorExecute(final ArangoCursorExecute delegate, final Executor executor, final CursorEntity result,
+                          final int maxBatches, final long maxBytes) {
+        super();
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+        }
+        this.delegate = delegate;
+        this.executor = executor;
+        this.maxBatches = Math.max(1, maxBatches);
+        this.maxBytes = maxBytes;
+        id = result.getId();
+        meta = result.getMeta();
+        hasMore = Boolean.TRUE.equals(result.getHasMore());
+        lock.lock();
+        try {
+            fetchIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CursorEntity next(final String id, final Map<String, String> meta) throws ArangoDBException {
+        lock.lock();
+        try {
+            while (buffer.isEmpty()) {
+                if (failure != null) {
+                    throw failure;
+                }
+                if (closed) {
+                    throw new ArangoDBException("Cursor is closed");
+                }
+                fetchIfNeeded();
+                changed.await();
+            }
+            final CursorEntity result = buffer.poll();
+            bufferedBytes -= size(result);
+            fetchIfNeeded();
+            return result;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for a running fetch to complete and closes the cursor on the server, if it has not been fetched
+     * completely.
+     */
+    @Override
+    public void close(final String id, final Map<String, String> meta) throws ArangoDBException {
+        final Map<String, String> lastMeta;
+        lock.lock();
+        try {
+            closed = true;
+            while (fetching) {
+                changed.awaitUninterruptibly();
+            }
+            buffer.clear();
+            bufferedBytes = 0;
+            if (!hasMore) {
+                return;
+            }
+            lastMeta = this.meta;
+        } finally {
+            lock.unlock();
+        }
+        delegate.close(id, lastMeta);
+    }
+
+    /**
+     * @return number of batches fetched but not yet consumed
+     */
+    int getBufferedBatches() {
+        lock.lock();
+        try {
+            return buffer.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // requires lock, fetches into an empty buffer regardless of maxBytes so that a batch larger than it cannot stall
+    private void fetchIfNeeded() {
+        if (fetching || closed || failure != null || !hasMore
+                || buffer.size() >= maxBatches || (!buffer.isEmpty() && bufferedBytes >= maxBytes)) {
+            return;
+        }
+        fetching = true;
+        final Map<String, String> fetchMeta = meta;
+        executor.execute(() -> fetch(fetchMeta));
+    }
+
+    private void fetch(final Map<String, String> fetchMeta) {
+        CursorEntity result = null;
+        RuntimeException error = null;
+        try {
+            result = delegate.next(id, fetchMeta);
+        } catch (final RuntimeException e) {
+            error = e;
+        }
+        lock.lock();
+        try {
+            fetching = false;
+            if (error != null) {
+                if (!closed) {
+                    failure = error;
+                } else {
+                    LOGGER.debug("Prefetching of closed cursor failed", error);
+                }
+            } else if (!closed) {
+                buffer.add(result);
+                bufferedBytes += size(result);
+                meta = result.getMeta();
+                hasMore = Boolean.TRUE.equals(result.getHasMore());
+                fetchIfNeeded();
+            } else {
+                meta = result.getMeta();
+                hasMore = Boolean.TRUE.equals(result.getHasMore());
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long size(final CursorEntity result) {
+        return result.getResult() != null ? result.getResult().getByteSize() : 0L;
+    }
+
+}
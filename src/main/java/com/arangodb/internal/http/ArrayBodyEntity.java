@@ -0,0 +1,81 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.http;
+
+import com.arangodb.internal.util.VPackArrayBody;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Entity writing a {@link VPackArrayBody} to the connection. As JSON the length is unknown and the array is sent with
+ * chunked transfer encoding while its elements are serialized, as VelocyPack it is written from the buffers of its
+ * serialized elements. The body is serialized again if the request is retried.
+ */
+class ArrayBodyEntity extends AbstractHttpEntity {
+
+    private final VPackArrayBody body;
+    private final boolean vpack;
+
+    ArrayBodyEntity(final VPackArrayBody body, final ContentType contentType, final boolean vpack) {
+        super();
+        this.body = body;
+        this.vpack = vpack;
+        setContentType(contentType.toString());
+        setChunked(!vpack);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return vpack ? body.getByteSize() : -1;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTo(out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    @Override
+    public void writeTo(final OutputStream out) throws IOException {
+        if (vpack) {
+            body.writeVPack(out);
+        } else {
+            body.writeJson(out);
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+}
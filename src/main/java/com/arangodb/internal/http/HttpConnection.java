@@ -21,12 +21,19 @@
 package com.arangodb.internal.http;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.Compression;
 import com.arangodb.DbName;
 import com.arangodb.Protocol;
+import com.arangodb.internal.ArangoDefaults;
+import com.arangodb.internal.CompressionMetricsImpl;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.util.ArrayBodyRequest;
+import com.arangodb.internal.util.CompressionUtils;
+import com.arangodb.internal.util.EncodeUtils;
 import com.arangodb.internal.util.IOUtils;
 import com.arangodb.internal.util.ResponseUtils;
+import com.arangodb.internal.util.VPackArrayBody;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.util.ArangoSerializer.Options;
 import com.arangodb.velocypack.VPackSlice;
@@ -39,7 +46,6 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.HttpRequestRetryHandler;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.*;
-import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
@@ -54,7 +60,6 @@ import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHeaderElementIterator;
-import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.protocol.HTTP;
 import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
@@ -63,11 +68,11 @@ import org.slf4j.LoggerFactory;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import static org.apache.http.HttpHeaders.AUTHORIZATION;
@@ -81,6 +86,8 @@ public class HttpConnection implements Connection {
     private static final ContentType CONTENT_TYPE_APPLICATION_JSON_UTF8 = ContentType.create("application/json",
             "utf-8");
     private static final ContentType CONTENT_TYPE_VPACK = ContentType.create("application/x-velocypack");
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+    private static final int MAX_CACHED_DB_URLS = 256;
 
     public static class Builder {
         private String user;
@@ -95,6 +102,11 @@ public class HttpConnection implements Connection {
         private HostnameVerifier hostnameVerifier;
         private Integer timeout;
         private HttpRequestRetryHandler httpRequestRetryHandler;
+        private Compression compression;
+        private Integer compressionThreshold;
+        private Integer compressionLevel;
+        private CompressionMetricsImpl compressionMetrics;
+        private SSLConnectionSocketFactory sslSocketFactory;
 
         public Builder user(final String user) {
             this.user = user;
@@ -156,9 +168,39 @@ public class HttpConnection implements Connection {
             return this;
         }
 
+        public Builder compression(final Compression compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        public Builder compressionThreshold(final Integer compressionThreshold) {
+            this.compressionThreshold = compressionThreshold;
+            return this;
+        }
+
+        public Builder compressionLevel(final Integer compressionLevel) {
+            this.compressionLevel = compressionLevel;
+            return this;
+        }
+
+        public Builder compressionMetrics(final CompressionMetricsImpl compressionMetrics) {
+            this.compressionMetrics = compressionMetrics;
+            return this;
+        }
+
+        /**
+         * @param sslSocketFactory socket factory to share among connections, takes precedence over
+         *                         {@link #sslContext(SSLContext)} and {@link #hostnameVerifier(HostnameVerifier)}
+         */
+        public Builder sslSocketFactory(final SSLConnectionSocketFactory sslSocketFactory) {
+            this.sslSocketFactory = sslSocketFactory;
+            return this;
+        }
+
         public HttpConnection build() {
             return new HttpConnection(host, timeout, user, password, useSsl, sslContext, hostnameVerifier, util,
-                    contentType, ttl, httpCookieSpec, httpRequestRetryHandler);
+                    contentType, ttl, httpCookieSpec, httpRequestRetryHandler, compression, compressionThreshold,
+                    compressionLevel, compressionMetrics, sslSocketFactory);
         }
     }
 
@@ -167,14 +209,25 @@ public class HttpConnection implements Connection {
     private final String user;
     private final String password;
     private volatile String jwt = null;
+    private final String basicAuthorization;
+    private volatile String authorization;
     private final ArangoSerialization util;
     private final Boolean useSsl;
     private final Protocol contentType;
     private final HostDescription host;
+    private final Compression compression;
+    private final int compressionThreshold;
+    private final int compressionLevel;
+    private final CompressionMetricsImpl compressionMetrics;
+    private final String baseUrl;
+    private final Map<DbName, String> dbUrls = new ConcurrentHashMap<>();
 
     private HttpConnection(final HostDescription host, final Integer timeout, final String user, final String password,
                            final Boolean useSsl, final SSLContext sslContext, final HostnameVerifier hostnameVerifier, final ArangoSerialization util, final Protocol contentType,
-                           final Long ttl, final String httpCookieSpec, final HttpRequestRetryHandler httpRequestRetryHandler) {
+                           final Long ttl, final String httpCookieSpec, final HttpRequestRetryHandler httpRequestRetryHandler,
+                           final Compression compression, final Integer compressionThreshold, final Integer compressionLevel,
+                           final CompressionMetricsImpl compressionMetrics,
+                           final SSLConnectionSocketFactory sslSocketFactory) {
         super();
         this.host = host;
         this.user = user;
@@ -182,10 +235,20 @@ public class HttpConnection implements Connection {
         this.useSsl = useSsl;
         this.util = util;
         this.contentType = contentType;
+        this.compression = compression != null ? compression : Compression.NONE;
+        this.compressionThreshold = compressionThreshold != null ? compressionThreshold
+                : ArangoDefaults.DEFAULT_COMPRESSION_THRESHOLD;
+        this.compressionLevel = compressionLevel != null ? compressionLevel : ArangoDefaults.DEFAULT_COMPRESSION_LEVEL;
+        this.compressionMetrics = compressionMetrics != null ? compressionMetrics : new CompressionMetricsImpl();
+        baseUrl = buildBaseUrl(host);
+        basicAuthorization = user != null ? buildBasicAuthorization(user, password) : null;
+        authorization = basicAuthorization;
         final RegistryBuilder<ConnectionSocketFactory> registryBuilder = RegistryBuilder
                 .create();
-        if (Boolean.TRUE == useSsl) {
-            registryBuilder.register("https", new SSLConnectionSocketFactory(
+        if (host.isUnixSocket()) {
+            registryBuilder.register("http", new UnixDomainSocketFactory(host.getHost()));
+        } else if (Boolean.TRUE == useSsl) {
+            registryBuilder.register("https", sslSocketFactory != null ? sslSocketFactory : new SSLConnectionSocketFactory(
                     sslContext != null ? sslContext : SSLContexts.createSystemDefault(),
                     hostnameVerifier != null ? hostnameVerifier : SSLConnectionSocketFactory.getDefaultHostnameVerifier()
             ));
@@ -213,6 +276,10 @@ public class HttpConnection implements Connection {
         if (ttl != null) {
             builder.setConnectionTimeToLive(ttl, TimeUnit.MILLISECONDS);
         }
+        if (this.compression != Compression.NONE) {
+            // responses are decoded in buildResponse(), to keep track of the compression metrics
+            builder.disableContentCompression();
+        }
         client = builder.build();
     }
 
@@ -238,25 +305,48 @@ public class HttpConnection implements Connection {
         client.close();
     }
 
-    private static String buildUrl(final String baseUrl, final Request request) {
-        StringBuilder sb = new StringBuilder().append(baseUrl);
-        DbName dbName = request.getDbName();
-        if (dbName != null && !dbName.get().isEmpty()) {
-            sb.append("/_db/").append(dbName.getEncoded());
-        }
-        sb.append(request.getRequest());
-        if (!request.getQueryParam().isEmpty()) {
-            if (request.getRequest().contains("?")) {
-                sb.append("&");
-            } else {
-                sb.append("?");
+    private String buildUrl(final Request request) {
+        final String dbUrl = buildDbUrl(request.getDbName());
+        final String path = request.getRequest();
+        final Map<String, String> queryParam = request.getQueryParam();
+        final StringBuilder sb = new StringBuilder(dbUrl.length() + path.length() + 32 * queryParam.size())
+                .append(dbUrl).append(path);
+        char separator = path.indexOf('?') >= 0 ? '&' : '?';
+        for (final Entry<String, String> param : queryParam.entrySet()) {
+            if (param.getValue() != null) {
+                sb.append(separator);
+                EncodeUtils.appendFormEncoded(sb, param.getKey()).append('=');
+                EncodeUtils.appendFormEncoded(sb, param.getValue());
+                separator = '&';
             }
-            final String paramString = URLEncodedUtils.format(toList(request.getQueryParam()), "utf-8");
-            sb.append(paramString);
         }
         return sb.toString();
     }
 
+    private String buildDbUrl(final DbName dbName) {
+        if (dbName == null || dbName.get().isEmpty()) {
+            return baseUrl;
+        }
+        final String dbUrl = dbUrls.get(dbName);
+        if (dbUrl != null) {
+            return dbUrl;
+        }
+        final String newDbUrl = baseUrl + "/_db/" + dbName.getEncoded();
+        if (dbUrls.size() < MAX_CACHED_DB_URLS) {
+            dbUrls.put(dbName, newDbUrl);
+        }
+        return newDbUrl;
+    }
+
+    private static String buildBasicAuthorization(final String user, final String password) {
+        final Credentials credentials = new UsernamePasswordCredentials(user, password != null ? password : "");
+        try {
+            return new BasicScheme().authenticate(credentials, new HttpGet(), null).getValue();
+        } catch (final AuthenticationException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
     private HttpRequestBase buildHttpRequestBase(final Request request, final String url) {
         final HttpRequestBase httpRequest;
         switch (request.getRequestType()) {
@@ -284,11 +374,19 @@ public class HttpConnection implements Connection {
     }
 
     private HttpRequestBase requestWithBody(final HttpEntityEnclosingRequestBase httpRequest, final Request request) {
+        final VPackArrayBody arrayBody = ArrayBodyRequest.arrayBody(request);
+        if (arrayBody != null && (compression == Compression.NONE || Boolean.FALSE.equals(request.getCompression()))) {
+            httpRequest.setEntity(contentType == Protocol.HTTP_VPACK ?
+                    new ArrayBodyEntity(arrayBody, CONTENT_TYPE_VPACK, true) :
+                    new ArrayBodyEntity(arrayBody, CONTENT_TYPE_APPLICATION_JSON_UTF8, false));
+            return httpRequest;
+        }
         final VPackSlice body = request.getBody();
         if (body != null) {
-            if (contentType == Protocol.HTTP_VPACK) {
-                httpRequest.setEntity(new ByteArrayEntity(
-                        Arrays.copyOfRange(body.getBuffer(), body.getStart(), body.getStart() + body.getByteSize()),
+            if (compress(request, body)) {
+                httpRequest.setEntity(compressedEntity(body));
+            } else if (contentType == Protocol.HTTP_VPACK) {
+                httpRequest.setEntity(new ByteArrayEntity(body.getBuffer(), body.getStart(), body.getByteSize(),
                         CONTENT_TYPE_VPACK));
             } else {
                 httpRequest.setEntity(new StringEntity(body.toString(), CONTENT_TYPE_APPLICATION_JSON_UTF8));
@@ -297,40 +395,64 @@ public class HttpConnection implements Connection {
         return httpRequest;
     }
 
-    private String buildBaseUrl(final HostDescription host) {
-        return (Boolean.TRUE == useSsl ? "https://" : "http://") + host.getHost() + ":" + host.getPort();
+    private boolean compress(final Request request, final VPackSlice body) {
+        if (compression == Compression.NONE) {
+            return false;
+        }
+        return request.getCompression() != null ?
+                request.getCompression() : body.getByteSize() >= compressionThreshold;
     }
 
-    private static List<NameValuePair> toList(final Map<String, String> parameters) {
-        final ArrayList<NameValuePair> paramList = new ArrayList<>(parameters.size());
-        for (final Entry<String, String> param : parameters.entrySet()) {
-            if (param.getValue() != null) {
-                paramList.add(new BasicNameValuePair(param.getKey(), param.getValue()));
-            }
+    private HttpEntity compressedEntity(final VPackSlice body) {
+        final byte[] content;
+        final ContentType type;
+        if (contentType == Protocol.HTTP_VPACK) {
+            content = Arrays.copyOfRange(body.getBuffer(), body.getStart(), body.getStart() + body.getByteSize());
+            type = CONTENT_TYPE_VPACK;
+        } else {
+            content = body.toString().getBytes(StandardCharsets.UTF_8);
+            type = CONTENT_TYPE_APPLICATION_JSON_UTF8;
+        }
+        final long start = System.nanoTime();
+        final byte[] compressed;
+        try {
+            compressed = CompressionUtils.compress(content, compression, compressionLevel);
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
         }
-        return paramList;
+        compressionMetrics.addRequest(content.length, compressed.length, System.nanoTime() - start);
+        final ByteArrayEntity entity = new ByteArrayEntity(compressed, type);
+        entity.setContentEncoding(compression.getEncoding());
+        return entity;
+    }
+
+    private String buildBaseUrl(final HostDescription host) {
+        if (host.isUnixSocket()) {
+            // the socket path is resolved by UnixDomainSocketFactory, the host name only ends up in the Host header
+            return "http://localhost";
+        }
+        return (Boolean.TRUE == useSsl ? "https://" : "http://") + host.getHost() + ":" + host.getPort();
     }
 
     public Response execute(final Request request) throws ArangoDBException, IOException {
-        final String url = buildUrl(buildBaseUrl(host), request);
+        final String url = buildUrl(request);
         final HttpRequestBase httpRequest = buildHttpRequestBase(request, url);
         httpRequest.setHeader("User-Agent", "Mozilla/5.0 (compatible; ArangoDB-JavaDriver/1.1; +http://mt.orz.at/)");
         if (contentType == Protocol.HTTP_VPACK) {
             httpRequest.setHeader("Accept", "application/x-velocypack");
         }
+        if (compression != Compression.NONE) {
+            httpRequest.setHeader(HttpHeaders.ACCEPT_ENCODING, ACCEPT_ENCODING);
+        }
         addHeader(request, httpRequest);
-        Credentials credentials = null;
-        if (jwt != null) {
-            httpRequest.addHeader(AUTHORIZATION, "Bearer " + jwt);
-        } else if (user != null) {
-            credentials = new UsernamePasswordCredentials(user, password != null ? password : "");
-            try {
-                httpRequest.addHeader(new BasicScheme().authenticate(credentials, httpRequest, null));
-            } catch (final AuthenticationException e) {
-                throw new ArangoDBException(e);
-            }
+        final String authorization = this.authorization;
+        if (authorization != null) {
+            httpRequest.addHeader(AUTHORIZATION, authorization);
         }
         if (LOGGER.isDebugEnabled()) {
+            final String jwt = this.jwt;
+            final Credentials credentials = jwt == null && user != null
+                    ? new UsernamePasswordCredentials(user, password != null ? password : "") : null;
             CURLLogger.log(url, request, credentials, jwt, util);
         }
         Response response;
@@ -350,7 +472,17 @@ public class HttpConnection implements Connection {
         final Response response = new Response();
         response.setResponseCode(httpResponse.getStatusLine().getStatusCode());
         final HttpEntity entity = httpResponse.getEntity();
-        if (entity != null && entity.getContent() != null) {
+        if (entity != null && entity.getContent() != null && compression != Compression.NONE) {
+            final byte[] content = readContent(entity);
+            if (content.length > 0) {
+                if (contentType == Protocol.HTTP_VPACK) {
+                    response.setBody(new VPackSlice(content));
+                } else {
+                    response.setBody(util.serialize(new String(content, StandardCharsets.UTF_8),
+                            new Options().stringAsJson(true).serializeNullValues(true)));
+                }
+            }
+        } else if (entity != null && entity.getContent() != null) {
             if (contentType == Protocol.HTTP_VPACK) {
                 final byte[] content = IOUtils.toByteArray(entity.getContent());
                 if (content.length > 0) {
@@ -372,6 +504,18 @@ public class HttpConnection implements Connection {
         return response;
     }
 
+    private byte[] readContent(final HttpEntity entity) throws IOException {
+        final byte[] content = IOUtils.toByteArray(entity.getContent());
+        final Header encoding = entity.getContentEncoding();
+        if (encoding == null || content.length == 0 || !CompressionUtils.isSupported(encoding.getValue())) {
+            return content;
+        }
+        final long start = System.nanoTime();
+        final byte[] decompressed = CompressionUtils.decompress(content, encoding.getValue());
+        compressionMetrics.addResponse(decompressed.length, content.length, System.nanoTime() - start);
+        return decompressed;
+    }
+
     protected void checkError(final Response response) throws ArangoDBException {
         ResponseUtils.checkError(util, response);
     }
@@ -379,6 +523,7 @@ public class HttpConnection implements Connection {
     @Override
     public void setJwt(String jwt) {
         this.jwt = jwt;
+        authorization = jwt != null ? "Bearer " + jwt : basicAuthorization;
     }
 
 }
@@ -20,12 +20,17 @@
 
 package com.arangodb.internal.http;
 
+import com.arangodb.Compression;
 import com.arangodb.Protocol;
+import com.arangodb.internal.CompressionMetricsImpl;
+import com.arangodb.internal.SslHandshakeMetricsImpl;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostDescription;
 import com.arangodb.util.ArangoSerialization;
 import org.apache.http.client.HttpRequestRetryHandler;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.ssl.SSLContexts;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
@@ -40,11 +45,23 @@ public class HttpConnectionFactory implements ConnectionFactory {
     public HttpConnectionFactory(final Integer timeout, final String user, final String password, final Boolean useSsl,
                                  final SSLContext sslContext, final HostnameVerifier hostnameVerifier,
                                  final ArangoSerialization util, final Protocol protocol, final Long connectionTtl,
-                                 final String httpCookieSpec, final HttpRequestRetryHandler httpRequestRetryHandler) {
+                                 final String httpCookieSpec, final HttpRequestRetryHandler httpRequestRetryHandler,
+                                 final Compression compression, final Integer compressionThreshold,
+                                 final Integer compressionLevel, final CompressionMetricsImpl compressionMetrics,
+                                 final SslHandshakeMetricsImpl sslHandshakeMetrics) {
         super();
+        // one socket factory, and thus one SSLContext with its session cache, for all the connections, so that
+        // opening further connections to the same host can resume the SSL session instead of a full handshake
+        final SSLConnectionSocketFactory sslSocketFactory = Boolean.TRUE == useSsl ? new SslHandshakeMetricsSocketFactory(
+                sslContext != null ? sslContext : SSLContexts.createSystemDefault(),
+                hostnameVerifier != null ? hostnameVerifier : SSLConnectionSocketFactory.getDefaultHostnameVerifier(),
+                sslHandshakeMetrics != null ? sslHandshakeMetrics : new SslHandshakeMetricsImpl()
+        ) : null;
         builder = new HttpConnection.Builder().timeout(timeout).user(user).password(password).useSsl(useSsl)
                 .sslContext(sslContext).hostnameVerifier(hostnameVerifier).serializationUtil(util).contentType(protocol)
-                .ttl(connectionTtl).httpCookieSpec(httpCookieSpec).httpRequestRetryHandler(httpRequestRetryHandler);
+                .ttl(connectionTtl).httpCookieSpec(httpCookieSpec).httpRequestRetryHandler(httpRequestRetryHandler)
+                .compression(compression).compressionThreshold(compressionThreshold).compressionLevel(compressionLevel)
+                .compressionMetrics(compressionMetrics).sslSocketFactory(sslSocketFactory);
 
     }
 
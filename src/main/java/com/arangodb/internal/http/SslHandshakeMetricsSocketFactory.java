@@ -0,0 +1,58 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.internal.SslHandshakeMetricsImpl;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * {@link SSLConnectionSocketFactory} recording the handshakes into {@link SslHandshakeMetricsImpl}.
+ * A single instance is shared by all the connections of a driver instance, so that they share the same
+ * {@link SSLContext} and its client session cache.
+ */
+class SslHandshakeMetricsSocketFactory extends SSLConnectionSocketFactory {
+
+    private final SslHandshakeMetricsImpl metrics;
+
+    SslHandshakeMetricsSocketFactory(final SSLContext sslContext, final HostnameVerifier hostnameVerifier,
+                                     final SslHandshakeMetricsImpl metrics) {
+        super(sslContext, hostnameVerifier);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Socket createLayeredSocket(final Socket socket, final String target, final int port,
+                                      final HttpContext context) throws IOException {
+        final long startMillis = System.currentTimeMillis();
+        final long start = System.nanoTime();
+        final Socket sslSocket = super.createLayeredSocket(socket, target, port, context);
+        metrics.add(startMillis, System.nanoTime() - start, ((SSLSocket) sslSocket).getSession());
+        return sslSocket;
+    }
+
+}
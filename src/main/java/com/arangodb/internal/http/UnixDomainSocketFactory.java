@@ -0,0 +1,62 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.internal.net.UnixDomainSocket;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * {@link ConnectionSocketFactory} connecting to a fixed Unix domain socket, regardless of the requested route.
+ */
+class UnixDomainSocketFactory implements ConnectionSocketFactory {
+
+    private final String path;
+
+    UnixDomainSocketFactory(final String path) {
+        super();
+        this.path = path;
+    }
+
+    @Override
+    public Socket createSocket(final HttpContext context) {
+        return new UnixDomainSocket(path);
+    }
+
+    @Override
+    public Socket connectSocket(
+            final int connectTimeout,
+            final Socket socket,
+            final HttpHost host,
+            final InetSocketAddress remoteAddress,
+            final InetSocketAddress localAddress,
+            final HttpContext context) throws IOException {
+        final Socket sock = socket != null ? socket : createSocket(context);
+        sock.connect(remoteAddress, connectTimeout);
+        return sock;
+    }
+
+}
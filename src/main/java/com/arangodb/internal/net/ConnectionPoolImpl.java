@@ -26,8 +26,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author Mark Vollmary
@@ -39,6 +40,7 @@ public class ConnectionPoolImpl implements ConnectionPool {
     private final HostDescription host;
     private final int maxConnections;
     private final List<Connection> connections;
+    private final ReentrantLock lock = new ReentrantLock();
     private int current;
     private final ConnectionFactory factory;
     private volatile String jwt = null;
@@ -49,7 +51,7 @@ public class ConnectionPoolImpl implements ConnectionPool {
         this.host = host;
         this.maxConnections = maxConnections;
         this.factory = factory;
-        connections = new ArrayList<>();
+        connections = new CopyOnWriteArrayList<>();
         current = 0;
     }
 
@@ -61,17 +63,22 @@ public class ConnectionPoolImpl implements ConnectionPool {
     }
 
     @Override
-    public synchronized Connection connection() {
+    public Connection connection() {
 
         final Connection connection;
 
-        if (connections.size() < maxConnections) {
-            connection = createConnection(host);
-            connections.add(connection);
-            current++;
-        } else {
-            final int index = Math.floorMod(current++, connections.size());
-            connection = connections.get(index);
+        lock.lock();
+        try {
+            if (connections.size() < maxConnections) {
+                connection = createConnection(host);
+                connections.add(connection);
+                current++;
+            } else {
+                final int index = Math.floorMod(current++, connections.size());
+                connection = connections.get(index);
+            }
+        } finally {
+            lock.unlock();
         }
 
         if (connection instanceof VstConnectionSync) {
@@ -90,11 +97,16 @@ public class ConnectionPoolImpl implements ConnectionPool {
     }
 
     @Override
-    public synchronized void close() throws IOException {
-        for (final Connection connection : connections) {
-            connection.close();
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            for (final Connection connection : connections) {
+                connection.close();
+            }
+            connections.clear();
+        } finally {
+            lock.unlock();
         }
-        connections.clear();
     }
 
     @Override
@@ -25,15 +25,34 @@ package com.arangodb.internal.net;
  */
 public class HostDescription {
 
+    public static final String UNIX_SCHEME = "unix://";
+
     private final String host;
     private final int port;
+    private final boolean unixSocket;
 
     public HostDescription(final String host, final int port) {
+        this(host, port, false);
+    }
+
+    private HostDescription(final String host, final int port, final boolean unixSocket) {
         super();
         this.host = host;
         this.port = port;
+        this.unixSocket = unixSocket;
     }
 
+    /**
+     * @param path file system path of the Unix domain socket
+     * @return description of a host reachable through the given Unix domain socket
+     */
+    public static HostDescription unixSocket(final String path) {
+        return new HostDescription(path, -1, true);
+    }
+
+    /**
+     * @return host name or address, or the socket path if {@link #isUnixSocket()}
+     */
     public String getHost() {
         return host;
     }
@@ -42,9 +61,13 @@ public class HostDescription {
         return port;
     }
 
+    public boolean isUnixSocket() {
+        return unixSocket;
+    }
+
     @Override
     public String toString() {
-        return String.format("host[addr=%s,port=%s]", host, port);
+        return unixSocket ? String.format("host[unix=%s]", host) : String.format("host[addr=%s,port=%s]", host, port);
     }
 
     @Override
@@ -53,6 +76,7 @@ public class HostDescription {
         int result = 1;
         result = prime * result + ((host == null) ? 0 : host.hashCode());
         result = prime * result + port;
+        result = prime * result + (unixSocket ? 1 : 0);
         return result;
     }
 
@@ -75,7 +99,7 @@ public class HostDescription {
         } else if (!host.equals(other.host)) {
             return false;
         }
-        return port == other.port;
+        return port == other.port && unixSocket == other.unixSocket;
     }
 
 }
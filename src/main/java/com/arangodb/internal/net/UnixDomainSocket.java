@@ -0,0 +1,404 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link Socket} adapter over a Unix domain {@link SocketChannel}, so that it can be used by the VST and HTTP
+ * transports in place of a TCP socket. Requires Java 16 or later at runtime.
+ * <p>
+ * The channel is used in non-blocking mode with distinct selectors for reading and writing, so that reads and writes
+ * can happen concurrently from different threads and reads can honor {@link #setSoTimeout(int)}. Locks are used instead
+ * of monitors, so that virtual threads waiting on a selector do not pin their carrier thread.
+ */
+public class UnixDomainSocket extends Socket {
+
+    private final String path;
+    private volatile SocketChannel channel;
+    private Selector readSelector;
+    private Selector writeSelector;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock readLock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile int soTimeout;
+    private volatile boolean closed;
+    private volatile boolean inputShutdown;
+    private volatile boolean outputShutdown;
+    private volatile InputStream inputStream;
+    private volatile OutputStream outputStream;
+
+    public UnixDomainSocket(final String path) {
+        super();
+        this.path = path;
+    }
+
+    /**
+     * @return {@code true} if the running JVM supports Unix domain socket channels
+     */
+    public static boolean isSupported() {
+        try {
+            Class.forName("java.net.UnixDomainSocketAddress");
+            return true;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static SocketAddress address(final String path) throws IOException {
+        try {
+            return (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress")
+                    .getMethod("of", String.class)
+                    .invoke(null, path);
+        } catch (final ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            throw new IOException("Unix domain sockets require Java 16 or later", e);
+        } catch (final InvocationTargetException e) {
+            throw new IOException("Invalid Unix domain socket path: " + path, e.getCause());
+        }
+    }
+
+    /**
+     * Connects to the socket path given in the constructor, the endpoint and timeout arguments are ignored.
+     */
+    @Override
+    public void connect(final SocketAddress endpoint, final int timeout) throws IOException {
+        connect();
+    }
+
+    @Override
+    public void connect(final SocketAddress endpoint) throws IOException {
+        connect();
+    }
+
+    public void connect() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new SocketException("Socket is closed");
+            }
+            if (channel != null) {
+                throw new SocketException("already connected");
+            }
+            final SocketChannel ch = SocketChannel.open(address(path));
+            try {
+                ch.configureBlocking(false);
+                readSelector = Selector.open();
+                writeSelector = Selector.open();
+                ch.register(readSelector, SelectionKey.OP_READ);
+                ch.register(writeSelector, SelectionKey.OP_WRITE);
+            } catch (final IOException e) {
+                ch.close();
+                closeSelectors();
+                throw e;
+            }
+            inputStream = new ChannelInputStream();
+            outputStream = new ChannelOutputStream();
+            channel = ch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        checkConnected();
+        return inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        checkConnected();
+        return outputStream;
+    }
+
+    private void checkConnected() throws SocketException {
+        if (closed) {
+            throw new SocketException("Socket is closed");
+        }
+        if (channel == null) {
+            throw new SocketException("Socket is not connected");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+            } finally {
+                closeSelectors();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeSelectors() throws IOException {
+        try {
+            if (readSelector != null) {
+                readSelector.close();
+            }
+        } finally {
+            if (writeSelector != null) {
+                writeSelector.close();
+            }
+        }
+    }
+
+    @Override
+    public boolean isConnected() {
+        return channel != null;
+    }
+
+    @Override
+    public boolean isBound() {
+        return channel != null;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void shutdownInput() throws IOException {
+        checkConnected();
+        channel.shutdownInput();
+        inputShutdown = true;
+    }
+
+    @Override
+    public void shutdownOutput() throws IOException {
+        checkConnected();
+        channel.shutdownOutput();
+        outputShutdown = true;
+    }
+
+    @Override
+    public boolean isInputShutdown() {
+        return inputShutdown;
+    }
+
+    @Override
+    public boolean isOutputShutdown() {
+        return outputShutdown;
+    }
+
+    @Override
+    public void setSoTimeout(final int timeout) throws SocketException {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout can't be negative");
+        }
+        soTimeout = timeout;
+    }
+
+    @Override
+    public int getSoTimeout() {
+        return soTimeout;
+    }
+
+    // TCP specific options do not apply to Unix domain sockets
+
+    @Override
+    public void setTcpNoDelay(final boolean on) {
+    }
+
+    @Override
+    public boolean getTcpNoDelay() {
+        return false;
+    }
+
+    @Override
+    public void setKeepAlive(final boolean on) {
+    }
+
+    @Override
+    public boolean getKeepAlive() {
+        return false;
+    }
+
+    @Override
+    public void setSoLinger(final boolean on, final int linger) {
+    }
+
+    @Override
+    public int getSoLinger() {
+        return -1;
+    }
+
+    @Override
+    public void setReuseAddress(final boolean on) {
+    }
+
+    @Override
+    public boolean getReuseAddress() {
+        return false;
+    }
+
+    @Override
+    public void setSendBufferSize(final int size) {
+    }
+
+    @Override
+    public void setReceiveBufferSize(final int size) {
+    }
+
+    @Override
+    public InetAddress getInetAddress() {
+        return null;
+    }
+
+    @Override
+    public InetAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    public int getPort() {
+        return 0;
+    }
+
+    @Override
+    public int getLocalPort() {
+        return -1;
+    }
+
+    @Override
+    public SocketAddress getRemoteSocketAddress() {
+        return null;
+    }
+
+    @Override
+    public SocketAddress getLocalSocketAddress() {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "UnixDomainSocket[path=" + path + "]";
+    }
+
+    private int select(final Selector selector, final int timeout) throws IOException {
+        try {
+            return selector.select(timeout);
+        } catch (final ClosedSelectorException e) {
+            throw new SocketException("Socket is closed");
+        }
+    }
+
+    private class ChannelInputStream extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            final int n = read(b, 0, 1);
+            return n == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            readLock.lock();
+            try {
+                while (true) {
+                    final int n = channel.read(buffer);
+                    if (n != 0) {
+                        return n;
+                    }
+                    final int timeout = soTimeout;
+                    if (select(readSelector, timeout) == 0) {
+                        if (closed) {
+                            throw new SocketException("Socket is closed");
+                        }
+                        if (timeout > 0) {
+                            throw new SocketTimeoutException("Read timed out");
+                        }
+                    }
+                    readSelector.selectedKeys().clear();
+                }
+            } finally {
+                readLock.unlock();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            UnixDomainSocket.this.close();
+        }
+    }
+
+    private class ChannelOutputStream extends OutputStream {
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            writeLock.lock();
+            try {
+                while (buffer.hasRemaining()) {
+                    if (channel.write(buffer) == 0) {
+                        select(writeSelector, 0);
+                        writeSelector.selectedKeys().clear();
+                        if (closed) {
+                            throw new SocketException("Socket is closed");
+                        }
+                    }
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            UnixDomainSocket.this.close();
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.util;
+
+import com.arangodb.DbName;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.annotations.Expose;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+
+/**
+ * {@link Request} of a multi-document operation, whose body is a {@link VPackArrayBody} serialized while the request
+ * is sent.
+ */
+public class ArrayBodyRequest extends Request {
+
+    @Expose(serialize = false)
+    private VPackArrayBody arrayBody;
+
+    public ArrayBodyRequest(final DbName dbName, final RequestType requestType, final String path) {
+        super(dbName, requestType, path);
+    }
+
+    /**
+     * @return the array body of the given request, or {@code null} if it has none or its body has already been
+     * serialized by {@link #getBody()}
+     */
+    public static VPackArrayBody arrayBody(final Request request) {
+        return request instanceof ArrayBodyRequest ? ((ArrayBodyRequest) request).arrayBody : null;
+    }
+
+    /**
+     * @return the body, the array body is serialized into a single slice on first call
+     */
+    @Override
+    public VPackSlice getBody() {
+        if (arrayBody != null) {
+            super.setBody(arrayBody.toSlice());
+            arrayBody = null;
+        }
+        return super.getBody();
+    }
+
+    @Override
+    public Request setBody(final VPackSlice body) {
+        arrayBody = null;
+        return super.setBody(body);
+    }
+
+    /**
+     * @param arrayBody body whose elements are serialized while the request is sent
+     * @return request
+     */
+    public ArrayBodyRequest setArrayBody(final VPackArrayBody arrayBody) {
+        super.setBody(null);
+        this.arrayBody = arrayBody;
+        return this;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import com.arangodb.Compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Helpers for the gzip and deflate content encodings.
+ */
+public final class CompressionUtils {
+
+    private CompressionUtils() {
+    }
+
+    public static byte[] compress(final byte[] data, final Compression compression, final int level)
+            throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(32, data.length / 4));
+        final OutputStream out;
+        switch (compression) {
+            case GZIP:
+                out = new GZIPOutputStream(buffer) {
+                    {
+                        def.setLevel(level);
+                    }
+                };
+                break;
+            case DEFLATE:
+                out = new DeflaterOutputStream(buffer) {
+                    {
+                        def.setLevel(level);
+                    }
+                };
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported compression: " + compression);
+        }
+        try {
+            out.write(data);
+        } finally {
+            out.close();
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * @param encoding value of the {@code Content-Encoding} header
+     * @return {@code true} if the encoding can be decoded by {@link #decompress(byte[], String)}
+     */
+    public static boolean isSupported(final String encoding) {
+        if (encoding == null) {
+            return false;
+        }
+        final String e = encoding.trim().toLowerCase(Locale.ENGLISH);
+        return "gzip".equals(e) || "x-gzip".equals(e) || "deflate".equals(e);
+    }
+
+    public static byte[] decompress(final byte[] data, final String encoding) throws IOException {
+        final String e = encoding.trim().toLowerCase(Locale.ENGLISH);
+        final InputStream in;
+        if ("gzip".equals(e) || "x-gzip".equals(e)) {
+            in = new GZIPInputStream(new ByteArrayInputStream(data));
+        } else if ("deflate".equals(e)) {
+            in = new InflaterInputStream(new ByteArrayInputStream(data));
+        } else {
+            throw new IOException("Unsupported content encoding: " + encoding);
+        }
+        try {
+            return IOUtils.toByteArray(in);
+        } finally {
+            in.close();
+        }
+    }
+
+}
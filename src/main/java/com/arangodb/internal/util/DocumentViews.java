@@ -0,0 +1,301 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.util;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.DocumentView;
+import com.arangodb.util.ArangoSerialization;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates {@link DocumentView} proxies over {@link VPackSlice}s.
+ * <p>
+ * The getters of a view interface are resolved once per interface. Each getter remembers the position of its
+ * attribute within the last object it was read from, so that for documents sharing the same layout, like the results
+ * of a query, the attribute is found without a lookup by name. Values are converted on first access and kept by the
+ * view.
+ */
+public final class DocumentViews {
+
+    private static final Object UNRESOLVED = new Object();
+    private static final ClassValue<ViewType> TYPES = new ClassValue<ViewType>() {
+        @Override
+        protected ViewType computeValue(final Class<?> type) {
+            return new ViewType(type);
+        }
+    };
+
+    private DocumentViews() {
+    }
+
+    /**
+     * @param type result type
+     * @return whether the given type is a {@link DocumentView} interface
+     */
+    public static boolean isView(final Type type) {
+        return type instanceof Class && ((Class<?>) type).isInterface()
+                && DocumentView.class.isAssignableFrom((Class<?>) type);
+    }
+
+    /**
+     * Deserializes the given slice, or creates a view over it if the given type is a {@link DocumentView} interface.
+     *
+     * @param serialization serialization to deserialize other types and the attributes of views with
+     * @param slice         the slice to deserialize
+     * @param type          the result type
+     * @return the deserialized object or the view
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deserialize(final ArangoSerialization serialization, final VPackSlice slice, final Type type) {
+        if (isView(type)) {
+            return create(slice, (Class<T>) type, serialization);
+        }
+        return serialization.deserialize(slice, type);
+    }
+
+    /**
+     * @param slice         the document
+     * @param type          the view interface
+     * @param serialization serialization to deserialize attributes of types not supported by views with
+     * @return a view over the given slice, {@code null} if the slice is {@code null}
+     */
+    public static <T> T create(final VPackSlice slice, final Class<T> type, final ArangoSerialization serialization) {
+        if (slice == null || slice.isNone() || slice.isNull()) {
+            return null;
+        }
+        if (!slice.isObject()) {
+            throw new ArangoDBException(
+                    "Can not create view " + type.getName() + " over a value of type " + slice.getType());
+        }
+        final ViewType viewType = TYPES.get(type);
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new View(viewType, slice, serialization)));
+    }
+
+    private static final class ViewType {
+
+        private static final Method GET_SLICE;
+
+        static {
+            try {
+                GET_SLICE = DocumentView.class.getMethod("getSlice");
+            } catch (final NoSuchMethodException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Class<?> type;
+        private final Map<Method, Getter> getters = new HashMap<>();
+
+        private ViewType(final Class<?> type) {
+            this.type = type;
+            for (final Method method : type.getMethods()) {
+                if (method.equals(GET_SLICE) || Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                if (method.isDefault() || method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+                    throw new ArangoDBException("Method " + method + " of view " + type.getName()
+                            + " is not a getter, views only support abstract methods without parameters");
+                }
+                getters.put(method, new Getter(getters.size(), method));
+            }
+        }
+    }
+
+    private static final class Getter {
+
+        private final int index;
+        private final String attribute;
+        private final byte[] key;
+        private final Class<?> rawType;
+        private final Type genericType;
+        private final Object defaultValue;
+        // position of the attribute in the last object read, a hint for objects of the same layout
+        private volatile int position = -1;
+
+        private Getter(final int index, final Method method) {
+            this.index = index;
+            attribute = attributeName(method);
+            key = attribute.getBytes(StandardCharsets.UTF_8);
+            rawType = method.getReturnType();
+            genericType = method.getGenericReturnType();
+            defaultValue = rawType.isPrimitive() ? Array.get(Array.newInstance(rawType, 1), 0) : null;
+        }
+
+        private static String attributeName(final Method method) {
+            final DocumentView.Attribute annotation = method.getAnnotation(DocumentView.Attribute.class);
+            if (annotation != null) {
+                return annotation.value();
+            }
+            final String name = method.getName();
+            if (name.length() > 3 && name.startsWith("get")) {
+                return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+            }
+            if (name.length() > 2 && name.startsWith("is")
+                    && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+                return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+            }
+            return name;
+        }
+
+        private Object read(final VPackSlice object, final ArangoSerialization serialization) {
+            final VPackSlice value = find(object);
+            if (value.isNone() || value.isNull()) {
+                return defaultValue;
+            }
+            if (rawType == VPackSlice.class) {
+                return value;
+            }
+            if (rawType == String.class && value.isString()) {
+                return value.getAsString();
+            }
+            if (value.isNumber()) {
+                if (rawType == int.class || rawType == Integer.class) {
+                    return value.getAsInt();
+                }
+                if (rawType == long.class || rawType == Long.class) {
+                    return value.getAsLong();
+                }
+                if (rawType == double.class || rawType == Double.class) {
+                    return value.getAsDouble();
+                }
+                if (rawType == float.class || rawType == Float.class) {
+                    return value.getAsFloat();
+                }
+                if (rawType == short.class || rawType == Short.class) {
+                    return value.getAsShort();
+                }
+                if (rawType == byte.class || rawType == Byte.class) {
+                    return value.getAsByte();
+                }
+            }
+            if ((rawType == boolean.class || rawType == Boolean.class) && value.isBoolean()) {
+                return value.getAsBoolean();
+            }
+            if (isView(rawType)) {
+                return create(value, rawType, serialization);
+            }
+            return serialization.deserialize(value, genericType);
+        }
+
+        private VPackSlice find(final VPackSlice object) {
+            final int hint = position;
+            final int size = object.size();
+            if (hint >= 0 && hint < size && matches(object.keyAt(hint))) {
+                return object.valueAt(hint);
+            }
+            for (int i = 0; i < size; i++) {
+                if (matches(object.keyAt(i))) {
+                    position = i;
+                    return object.valueAt(i);
+                }
+            }
+            return VPackSlice.NONE_SLICE;
+        }
+
+        private boolean matches(final VPackSlice objectKey) {
+            VPackSlice k = objectKey;
+            if (k.isInteger()) {
+                // attribute names like _key are translated to integers
+                k = VPackSlice.attributeTranslator.translate(k.getAsInt());
+                if (k == null) {
+                    return false;
+                }
+            }
+            if (!k.isString()) {
+                return false;
+            }
+            final byte[] buffer = k.getBuffer();
+            final int start = k.getStart();
+            final int head = buffer[start] & 0xff;
+            if (head == 0xbf) {
+                // long string
+                return attribute.equals(k.getAsString());
+            }
+            if (head - 0x40 != key.length) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (buffer[start + 1 + i] != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class View implements InvocationHandler {
+
+        private final ViewType type;
+        private final VPackSlice slice;
+        private final ArangoSerialization serialization;
+        private final Object[] values;
+
+        private View(final ViewType type, final VPackSlice slice, final ArangoSerialization serialization) {
+            this.type = type;
+            this.slice = slice;
+            this.serialization = serialization;
+            values = new Object[type.getters.size()];
+            Arrays.fill(values, UNRESOLVED);
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) {
+            final Getter getter = type.getters.get(method);
+            if (getter != null) {
+                Object value = values[getter.index];
+                if (value == UNRESOLVED) {
+                    value = getter.read(slice, serialization);
+                    values[getter.index] = value;
+                }
+                return value;
+            }
+            if (method.equals(ViewType.GET_SLICE)) {
+                return slice;
+            }
+            switch (method.getName()) {
+                case "equals":
+                    final Object other = args[0];
+                    return other != null && Proxy.isProxyClass(other.getClass())
+                            && Proxy.getInvocationHandler(other) instanceof View
+                            && ((View) Proxy.getInvocationHandler(other)).type == type
+                            && ((View) Proxy.getInvocationHandler(other)).slice.equals(slice);
+                case "hashCode":
+                    return slice.hashCode();
+                case "toString":
+                    return type.type.getSimpleName() + slice.toString();
+                default:
+                    throw new UnsupportedOperationException(method.toString());
+            }
+        }
+    }
+
+}
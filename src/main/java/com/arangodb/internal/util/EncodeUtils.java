@@ -27,6 +27,8 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 
 public class EncodeUtils {
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
     private EncodeUtils() {
     }
 
@@ -52,4 +54,41 @@ public class EncodeUtils {
         }
     }
 
+    /**
+     * Appends the given value encoded as {@code application/x-www-form-urlencoded} in UTF-8. It produces the same
+     * output as {@code URLEncodedUtils.format()}, without allocating when no character has to be escaped.
+     *
+     * @param sb    target
+     * @param value string to encode
+     * @return the given {@link StringBuilder}
+     */
+    public static StringBuilder appendFormEncoded(final StringBuilder sb, final String value) {
+        final int length = value.length();
+        int i = 0;
+        while (i < length && isFormSafe(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return sb.append(value);
+        }
+        sb.append(value, 0, i);
+        final byte[] bytes = value.substring(i).getBytes(StandardCharsets.UTF_8);
+        for (final byte b : bytes) {
+            final int c = b & 0xFF;
+            if (isFormSafe((char) c)) {
+                sb.append((char) c);
+            } else if (c == ' ') {
+                sb.append('+');
+            } else {
+                sb.append('%').append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+            }
+        }
+        return sb;
+    }
+
+    private static boolean isFormSafe(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '_' || c == '-' || c == '.' || c == '*';
+    }
+
 }
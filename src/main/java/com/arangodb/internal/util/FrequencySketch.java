@@ -0,0 +1,99 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+/**
+ * Approximate access frequencies of keys (count-min sketch with counters saturating at 15), used as admission filter
+ * of a cache as described by TinyLFU: a new entry only replaces the eviction candidate if it has been accessed more
+ * often. The counters are halved once the number of recorded accesses reaches ten times the maximum number of
+ * entries, so that the frequencies follow changes of the workload.
+ * <p>
+ * Not thread-safe.
+ */
+public class FrequencySketch {
+
+    private static final int MAX_FREQUENCY = 15;
+    private static final int[] SEEDS = {0x97cb3127, 0xb0c6d6a5, 0x9e3779b9, 0x85ebca6b};
+
+    private final byte[] counters;
+    private final int mask;
+    private final long sampleSize;
+    private long accesses;
+
+    /**
+     * @param maximumSize expected maximum number of entries of the cache
+     */
+    public FrequencySketch(final long maximumSize) {
+        super();
+        final int width = Integer.highestOneBit((int) Math.max(256, Math.min(8 * maximumSize, 1 << 22)) - 1) << 1;
+        counters = new byte[width];
+        mask = width - 1;
+        sampleSize = 10L * Math.max(1, maximumSize);
+    }
+
+    /**
+     * Records an access of the given key.
+     */
+    public void increment(final Object key) {
+        final int hash = spread(key.hashCode());
+        boolean added = false;
+        for (final int seed : SEEDS) {
+            final int index = index(hash, seed);
+            if (counters[index] < MAX_FREQUENCY) {
+                counters[index]++;
+                added = true;
+            }
+        }
+        if (added && ++accesses >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * @return the estimated number of recent accesses of the given key, at most 15
+     */
+    public int frequency(final Object key) {
+        final int hash = spread(key.hashCode());
+        int frequency = MAX_FREQUENCY;
+        for (final int seed : SEEDS) {
+            frequency = Math.min(frequency, counters[index(hash, seed)]);
+        }
+        return frequency;
+    }
+
+    private void reset() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>>= 1;
+        }
+        accesses /= 2;
+    }
+
+    private int index(final int hash, final int seed) {
+        final int h = (hash ^ seed) * seed;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int spread(final int hash) {
+        final int h = hash * 0x9e3779b9;
+        return h ^ (h >>> 15);
+    }
+
+}
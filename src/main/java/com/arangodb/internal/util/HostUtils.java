@@ -33,7 +33,9 @@ public final class HostUtils {
 
     public static HostDescription createFromLocation(final String location) {
         final HostDescription host;
-        if (location != null) {
+        if (location != null && location.startsWith(HostDescription.UNIX_SCHEME)) {
+            host = createFromEndpoint(location);
+        } else if (location != null) {
             final String[] tmp = location.replaceAll(".*://", "").replaceAll("/.*", "").split(":");
             host = tmp.length == 2 ? new HostDescription(tmp[0], Integer.parseInt(tmp[1])) : null;
         } else {
@@ -42,6 +44,22 @@ public final class HostUtils {
         return host;
     }
 
+    /**
+     * @param endpoint either {@code host:port}, {@code scheme://host:port} or {@code unix:///path/to/socket}
+     * @return the parsed endpoint, or {@code null} if it is not valid
+     */
+    public static HostDescription createFromEndpoint(final String endpoint) {
+        if (endpoint == null) {
+            return null;
+        }
+        if (endpoint.startsWith(HostDescription.UNIX_SCHEME)) {
+            final String path = endpoint.substring(HostDescription.UNIX_SCHEME.length());
+            return path.isEmpty() ? null : HostDescription.unixSocket(path);
+        }
+        final String[] tmp = endpoint.replaceAll(".*://", "").replaceAll("/.*", "").split(":");
+        return tmp.length == 2 && tmp[1].matches("[0-9]+") ? new HostDescription(tmp[0], Integer.parseInt(tmp[1])) : null;
+    }
+
     public static Host createHost(
             final HostDescription description,
             final int maxConnections,
@@ -0,0 +1,180 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.util;
+
+import com.arangodb.ArangoDBException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Splits UTF-8 encoded JSON read from a stream into the JSON texts of its documents, without parsing them. The input
+ * is either a JSON array of documents, or a sequence of documents separated by whitespace such as JSON Lines. Since
+ * UTF-8 continuation bytes never match ASCII characters, the structure can be tracked byte by byte.
+ */
+public class JsonDocumentReader implements Iterator<String> {
+
+    private final InputStream in;
+    private final ByteArrayOutputStream document = new ByteArrayOutputStream();
+    private boolean started;
+    private boolean array;
+    private boolean finished;
+    private String next;
+    // byte read ahead after a scalar value, -2 if none
+    private int peeked = -2;
+
+    public JsonDocumentReader(final InputStream in) {
+        super();
+        this.in = in instanceof BufferedInputStream ? in : new BufferedInputStream(in);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                next = readDocument();
+            } catch (final IOException e) {
+                throw new ArangoDBException(e);
+            }
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final String result = next;
+        next = null;
+        return result;
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            final int b = peeked;
+            peeked = -2;
+            return b;
+        }
+        return in.read();
+    }
+
+    private int skipWhitespace() throws IOException {
+        int b = read();
+        while (b == ' ' || b == '\n' || b == '\r' || b == '\t' || (array && b == ',')) {
+            b = read();
+        }
+        return b;
+    }
+
+    private String readDocument() throws IOException {
+        int b = skipWhitespace();
+        if (!started) {
+            started = true;
+            // UTF-8 byte order mark
+            if (b == 0xEF) {
+                read();
+                read();
+                b = skipWhitespace();
+            }
+            if (b == '[') {
+                array = true;
+                b = skipWhitespace();
+            }
+        }
+        if (b == -1) {
+            if (array) {
+                throw new ArangoDBException("Unexpected end of JSON array");
+            }
+            return null;
+        }
+        if (array && b == ']') {
+            return null;
+        }
+        document.reset();
+        if (b == '{' || b == '[') {
+            readStructure(b);
+        } else {
+            readScalar(b);
+        }
+        return new String(document.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private void readStructure(final int first) throws IOException {
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        int b = first;
+        while (true) {
+            if (b == -1) {
+                throw new ArangoDBException("Unexpected end of JSON document");
+            }
+            document.write(b);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                return;
+            }
+            b = read();
+        }
+    }
+
+    private void readScalar(final int first) throws IOException {
+        boolean inString = first == '"';
+        boolean escaped = false;
+        document.write(first);
+        int b = read();
+        while (b != -1) {
+            if (inString) {
+                document.write(b);
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == ',' || b == ']') {
+                peeked = b;
+                return;
+            } else {
+                document.write(b);
+            }
+            b = read();
+        }
+    }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.util;
+
+import com.arangodb.velocypack.VPackSlice;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Request body holding an array of values which are serialized one at a time while the body is written, instead of
+ * serializing the whole collection into a single contiguous {@link VPackSlice} upfront.
+ * <p>
+ * As JSON, the array is written element by element, so that serialization and sending overlap. As VelocyPack, the
+ * byte length of the array precedes its elements, hence the elements are serialized first and then written as a
+ * compact array directly from their own buffers.
+ */
+public class VPackArrayBody {
+
+    private static final byte COMPACT_ARRAY = 0x13;
+    private static final byte EMPTY_ARRAY = 0x01;
+
+    private final Collection<?> values;
+    private final Function<Object, VPackSlice> serializer;
+    private List<VPackSlice> elements;
+    private byte[] header;
+    private byte[] trailer;
+    private long[] offsets;
+    private long byteSize;
+
+    /**
+     * @param values     the elements of the array
+     * @param serializer serializes a single element
+     */
+    public VPackArrayBody(final Collection<?> values, final Function<Object, VPackSlice> serializer) {
+        super();
+        this.values = values;
+        this.serializer = serializer;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Writes the array as JSON, serializing each element right before writing it.
+     */
+    public void writeJson(final OutputStream out) throws IOException {
+        out.write('[');
+        boolean first = true;
+        for (final Object value : values) {
+            if (!first) {
+                out.write(',');
+            }
+            first = false;
+            out.write(serializer.apply(value).toString().getBytes(StandardCharsets.UTF_8));
+        }
+        out.write(']');
+    }
+
+    /**
+     * @return the size in bytes of the array as VelocyPack, serializes all elements on first use
+     */
+    public long getByteSize() {
+        serialize();
+        return byteSize;
+    }
+
+    /**
+     * Writes the whole array as VelocyPack.
+     */
+    public void writeVPack(final OutputStream out) throws IOException {
+        writeVPack(out, 0, getByteSize());
+    }
+
+    /**
+     * Writes a range of the array as VelocyPack.
+     *
+     * @param offset offset in bytes of the range within the array
+     * @param length length of the range in bytes
+     */
+    public void writeVPack(final OutputStream out, final long offset, final long length) throws IOException {
+        serialize();
+        final long end = offset + length;
+        int segment = Arrays.binarySearch(offsets, offset);
+        if (segment < 0) {
+            segment = -segment - 2;
+        }
+        for (long position = offset; position < end; segment++) {
+            final long segmentStart = offsets[segment];
+            final long segmentEnd = segment + 1 < offsets.length ? offsets[segment + 1] : byteSize;
+            final int from = (int) (position - segmentStart);
+            final int len = (int) (Math.min(end, segmentEnd) - position);
+            if (len > 0) {
+                writeSegment(out, segment, from, len);
+                position += len;
+            }
+        }
+    }
+
+    /**
+     * @return the array as a single contiguous slice
+     */
+    public VPackSlice toSlice() {
+        final byte[] buffer = new byte[(int) getByteSize()];
+        final OutputStream out = new OutputStream() {
+            private int position;
+
+            @Override
+            public void write(final int b) {
+                buffer[position++] = (byte) b;
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                System.arraycopy(b, off, buffer, position, len);
+                position += len;
+            }
+        };
+        try {
+            writeVPack(out);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return new VPackSlice(buffer);
+    }
+
+    private void writeSegment(final OutputStream out, final int segment, final int from, final int len)
+            throws IOException {
+        if (segment == 0) {
+            out.write(header, from, len);
+        } else if (segment > elements.size()) {
+            out.write(trailer, from, len);
+        } else {
+            final VPackSlice element = elements.get(segment - 1);
+            out.write(element.getBuffer(), element.getStart() + from, len);
+        }
+    }
+
+    private void serialize() {
+        if (elements != null) {
+            return;
+        }
+        final List<VPackSlice> serialized = new ArrayList<>(values.size());
+        long payload = 0;
+        for (final Object value : values) {
+            final VPackSlice element = serializer.apply(value);
+            serialized.add(element);
+            payload += element.getByteSize();
+        }
+        if (serialized.isEmpty()) {
+            header = new byte[]{EMPTY_ARRAY};
+            trailer = new byte[0];
+        } else {
+            // compact array: type, byte length as varint, elements, number of elements as reversed varint
+            final int trailerLength = varIntLength(serialized.size());
+            int lengthBytes = 1;
+            while (varIntLength(1 + lengthBytes + payload + trailerLength) != lengthBytes) {
+                lengthBytes++;
+            }
+            header = new byte[1 + lengthBytes];
+            header[0] = COMPACT_ARRAY;
+            writeVarInt(header, 1, 1 + lengthBytes + payload + trailerLength);
+            final byte[] count = new byte[trailerLength];
+            writeVarInt(count, 0, serialized.size());
+            trailer = new byte[trailerLength];
+            for (int i = 0; i < trailerLength; i++) {
+                trailer[i] = count[trailerLength - 1 - i];
+            }
+        }
+        offsets = new long[serialized.size() + 2];
+        long offset = header.length;
+        for (int i = 0; i < serialized.size(); i++) {
+            offsets[i + 1] = offset;
+            offset += serialized.get(i).getByteSize();
+        }
+        offsets[serialized.size() + 1] = offset;
+        byteSize = offset + trailer.length;
+        elements = serialized;
+    }
+
+    private static int varIntLength(final long value) {
+        int length = 1;
+        for (long v = value >>> 7; v != 0; v >>>= 7) {
+            length++;
+        }
+        return length;
+    }
+
+    private static void writeVarInt(final byte[] buffer, final int offset, final long value) {
+        long v = value;
+        int i = offset;
+        while (v >= 0x80) {
+            buffer[i++] = (byte) ((v & 0x7f) | 0x80);
+            v >>>= 7;
+        }
+        buffer[i] = (byte) v;
+    }
+
+}
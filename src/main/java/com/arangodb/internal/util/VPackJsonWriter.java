@@ -0,0 +1,400 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Writes a {@link VPackSlice} as UTF-8 encoded JSON, walking the VelocyPack bytes once without building an
+ * intermediate tree or decoding strings. Objects are written in the order their attributes are stored, UTC dates as
+ * milliseconds, binary values as Base64 strings and non-finite doubles as strings, like Jackson does.
+ */
+public final class VPackJsonWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream out;
+    private byte[] buffer;
+    private int size;
+
+    private VPackJsonWriter(final OutputStream out, final int capacity) {
+        super();
+        this.out = out;
+        buffer = new byte[capacity];
+    }
+
+    /**
+     * Writes the given value as JSON to the given stream, which is neither flushed nor closed.
+     */
+    public static void write(final VPackSlice slice, final OutputStream out) throws IOException {
+        final VPackJsonWriter writer = new VPackJsonWriter(out, BUFFER_SIZE);
+        writer.value(slice.getBuffer(), slice.getStart());
+        writer.flushBuffer();
+    }
+
+    /**
+     * @return the given value as JSON
+     */
+    public static String toJson(final VPackSlice slice) {
+        final VPackJsonWriter writer = new VPackJsonWriter(null, Math.max(16, slice.getByteSize() + 16));
+        try {
+            writer.value(slice.getBuffer(), slice.getStart());
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
+        }
+        return new String(writer.buffer, 0, writer.size, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the value starting at the given position.
+     *
+     * @return the position following the value
+     */
+    private int value(final byte[] vpack, final int start) throws IOException {
+        final int head = vpack[start] & 0xff;
+        switch (head) {
+            case 0x01:
+                write('[');
+                write(']');
+                return start + 1;
+            case 0x02:
+            case 0x03:
+            case 0x04:
+            case 0x05:
+                return array(vpack, start, head - 0x02);
+            case 0x06:
+            case 0x07:
+            case 0x08:
+            case 0x09:
+                return indexed(vpack, start, head - 0x06, false);
+            case 0x0a:
+                write('{');
+                write('}');
+                return start + 1;
+            case 0x0b:
+            case 0x0c:
+            case 0x0d:
+            case 0x0e:
+                return indexed(vpack, start, head - 0x0b, true);
+            case 0x0f:
+            case 0x10:
+            case 0x11:
+            case 0x12:
+                return indexed(vpack, start, head - 0x0f, true);
+            case 0x13:
+                return compact(vpack, start, false);
+            case 0x14:
+                return compact(vpack, start, true);
+            case 0x00:
+            case 0x18:
+                write(NULL);
+                return start + 1;
+            case 0x19:
+                write(FALSE);
+                return start + 1;
+            case 0x1a:
+                write(TRUE);
+                return start + 1;
+            case 0x1b:
+                number(Double.longBitsToDouble(readInt(vpack, start + 1, 8)));
+                return start + 9;
+            case 0x1c:
+                ascii(Long.toString(readInt(vpack, start + 1, 8)));
+                return start + 9;
+            case 0xbf:
+                return string(vpack, start + 9, (int) readInt(vpack, start + 1, 8));
+            case 0xee:
+                return value(vpack, start + 2);
+            case 0xef:
+                return value(vpack, start + 9);
+            default:
+                break;
+        }
+        if (head >= 0x20 && head <= 0x27) {
+            // signed int, sign extended from its byte length
+            final int length = head - 0x1f;
+            final int shift = 64 - 8 * length;
+            ascii(Long.toString(readInt(vpack, start + 1, length) << shift >> shift));
+            return start + 1 + length;
+        }
+        if (head >= 0x28 && head <= 0x2f) {
+            final int length = head - 0x27;
+            ascii(Long.toUnsignedString(readInt(vpack, start + 1, length)));
+            return start + 1 + length;
+        }
+        if (head >= 0x30 && head <= 0x3f) {
+            ascii(Integer.toString(head <= 0x39 ? head - 0x30 : head - 0x40));
+            return start + 1;
+        }
+        if (head >= 0x40 && head <= 0xbe) {
+            return string(vpack, start + 1, head - 0x40);
+        }
+        if (head >= 0xc0 && head <= 0xc7) {
+            final int lengthSize = head - 0xbf;
+            final int length = (int) readInt(vpack, start + 1, lengthSize);
+            final int from = start + 1 + lengthSize;
+            write('"');
+            ascii(Base64.getEncoder().encodeToString(Arrays.copyOfRange(vpack, from, from + length)));
+            write('"');
+            return from + length;
+        }
+        throw new ArangoDBException(String.format("Unsupported VelocyPack type 0x%02x for JSON", head));
+    }
+
+    /**
+     * Array without index table, its members follow the byte length and optional zero padding.
+     */
+    private int array(final byte[] vpack, final int start, final int widthIndex) throws IOException {
+        final int width = 1 << widthIndex;
+        final int end = start + (int) readInt(vpack, start + 1, width);
+        int position = skipPadding(vpack, start + 1 + width);
+        write('[');
+        for (boolean first = true; position < end; first = false) {
+            if (!first) {
+                write(',');
+            }
+            position = value(vpack, position);
+        }
+        write(']');
+        return end;
+    }
+
+    /**
+     * Array or object with index table, its members follow the byte length, the number of members (stored at the end
+     * instead for 8 byte widths) and optional zero padding.
+     */
+    private int indexed(final byte[] vpack, final int start, final int widthIndex, final boolean object)
+            throws IOException {
+        final int width = 1 << widthIndex;
+        final int end = start + (int) readInt(vpack, start + 1, width);
+        final long count;
+        final int data;
+        if (width == 8) {
+            count = readInt(vpack, end - 8, 8);
+            data = start + 9;
+        } else {
+            count = readInt(vpack, start + 1 + width, width);
+            data = start + 1 + 2 * width;
+        }
+        members(vpack, skipPadding(vpack, data), count, object);
+        return end;
+    }
+
+    /**
+     * Compact array or object, its members follow the byte length as varint and are followed by their number as
+     * reversed varint.
+     */
+    private int compact(final byte[] vpack, final int start, final boolean object) throws IOException {
+        long length = 0;
+        int position = start + 1;
+        for (int shift = 0; ; shift += 7) {
+            final int b = vpack[position++];
+            length |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        final int end = start + (int) length;
+        long count = 0;
+        for (int i = end - 1, shift = 0; ; i--, shift += 7) {
+            final int b = vpack[i];
+            count |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        members(vpack, position, count, object);
+        return end;
+    }
+
+    private void members(final byte[] vpack, final int data, final long count, final boolean object)
+            throws IOException {
+        int position = data;
+        write(object ? '{' : '[');
+        for (long i = 0; i < count; i++) {
+            if (i > 0) {
+                write(',');
+            }
+            if (object) {
+                position = key(vpack, position);
+                write(':');
+            }
+            position = value(vpack, position);
+        }
+        write(object ? '}' : ']');
+    }
+
+    private int key(final byte[] vpack, final int start) throws IOException {
+        final int head = vpack[start] & 0xff;
+        final long id;
+        final int next;
+        if (head >= 0x30 && head <= 0x39) {
+            id = head - 0x30;
+            next = start + 1;
+        } else if (head >= 0x28 && head <= 0x2f) {
+            id = readInt(vpack, start + 1, head - 0x27);
+            next = start + 1 + head - 0x27;
+        } else {
+            return value(vpack, start);
+        }
+        // attribute name translated into an integer
+        final VPackSlice name = VPackSlice.attributeTranslator.translate((int) id);
+        if (name == null) {
+            throw new ArangoDBException("Unknown translated attribute name " + id);
+        }
+        value(name.getBuffer(), name.getStart());
+        return next;
+    }
+
+    /**
+     * Writes a UTF-8 string, escaping quotes, backslashes and control characters like Jackson does.
+     */
+    private int string(final byte[] vpack, final int from, final int length) throws IOException {
+        final int end = from + length;
+        write('"');
+        int copied = from;
+        for (int i = from; i < end; i++) {
+            final int b = vpack[i] & 0xff;
+            if (b >= 0x20 && b != '"' && b != '\\') {
+                continue;
+            }
+            write(vpack, copied, i - copied);
+            copied = i + 1;
+            write('\\');
+            switch (b) {
+                case '"':
+                case '\\':
+                    write(b);
+                    break;
+                case '\b':
+                    write('b');
+                    break;
+                case '\f':
+                    write('f');
+                    break;
+                case '\n':
+                    write('n');
+                    break;
+                case '\r':
+                    write('r');
+                    break;
+                case '\t':
+                    write('t');
+                    break;
+                default:
+                    write('u');
+                    write('0');
+                    write('0');
+                    write(HEX[b >> 4]);
+                    write(HEX[b & 0xf]);
+                    break;
+            }
+        }
+        write(vpack, copied, end - copied);
+        write('"');
+        return end;
+    }
+
+    private void number(final double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            write('"');
+            ascii(Double.toString(value));
+            write('"');
+        } else {
+            ascii(Double.toString(value));
+        }
+    }
+
+    private static int skipPadding(final byte[] vpack, final int position) {
+        int i = position;
+        while (vpack[i] == 0) {
+            i++;
+        }
+        return i;
+    }
+
+    private static long readInt(final byte[] vpack, final int from, final int length) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value |= (vpack[from + i] & 0xffL) << (8 * i);
+        }
+        return value;
+    }
+
+    private void ascii(final String value) throws IOException {
+        final int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[size++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void write(final int b) throws IOException {
+        ensureCapacity(1);
+        buffer[size++] = (byte) b;
+    }
+
+    private void write(final byte[] b) throws IOException {
+        write(b, 0, b.length);
+    }
+
+    private void write(final byte[] b, final int off, final int len) throws IOException {
+        if (out != null && len > buffer.length) {
+            flushBuffer();
+            out.write(b, off, len);
+            return;
+        }
+        ensureCapacity(len);
+        System.arraycopy(b, off, buffer, size, len);
+        size += len;
+    }
+
+    private void ensureCapacity(final int len) throws IOException {
+        if (size + len <= buffer.length) {
+            return;
+        }
+        if (out != null) {
+            flushBuffer();
+        }
+        if (size + len > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + len));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (size > 0) {
+            out.write(buffer, 0, size);
+            size = 0;
+        }
+    }
+
+}
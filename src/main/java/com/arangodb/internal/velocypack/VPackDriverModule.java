@@ -26,6 +26,7 @@ import com.arangodb.entity.arangosearch.ArangoSearchPropertiesEntity;
 import com.arangodb.entity.arangosearch.ConsolidationPolicy;
 import com.arangodb.entity.arangosearch.ConsolidationType;
 import com.arangodb.entity.arangosearch.analyzer.SearchAnalyzer;
+import com.arangodb.internal.util.ArrayBodyRequest;
 import com.arangodb.internal.velocystream.internal.AuthenticationRequest;
 import com.arangodb.internal.velocystream.internal.JwtAuthenticationRequest;
 import com.arangodb.model.CollectionSchema;
@@ -56,6 +57,7 @@ public class VPackDriverModule implements VPackModule, VPackParserModule {
             return field.getName();
         });
         context.registerSerializer(Request.class, VPackSerializers.REQUEST);
+        context.registerSerializer(ArrayBodyRequest.class, VPackSerializers.REQUEST::serialize);
         context.registerSerializer(AuthenticationRequest.class, VPackSerializers.AUTH_REQUEST);
         context.registerSerializer(JwtAuthenticationRequest.class, VPackSerializers.JWT_AUTH_REQUEST);
         context.registerSerializer(CollectionType.class, VPackSerializers.COLLECTION_TYPE);
@@ -26,7 +26,9 @@ import com.arangodb.internal.net.AccessType;
 import com.arangodb.internal.net.Host;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.net.HostHandler;
+import com.arangodb.internal.util.ArrayBodyRequest;
 import com.arangodb.internal.util.RequestUtils;
+import com.arangodb.internal.util.VPackArrayBody;
 import com.arangodb.internal.util.ResponseUtils;
 import com.arangodb.internal.velocystream.internal.Chunk;
 import com.arangodb.internal.velocystream.internal.Message;
@@ -45,6 +47,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author Mark Vollmary
@@ -64,6 +67,7 @@ public abstract class VstCommunication<R, C extends VstConnection> implements Cl
 
     protected final Integer chunksize;
     protected final HostHandler hostHandler;
+    private final ReentrantLock connectLock = new ReentrantLock();
 
     protected VstCommunication(final Integer timeout, final String user, final String password, final String jwt,
                                final Boolean useSsl, final SSLContext sslContext, final ArangoSerialization util,
@@ -76,8 +80,17 @@ public abstract class VstCommunication<R, C extends VstConnection> implements Cl
         this.chunksize = chunksize != null ? chunksize : ArangoDefaults.CHUNK_DEFAULT_CONTENT_SIZE;
     }
 
+    protected C connect(final HostHandle hostHandle, final AccessType accessType) {
+        connectLock.lock();
+        try {
+            return doConnect(hostHandle, accessType);
+        } finally {
+            connectLock.unlock();
+        }
+    }
+
     @SuppressWarnings("unchecked")
-    protected synchronized C connect(final HostHandle hostHandle, final AccessType accessType) {
+    private C doConnect(final HostHandle hostHandle, final AccessType accessType) {
         Host host = hostHandler.get(hostHandle, accessType);
         while (true) {
             if (host == null) {
@@ -169,17 +182,19 @@ public abstract class VstCommunication<R, C extends VstConnection> implements Cl
         request.putHeaderParam("accept", "application/x-velocypack");
         request.putHeaderParam("content-type", "application/x-velocypack");
         final long id = mId.incrementAndGet();
+        final VPackArrayBody arrayBody = ArrayBodyRequest.arrayBody(request);
+        if (arrayBody != null) {
+            // serializes the elements on the calling thread, they are written into the chunks without further copy
+            arrayBody.getByteSize();
+            return new Message(id, util.serialize(request), arrayBody);
+        }
         return new Message(id, util.serialize(request), request.getBody());
     }
 
     protected Collection<Chunk> buildChunks(final Message message) {
         final Collection<Chunk> chunks = new ArrayList<>();
         final VPackSlice head = message.getHead();
-        int size = head.getByteSize();
-        final VPackSlice body = message.getBody();
-        if (body != null) {
-            size += body.getByteSize();
-        }
+        int size = (int) (head.getByteSize() + message.getBodySize());
         final int n = size / chunksize;
         final int numberOfChunks = (size % chunksize != 0) ? (n + 1) : n;
         int off = 0;
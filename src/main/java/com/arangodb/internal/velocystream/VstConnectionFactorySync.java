@@ -20,6 +20,7 @@
 
 package com.arangodb.internal.velocystream;
 
+import com.arangodb.internal.SslHandshakeMetricsImpl;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostDescription;
@@ -36,11 +37,13 @@ public class VstConnectionFactorySync implements ConnectionFactory {
     private final VstConnectionSync.Builder builder;
 
     public VstConnectionFactorySync(final HostDescription host, final Integer timeout, final Long connectionTtl,
-                                    final Integer keepAliveInterval, final Boolean useSsl, final SSLContext sslContext) {
+                                    final Integer keepAliveInterval, final Boolean useSsl, final SSLContext sslContext,
+                                    final SslHandshakeMetricsImpl sslHandshakeMetrics, final Boolean useVirtualThreads) {
         super();
         builder = new VstConnectionSync.Builder().timeout(timeout).ttl(connectionTtl)
                 .keepAliveInterval(keepAliveInterval).useSsl(useSsl)
-                .sslContext(sslContext);
+                .sslContext(sslContext).sslHandshakeMetrics(sslHandshakeMetrics)
+                .useVirtualThreads(useVirtualThreads);
     }
 
     @Override
@@ -20,6 +20,7 @@
 
 package com.arangodb.internal.velocystream.internal;
 
+import com.arangodb.internal.util.VPackArrayBody;
 import com.arangodb.velocypack.VPackSlice;
 
 import java.nio.BufferUnderflowException;
@@ -31,7 +32,8 @@ public class Message {
 
     private final long id;
     private final VPackSlice head;
-    private final VPackSlice body;
+    private VPackSlice body;
+    private final VPackArrayBody arrayBody;
 
     public Message(final long id, final byte[] chunkBuffer) throws BufferUnderflowException, IndexOutOfBoundsException {
         super();
@@ -43,6 +45,7 @@ public class Message {
         } else {
             body = null;
         }
+        arrayBody = null;
     }
 
     public Message(final long id, final VPackSlice head, final VPackSlice body) {
@@ -50,6 +53,14 @@ public class Message {
         this.id = id;
         this.head = head;
         this.body = body;
+        arrayBody = null;
+    }
+
+    public Message(final long id, final VPackSlice head, final VPackArrayBody arrayBody) {
+        super();
+        this.id = id;
+        this.head = head;
+        this.arrayBody = arrayBody;
     }
 
     public long getId() {
@@ -61,7 +72,27 @@ public class Message {
     }
 
     public VPackSlice getBody() {
+        if (body == null && arrayBody != null) {
+            body = arrayBody.toSlice();
+        }
         return body;
     }
 
+    /**
+     * @return the array body whose elements are written directly into the chunks, or null
+     */
+    public VPackArrayBody getArrayBody() {
+        return arrayBody;
+    }
+
+    /**
+     * @return size of the body in bytes, without serializing an array body into a single slice
+     */
+    public long getBodySize() {
+        if (arrayBody != null) {
+            return arrayBody.getByteSize();
+        }
+        return body != null ? body.getByteSize() : 0;
+    }
+
 }
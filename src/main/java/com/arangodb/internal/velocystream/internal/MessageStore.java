@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author Mark Vollmary
@@ -39,6 +40,7 @@ public class MessageStore {
     private final Map<Long, FutureTask<Message>> task;
     private final Map<Long, Message> response;
     private final Map<Long, Exception> error;
+    private final ReentrantLock clearLock = new ReentrantLock();
 
     public MessageStore() {
         super();
@@ -82,28 +84,38 @@ public class MessageStore {
         }
     }
 
-    public synchronized void clear(final Exception e) {
-        if (!task.isEmpty()) {
-            LOGGER.error(e.getMessage(), e);
-        }
-        for (final Entry<Long, FutureTask<Message>> entry : task.entrySet()) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(String.format("Exceptionally complete Message (id=%s).", entry.getKey()));
+    public void clear(final Exception e) {
+        clearLock.lock();
+        try {
+            if (!task.isEmpty()) {
+                LOGGER.error(e.getMessage(), e);
             }
-            error.put(entry.getKey(), e);
-            entry.getValue().run();
+            for (final Entry<Long, FutureTask<Message>> entry : task.entrySet()) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(String.format("Exceptionally complete Message (id=%s).", entry.getKey()));
+                }
+                error.put(entry.getKey(), e);
+                entry.getValue().run();
+            }
+            task.clear();
+        } finally {
+            clearLock.unlock();
         }
-        task.clear();
     }
 
-    public synchronized void clear() {
-        for (final Entry<Long, FutureTask<Message>> entry : task.entrySet()) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(String.format("Cancel Message (id=%s).", entry.getKey()));
+    public void clear() {
+        clearLock.lock();
+        try {
+            for (final Entry<Long, FutureTask<Message>> entry : task.entrySet()) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(String.format("Cancel Message (id=%s).", entry.getKey()));
+                }
+                entry.getValue().cancel(true);
             }
-            entry.getValue().cancel(true);
+            task.clear();
+        } finally {
+            clearLock.unlock();
         }
-        task.clear();
     }
 
     public boolean isEmpty() {
@@ -22,8 +22,12 @@ package com.arangodb.internal.velocystream.internal;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.internal.ArangoDefaults;
+import com.arangodb.internal.SslHandshakeMetricsImpl;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.net.UnixDomainSocket;
+import com.arangodb.internal.util.VPackArrayBody;
+import com.arangodb.internal.util.VirtualThreads;
 import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.ValueType;
@@ -51,8 +55,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author Mark Vollmary
@@ -76,6 +82,14 @@ public abstract class VstConnection<T> implements Connection {
 
     private final Boolean useSsl;
     private final SSLContext sslContext;
+    private final SslHandshakeMetricsImpl sslHandshakeMetrics;
+    private final Boolean useVirtualThreads;
+
+    /**
+     * Guards opening, closing and writing to the socket. A {@link ReentrantLock} is used instead of monitors, so that
+     * virtual threads blocking on socket I/O do not pin their carrier thread.
+     */
+    protected final ReentrantLock lock = new ReentrantLock();
 
     private Socket socket;
     private OutputStream outputStream;
@@ -107,6 +121,8 @@ public abstract class VstConnection<T> implements Connection {
                             final Integer keepAliveInterval,
                             final Boolean useSsl,
                             final SSLContext sslContext,
+                            final SslHandshakeMetricsImpl sslHandshakeMetrics,
+                            final Boolean useVirtualThreads,
                             final MessageStore messageStore) {
         super();
         this.host = host;
@@ -115,6 +131,8 @@ public abstract class VstConnection<T> implements Connection {
         this.keepAliveInterval = keepAliveInterval;
         this.useSsl = useSsl;
         this.sslContext = sslContext;
+        this.sslHandshakeMetrics = sslHandshakeMetrics != null ? sslHandshakeMetrics : new SslHandshakeMetricsImpl();
+        this.useVirtualThreads = useVirtualThreads;
         this.messageStore = messageStore;
 
         connectionName = "connection_" + System.currentTimeMillis() + "_" + Math.random();
@@ -123,7 +141,7 @@ public abstract class VstConnection<T> implements Connection {
 
     protected T sendKeepAlive() {
         long id = keepAliveId.decrementAndGet();
-        Message message = new Message(id, keepAliveRequest, null);
+        Message message = new Message(id, keepAliveRequest, (VPackSlice) null);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(String.format("[%s]: Send keepalive probe (id=%s, head=%s, body=%s)", connectionName, message.getId(), message.getHead(),
                     message.getBody() != null ? message.getBody() : "{}"));
@@ -157,25 +175,40 @@ public abstract class VstConnection<T> implements Connection {
         return socket != null && socket.isConnected() && !socket.isClosed();
     }
 
-    public synchronized void open() throws IOException {
-        if (isOpen()) {
-            return;
+    public void open() throws IOException {
+        lock.lock();
+        try {
+            if (isOpen()) {
+                return;
+            }
+            doOpen();
+        } finally {
+            lock.unlock();
         }
+    }
+
+    private void doOpen() throws IOException {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(String.format("[%s]: Open connection to %s", connectionName, host));
         }
-        if (Boolean.TRUE == useSsl) {
-            if (sslContext != null) {
-                socket = sslContext.getSocketFactory().createSocket();
+        if (host.isUnixSocket()) {
+            final UnixDomainSocket unixSocket = new UnixDomainSocket(host.getHost());
+            socket = unixSocket;
+            unixSocket.connect();
+        } else {
+            if (Boolean.TRUE == useSsl) {
+                if (sslContext != null) {
+                    socket = sslContext.getSocketFactory().createSocket();
+                } else {
+                    socket = SSLSocketFactory.getDefault().createSocket();
+                }
             } else {
-                socket = SSLSocketFactory.getDefault().createSocket();
+                socket = SocketFactory.getDefault().createSocket();
             }
-        } else {
-            socket = SocketFactory.getDefault().createSocket();
+            socket.connect(new InetSocketAddress(host.getHost(), host.getPort()), timeout != null ? timeout : ArangoDefaults.DEFAULT_TIMEOUT);
+            socket.setKeepAlive(true);
+            socket.setTcpNoDelay(true);
         }
-        socket.connect(new InetSocketAddress(host.getHost(), host.getPort()), timeout != null ? timeout : ArangoDefaults.DEFAULT_TIMEOUT);
-        socket.setKeepAlive(true);
-        socket.setTcpNoDelay(true);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(String.format("[%s]: Connected to %s", connectionName, socket));
         }
@@ -183,15 +216,18 @@ public abstract class VstConnection<T> implements Connection {
         outputStream = new BufferedOutputStream(socket.getOutputStream());
         inputStream = socket.getInputStream();
 
-        if (Boolean.TRUE == useSsl) {
+        if (socket instanceof SSLSocket) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug(String.format("[%s]: Start Handshake on %s", connectionName, socket));
             }
-            ((SSLSocket) socket).startHandshake();
+            sslHandshakeMetrics.handshake((SSLSocket) socket);
         }
         sendProtocolHeader();
 
-        executor = Executors.newSingleThreadExecutor();
+        final ThreadFactory threadFactory = Boolean.TRUE == useVirtualThreads
+                ? VirtualThreads.factory("arangodb-vst-")
+                : Executors.defaultThreadFactory();
+        executor = Executors.newSingleThreadExecutor(threadFactory);
         executor.submit((Callable<Void>) () -> {
             LOGGER.debug("[" + connectionName + "]: Start Callable");
 
@@ -230,34 +266,39 @@ public abstract class VstConnection<T> implements Connection {
         });
 
         if (keepAliveInterval != null) {
-            keepAliveScheduler = Executors.newScheduledThreadPool(1);
+            keepAliveScheduler = Executors.newScheduledThreadPool(1, threadFactory);
             keepAliveScheduler.scheduleAtFixedRate(this::keepAlive, 0, keepAliveInterval, TimeUnit.SECONDS);
         }
 
     }
 
     @Override
-    public synchronized void close() {
-        if (keepAliveScheduler != null) {
-            keepAliveScheduler.shutdownNow();
-        }
-        messageStore.clear();
-        if (executor != null && !executor.isShutdown()) {
-            executor.shutdown();
-        }
-        if (socket != null && !socket.isClosed()) {
-            try {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("[%s]: Close connection %s", connectionName, socket));
+    public void close() {
+        lock.lock();
+        try {
+            if (keepAliveScheduler != null) {
+                keepAliveScheduler.shutdownNow();
+            }
+            messageStore.clear();
+            if (executor != null && !executor.isShutdown()) {
+                executor.shutdown();
+            }
+            if (socket != null && !socket.isClosed()) {
+                try {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(String.format("[%s]: Close connection %s", connectionName, socket));
+                    }
+                    socket.close();
+                } catch (final IOException e) {
+                    throw new ArangoDBException(e);
                 }
-                socket.close();
-            } catch (final IOException e) {
-                throw new ArangoDBException(e);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
-    private synchronized void sendProtocolHeader() throws IOException {
+    private void sendProtocolHeader() throws IOException {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(String.format("[%s]: Send velocystream protocol header to %s", connectionName, socket));
         }
@@ -265,8 +306,17 @@ public abstract class VstConnection<T> implements Connection {
         outputStream.flush();
     }
 
-    protected synchronized void writeIntern(final Message message, final Collection<Chunk> chunks)
+    protected void writeIntern(final Message message, final Collection<Chunk> chunks)
             throws ArangoDBException {
+        lock.lock();
+        try {
+            writeChunks(message, chunks);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeChunks(final Message message, final Collection<Chunk> chunks) throws ArangoDBException {
         for (final Chunk chunk : chunks) {
             try {
                 if (LOGGER.isDebugEnabled()) {
@@ -282,11 +332,17 @@ public abstract class VstConnection<T> implements Connection {
                 int written = 0;
                 if (contentOffset < headLength) {
                     written = Math.min(contentLength, headLength - contentOffset);
-                    outputStream.write(head.getBuffer(), contentOffset, written);
+                    outputStream.write(head.getBuffer(), head.getStart() + contentOffset, written);
                 }
                 if (written < contentLength) {
-                    final VPackSlice body = message.getBody();
-                    outputStream.write(body.getBuffer(), contentOffset + written - headLength, contentLength - written);
+                    final VPackArrayBody arrayBody = message.getArrayBody();
+                    if (arrayBody != null) {
+                        arrayBody.writeVPack(outputStream, contentOffset + written - headLength, contentLength - written);
+                    } else {
+                        final VPackSlice body = message.getBody();
+                        outputStream.write(body.getBuffer(), body.getStart() + contentOffset + written - headLength,
+                                contentLength - written);
+                    }
                 }
                 outputStream.flush();
             } catch (final IOException e) {
@@ -296,7 +352,7 @@ public abstract class VstConnection<T> implements Connection {
         }
     }
 
-    private synchronized void writeChunkHead(final Chunk chunk) throws IOException {
+    private void writeChunkHead(final Chunk chunk) throws IOException {
         final long messageLength = chunk.getMessageLength();
         final int headLength = messageLength > -1L ? ArangoDefaults.CHUNK_MAX_HEADER_SIZE
                 : ArangoDefaults.CHUNK_MIN_HEADER_SIZE;
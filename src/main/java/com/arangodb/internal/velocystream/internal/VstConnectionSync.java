@@ -21,6 +21,7 @@
 package com.arangodb.internal.velocystream.internal;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.internal.SslHandshakeMetricsImpl;
 import com.arangodb.internal.net.HostDescription;
 
 import javax.net.ssl.SSLContext;
@@ -42,6 +43,8 @@ public class VstConnectionSync extends VstConnection<Message> {
         private Integer keepAliveInterval;
         private Boolean useSsl;
         private SSLContext sslContext;
+        private SslHandshakeMetricsImpl sslHandshakeMetrics;
+        private Boolean useVirtualThreads;
 
         public Builder host(final HostDescription host) {
             this.host = host;
@@ -68,6 +71,16 @@ public class VstConnectionSync extends VstConnection<Message> {
             return this;
         }
 
+        public Builder sslHandshakeMetrics(final SslHandshakeMetricsImpl sslHandshakeMetrics) {
+            this.sslHandshakeMetrics = sslHandshakeMetrics;
+            return this;
+        }
+
+        public Builder useVirtualThreads(final Boolean useVirtualThreads) {
+            this.useVirtualThreads = useVirtualThreads;
+            return this;
+        }
+
         public Builder ttl(final Long ttl) {
             this.ttl = ttl;
             return this;
@@ -80,13 +93,14 @@ public class VstConnectionSync extends VstConnection<Message> {
 
         public VstConnectionSync build() {
             return new VstConnectionSync(host, timeout, ttl, keepAliveInterval,
-                    useSsl, sslContext, messageStore);
+                    useSsl, sslContext, sslHandshakeMetrics, useVirtualThreads, messageStore);
         }
     }
 
     private VstConnectionSync(final HostDescription host, final Integer timeout, final Long ttl, final Integer keepAliveInterval,
-                              final Boolean useSsl, final SSLContext sslContext, final MessageStore messageStore) {
-        super(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, messageStore);
+                              final Boolean useSsl, final SSLContext sslContext, final SslHandshakeMetricsImpl sslHandshakeMetrics,
+                              final Boolean useVirtualThreads, final MessageStore messageStore) {
+        super(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, sslHandshakeMetrics, useVirtualThreads, messageStore);
     }
 
     @Override
@@ -26,6 +26,7 @@ import com.arangodb.entity.BaseEdgeDocument;
 import com.arangodb.internal.mapping.ArangoAnnotationIntrospector;
 import com.arangodb.internal.mapping.VPackDeserializers;
 import com.arangodb.internal.mapping.VPackSerializers;
+import com.arangodb.internal.util.VPackJsonWriter;
 import com.arangodb.jackson.dataformat.velocypack.VPackMapper;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.util.ArangoSerializer;
@@ -34,14 +35,13 @@ import com.arangodb.velocypack.VPackSlice;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -55,9 +55,10 @@ public class ArangoJack implements ArangoSerialization {
         void configure(ObjectMapper mapper);
     }
 
+    private static final ThreadLocal<SliceOutputStream> OUTPUT = ThreadLocal.withInitial(SliceOutputStream::new);
+
     private final ObjectMapper vpackMapper;
     private final ObjectMapper vpackMapperNull;
-    private final ObjectMapper jsonMapper;
     private final VPackParser vpackParser;
 
     private static final class ArangoModule extends SimpleModule {
@@ -104,14 +105,12 @@ public class ArangoJack implements ArangoSerialization {
         super();
         vpackMapper = mapper.copy().setSerializationInclusion(Include.NON_NULL);
         vpackMapperNull = mapper.copy().setSerializationInclusion(Include.ALWAYS);
-        jsonMapper = new ObjectMapper().setSerializationInclusion(Include.NON_NULL);
         vpackParser = new VPackParser.Builder().build();
     }
 
     public void configure(final ArangoJack.ConfigureFunction f) {
         f.configure(vpackMapper);
         f.configure(vpackMapperNull);
-        f.configure(jsonMapper);
     }
 
     @Override
@@ -136,31 +135,42 @@ public class ArangoJack implements ArangoSerialization {
                 if (iterator.hasNext() && String.class.isAssignableFrom(iterator.next().getClass())) {
                     vpack = vpackParser.fromJson((Iterable<String>) entity, serializeNullValues);
                 } else {
-                    final ObjectMapper vp = serializeNullValues ? vpackMapperNull : vpackMapper;
-                    vpack = new VPackSlice(vp.writeValueAsBytes(entity));
+                    vpack = serialize(serializeNullValues ? vpackMapperNull : vpackMapper, entity);
                 }
             } else {
-                final ObjectMapper vp = serializeNullValues ? vpackMapperNull : vpackMapper;
-                vpack = new VPackSlice(vp.writeValueAsBytes(entity));
+                vpack = serialize(serializeNullValues ? vpackMapperNull : vpackMapper, entity);
             }
             return vpack;
-        } catch (final JsonProcessingException e) {
+        } catch (final IOException e) {
             throw new ArangoDBException(e);
         }
     }
 
+    private static VPackSlice serialize(final ObjectMapper vp, final Object entity) throws IOException {
+        SliceOutputStream out = OUTPUT.get();
+        if (out.inUse) {
+            // nested serialization from within a custom serializer
+            out = new SliceOutputStream();
+        }
+        out.inUse = true;
+        try {
+            vp.writeValue(out, entity);
+            return out.toSlice();
+        } finally {
+            out.reset();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T deserialize(final VPackSlice vpack, final Type type) throws ArangoDBException {
         try {
             final T doc;
             if (type == String.class && !vpack.isString() && !vpack.isNull()) {
-                final JsonNode node = vpackMapper.readTree(
-                        Arrays.copyOfRange(vpack.getBuffer(), vpack.getStart(), vpack.getStart() + vpack.getByteSize()));
-                doc = (T) jsonMapper.writeValueAsString(node);
+                doc = (T) VPackJsonWriter.toJson(vpack);
             } else {
                 doc = vpackMapper.readValue(vpack.getBuffer(), vpack.getStart(), vpack.getStart() + vpack.getByteSize(),
-                        (Class<T>) type);
+                        vpackMapper.getTypeFactory().constructType(type));
             }
             return doc;
         } catch (final IOException e) {
@@ -168,4 +178,71 @@ public class ArangoJack implements ArangoSerialization {
         }
     }
 
+    /**
+     * Output of the serialization of a single value, reused by the serializing thread instead of the temporary
+     * buffers of {@link ObjectMapper#writeValueAsBytes(Object)}. The VelocyPack generator writes the complete value
+     * with a single call on close, using a newly allocated array of the exact size, which is taken over as buffer of
+     * the resulting slice instead of being copied. Any other sequence of writes is collected in a growable buffer,
+     * allocated on first use and kept for the next serialization unless it grew too large.
+     */
+    private static final class SliceOutputStream extends OutputStream {
+
+        private static final int INITIAL_SIZE = 256;
+        private static final int MAX_RETAINED_SIZE = 64 * 1024;
+        private static final byte[] EMPTY = new byte[0];
+
+        private byte[] buffer = EMPTY;
+        private int size;
+        private byte[] taken;
+        private boolean inUse;
+
+        @Override
+        public void write(final int b) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            if (size == 0 && taken == null && off == 0 && len == b.length) {
+                taken = b;
+                return;
+            }
+            ensureCapacity(len);
+            System.arraycopy(b, off, buffer, size, len);
+            size += len;
+        }
+
+        private void ensureCapacity(final int len) {
+            if (taken != null) {
+                // a write following the single taken over array, move it into the buffer
+                final byte[] t = taken;
+                taken = null;
+                grow(t.length);
+                System.arraycopy(t, 0, buffer, 0, t.length);
+                size = t.length;
+            }
+            grow(len);
+        }
+
+        private void grow(final int len) {
+            if (size + len > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(Math.max(buffer.length << 1, INITIAL_SIZE), size + len));
+            }
+        }
+
+        private VPackSlice toSlice() {
+            return new VPackSlice(taken != null ? taken : Arrays.copyOf(buffer, size));
+        }
+
+        private void reset() {
+            taken = null;
+            size = 0;
+            inUse = false;
+            if (buffer.length > MAX_RETAINED_SIZE) {
+                buffer = EMPTY;
+            }
+        }
+    }
+
 }
@@ -27,6 +27,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 /**
  * @author Mark Vollmary
@@ -50,6 +51,22 @@ public class AqlQueryOptions implements Serializable {
     @Expose(serialize = false)
     private Boolean allowDirtyRead;
     private String streamTransactionId;
+    @Expose(serialize = false)
+    private Integer prefetchBatches;
+    @Expose(serialize = false)
+    private Long prefetchMaxBytes;
+    @Expose(serialize = false)
+    private transient Executor deserializationExecutor;
+    @Expose(serialize = false)
+    private transient Executor publisherExecutor;
+    @Expose(serialize = false)
+    private Boolean compressRequest;
+    @Expose(serialize = false)
+    private Boolean adaptiveBatchSize;
+    @Expose(serialize = false)
+    private Long targetBatchBytes;
+    @Expose(serialize = false)
+    private Long targetBatchLatency;
 
     public AqlQueryOptions() {
         super();
@@ -480,4 +497,130 @@ public class AqlQueryOptions implements Serializable {
         return this;
     }
 
+    public Integer getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    /**
+     * @param prefetchBatches number of batches to fetch in the background while the current batch is being consumed,
+     *                        only applies to {@link com.arangodb.ArangoCursor}s of the synchronous driver. If not set
+     *                        or {@code 0}, the next batch is fetched when the current one has been consumed.
+     * @return options
+     */
+    public AqlQueryOptions prefetchBatches(final Integer prefetchBatches) {
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
+    public Long getPrefetchMaxBytes() {
+        return prefetchMaxBytes;
+    }
+
+    /**
+     * @param prefetchMaxBytes upper bound of the size in bytes of the prefetched batches, see
+     *                         {@link #prefetchBatches(Integer)}. Further batches are fetched as long as the buffered
+     *                         ones are smaller (default: 16 MiB). A batch is always fetched while none is buffered.
+     *                         Must be positive.
+     * @return options
+     */
+    public AqlQueryOptions prefetchMaxBytes(final Long prefetchMaxBytes) {
+        if (prefetchMaxBytes != null && prefetchMaxBytes <= 0) {
+            throw new IllegalArgumentException("prefetchMaxBytes must be positive: " + prefetchMaxBytes);
+        }
+        this.prefetchMaxBytes = prefetchMaxBytes;
+        return this;
+    }
+
+    public Executor getDeserializationExecutor() {
+        return deserializationExecutor;
+    }
+
+    /**
+     * @param deserializationExecutor executor to deserialize the result batches on. Each batch is split into chunks
+     *                                which are deserialized in parallel as soon as the batch has been fetched, the
+     *                                order of the results is kept. Chunks not yet started by the executor are
+     *                                deserialized by the consuming thread, which may thus run on the executor too. If
+     *                                not set, each result is deserialized when it is consumed, on the consuming thread.
+     * @return options
+     */
+    public AqlQueryOptions deserializationExecutor(final Executor deserializationExecutor) {
+        this.deserializationExecutor = deserializationExecutor;
+        return this;
+    }
+
+    public Executor getPublisherExecutor() {
+        return publisherExecutor;
+    }
+
+    /**
+     * @param publisherExecutor executor to perform the requests of a
+     *                          {@link com.arangodb.ArangoDatabase#queryPublisher(String, Map, AqlQueryOptions, Class)}
+     *                          on, one at a time. If not set, each request is performed on a new daemon thread.
+     * @return options
+     */
+    public AqlQueryOptions publisherExecutor(final Executor publisherExecutor) {
+        this.publisherExecutor = publisherExecutor;
+        return this;
+    }
+
+    public Boolean getCompressRequest() {
+        return compressRequest;
+    }
+
+    /**
+     * @param compressRequest whether to compress the request creating the cursor over HTTP regardless of its size,
+     *                        overriding {@link com.arangodb.ArangoDB.Builder#compressionThreshold(Integer)}, e.g. for
+     *                        queries with large bind parameters. Has no effect if the client does not compress, see
+     *                        {@link com.arangodb.ArangoDB.Builder#compression(com.arangodb.Compression)}.
+     * @return options
+     */
+    public AqlQueryOptions compressRequest(final Boolean compressRequest) {
+        this.compressRequest = compressRequest;
+        return this;
+    }
+
+    public Boolean getAdaptiveBatchSize() {
+        return adaptiveBatchSize;
+    }
+
+    /**
+     * @param adaptiveBatchSize If set to {@code true} and {@link #batchSize(Integer)} is not set, the batch size is
+     *                          chosen from the sizes and fetch latencies of the batches of previous executions of the
+     *                          same query, see {@link #targetBatchBytes(Long)} and {@link #targetBatchLatency(Long)}.
+     *                          The chosen sizes are reported by {@link com.arangodb.ArangoMetrics#getCursorBatchSizes()}.
+     * @return options
+     */
+    public AqlQueryOptions adaptiveBatchSize(final Boolean adaptiveBatchSize) {
+        this.adaptiveBatchSize = adaptiveBatchSize;
+        return this;
+    }
+
+    public Long getTargetBatchBytes() {
+        return targetBatchBytes;
+    }
+
+    /**
+     * @param targetBatchBytes target size of a batch in bytes, if {@link #adaptiveBatchSize(Boolean)} is set
+     *                         (default: 1 MiB)
+     * @return options
+     */
+    public AqlQueryOptions targetBatchBytes(final Long targetBatchBytes) {
+        this.targetBatchBytes = targetBatchBytes;
+        return this;
+    }
+
+    public Long getTargetBatchLatency() {
+        return targetBatchLatency;
+    }
+
+    /**
+     * @param targetBatchLatency target time to fetch a batch in milliseconds, if {@link #adaptiveBatchSize(Boolean)}
+     *                           is set (default: 100)
+     * @return options
+     */
+    public AqlQueryOptions targetBatchLatency(final Long targetBatchLatency) {
+        this.targetBatchLatency = targetBatchLatency;
+        return this;
+    }
+
 }
@@ -0,0 +1,39 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.model;
+
+/**
+ * Result mode of the compact multi-document operations, such as
+ * {@link com.arangodb.ArangoCollection#insertDocumentsCompact(java.util.Collection, DocumentCreateOptions,
+ * BulkResultMode)}.
+ */
+public enum BulkResultMode {
+
+    /**
+     * Keys and revisions of the processed documents, and the errors
+     */
+    COMPACT,
+
+    /**
+     * Only the errors, successfully processed documents are skipped while reading the response
+     */
+    FAILURES_ONLY
+
+}
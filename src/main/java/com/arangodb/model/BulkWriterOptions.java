@@ -0,0 +1,117 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.model;
+
+/**
+ * Options of {@link com.arangodb.ArangoCollection#bulkWriter(Class, BulkWriterOptions)}.
+ */
+public class BulkWriterOptions {
+
+    private Integer batchSize;
+    private Long batchBytes;
+    private Long lingerTime;
+    private Integer maxInFlightBatches;
+    private DocumentCreateOptions insertOptions;
+    private DocumentUpdateOptions updateOptions;
+
+    public BulkWriterOptions() {
+        super();
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of documents sent in a single request (default: 1000)
+     * @return options
+     */
+    public BulkWriterOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Long getBatchBytes() {
+        return batchBytes;
+    }
+
+    /**
+     * @param batchBytes size of the serialized documents in bytes from which a batch is sent (default: 4 MiB)
+     * @return options
+     */
+    public BulkWriterOptions batchBytes(final Long batchBytes) {
+        this.batchBytes = batchBytes;
+        return this;
+    }
+
+    public Long getLingerTime() {
+        return lingerTime;
+    }
+
+    /**
+     * @param lingerTime maximum time in milliseconds an operation waits for its batch to fill up (default: 10)
+     * @return options
+     */
+    public BulkWriterOptions lingerTime(final Long lingerTime) {
+        this.lingerTime = lingerTime;
+        return this;
+    }
+
+    public Integer getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    /**
+     * @param maxInFlightBatches maximum number of batches sent at the same time, further batches block the submitting
+     *                           threads (default: 4)
+     * @return options
+     */
+    public BulkWriterOptions maxInFlightBatches(final Integer maxInFlightBatches) {
+        this.maxInFlightBatches = maxInFlightBatches;
+        return this;
+    }
+
+    public DocumentCreateOptions getInsertOptions() {
+        return insertOptions;
+    }
+
+    /**
+     * @param insertOptions options of the insert requests, {@code silent} is not supported
+     * @return options
+     */
+    public BulkWriterOptions insertOptions(final DocumentCreateOptions insertOptions) {
+        this.insertOptions = insertOptions;
+        return this;
+    }
+
+    public DocumentUpdateOptions getUpdateOptions() {
+        return updateOptions;
+    }
+
+    /**
+     * @param updateOptions options of the update requests, {@code silent} and {@code ifMatch} are not supported
+     * @return options
+     */
+    public BulkWriterOptions updateOptions(final DocumentUpdateOptions updateOptions) {
+        this.updateOptions = updateOptions;
+        return this;
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.model;
+
+/**
+ * Options of {@link com.arangodb.ArangoCollection#parallelScan(Class, CollectionScanOptions,
+ * java.util.function.Consumer)}.
+ */
+public class CollectionScanOptions {
+
+    private Integer parallelism;
+    private Integer batchSize;
+    private Integer minPartitionSize;
+
+    public CollectionScanOptions() {
+        super();
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism maximum number of cursors read at the same time (default: the number of available
+     *                    processors)
+     * @return options
+     */
+    public CollectionScanOptions parallelism(final Integer parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of documents in a batch of each cursor
+     * @return options
+     */
+    public CollectionScanOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Integer getMinPartitionSize() {
+        return minPartitionSize;
+    }
+
+    /**
+     * @param minPartitionSize minimum number of documents of a key range scanned by a single cursor, on a single
+     *                         server (default: 10000)
+     * @return options
+     */
+    public CollectionScanOptions minPartitionSize(final Integer minPartitionSize) {
+        this.minPartitionSize = minPartitionSize;
+        return this;
+    }
+
+}
@@ -36,6 +36,7 @@ public class DocumentCreateOptions {
     private Boolean silent;
     private String streamTransactionId;
     private Boolean mergeObjects;
+    private Boolean compressRequest;
 
 
     public DocumentCreateOptions() {
@@ -166,4 +167,20 @@ public class DocumentCreateOptions {
         return this;
     }
 
+    public Boolean getCompressRequest() {
+        return compressRequest;
+    }
+
+    /**
+     * @param compressRequest whether to compress the request body over HTTP regardless of its size, overriding
+     *                        {@link com.arangodb.ArangoDB.Builder#compressionThreshold(Integer)}. Has no effect if
+     *                        the client does not compress, see
+     *                        {@link com.arangodb.ArangoDB.Builder#compression(com.arangodb.Compression)}.
+     * @return options
+     */
+    public DocumentCreateOptions compressRequest(final Boolean compressRequest) {
+        this.compressRequest = compressRequest;
+        return this;
+    }
+
 }
@@ -33,6 +33,8 @@ public class DocumentDeleteOptions {
     private Boolean returnOld;
     private Boolean silent;
     private String streamTransactionId;
+    private Integer batchSize;
+    private Integer parallelism;
 
     public DocumentDeleteOptions() {
         super();
@@ -106,4 +108,33 @@ public class DocumentDeleteOptions {
         return this;
     }
 
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of documents sent in a single request, larger sets are split into several
+     *                  requests whose results are merged in input order (default: no split, as the documents of a
+     *                  single request are removed in one transaction on single servers)
+     * @return options
+     */
+    public DocumentDeleteOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism maximum number of requests of a split key set executed at the same time (default: 4). The
+     *                    requests are executed one after the other within a stream transaction.
+     * @return options
+     */
+    public DocumentDeleteOptions parallelism(final Integer parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
 }
@@ -36,6 +36,7 @@ public class DocumentImportOptions {
     private OnDuplicate onDuplicate;
     private Boolean complete;
     private Boolean details;
+    private Boolean compressRequest;
 
     public DocumentImportOptions() {
         super();
@@ -150,4 +151,20 @@ public class DocumentImportOptions {
         return this;
     }
 
+    public Boolean getCompressRequest() {
+        return compressRequest;
+    }
+
+    /**
+     * @param compressRequest whether to compress the request body over HTTP regardless of its size, overriding
+     *                        {@link com.arangodb.ArangoDB.Builder#compressionThreshold(Integer)}. Has no effect if
+     *                        the client does not compress, see
+     *                        {@link com.arangodb.ArangoDB.Builder#compression(com.arangodb.Compression)}.
+     * @return options
+     */
+    public DocumentImportOptions compressRequest(final Boolean compressRequest) {
+        this.compressRequest = compressRequest;
+        return this;
+    }
+
 }
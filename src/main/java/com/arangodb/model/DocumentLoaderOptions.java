@@ -0,0 +1,90 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+/**
+ * Options of {@link com.arangodb.ArangoCollection#documentLoader(Class, DocumentLoaderOptions)}.
+ */
+public class DocumentLoaderOptions {
+
+    private Integer batchSize;
+    private Long maxDelay;
+    private Integer maxInFlightBatches;
+    private DocumentReadOptions readOptions;
+
+    public DocumentLoaderOptions() {
+        super();
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of keys read in a single request (default: 100)
+     * @return options
+     */
+    public DocumentLoaderOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * @param maxDelay maximum time in microseconds a read waits for further reads to be sent with (default: 1000)
+     * @return options
+     */
+    public DocumentLoaderOptions maxDelay(final Long maxDelay) {
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+    public Integer getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    /**
+     * @param maxInFlightBatches maximum number of requests sent at the same time, further batches are queued
+     *                           (default: 4)
+     * @return options
+     */
+    public DocumentLoaderOptions maxInFlightBatches(final Integer maxInFlightBatches) {
+        this.maxInFlightBatches = maxInFlightBatches;
+        return this;
+    }
+
+    public DocumentReadOptions getReadOptions() {
+        return readOptions;
+    }
+
+    /**
+     * @param readOptions options of the read requests, {@code ifMatch} and {@code ifNoneMatch} are not supported
+     * @return options
+     */
+    public DocumentLoaderOptions readOptions(final DocumentReadOptions readOptions) {
+        this.readOptions = readOptions;
+        return this;
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+/**
+ * Options of {@link com.arangodb.ArangoCollection#documentReadCache(Class, DocumentReadCacheOptions)}.
+ */
+public class DocumentReadCacheOptions {
+
+    private Long maximumSize;
+    private Long maximumWeight;
+    private Long timeToLive;
+
+    public DocumentReadCacheOptions() {
+        super();
+    }
+
+    public Long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @param maximumSize maximum number of cached documents (default: 10000)
+     * @return options
+     */
+    public DocumentReadCacheOptions maximumSize(final Long maximumSize) {
+        this.maximumSize = maximumSize;
+        return this;
+    }
+
+    public Long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * @param maximumWeight maximum total size in bytes of the cached documents in VelocyPack format (default: no limit)
+     * @return options
+     */
+    public DocumentReadCacheOptions maximumWeight(final Long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+        return this;
+    }
+
+    public Long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * @param timeToLive time in milliseconds during which a cached document is returned without contacting the server,
+     *                   afterwards it is revalidated with its revision (default: 10000)
+     * @return options
+     */
+    public DocumentReadCacheOptions timeToLive(final Long timeToLive) {
+        this.timeToLive = timeToLive;
+        return this;
+    }
+
+}
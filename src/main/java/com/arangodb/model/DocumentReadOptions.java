@@ -36,6 +36,8 @@ public class DocumentReadOptions {
     @Expose(serialize = false)
     private Boolean allowDirtyRead;
     private String streamTransactionId;
+    private Integer batchSize;
+    private Integer parallelism;
 
     public DocumentReadOptions() {
         super();
@@ -111,4 +113,34 @@ public class DocumentReadOptions {
         return this;
     }
 
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of keys sent in a single request, larger key sets are split into several
+     *                  requests whose results are merged in input order (default: no split, as the documents of a
+     *                  single request are read from one snapshot, while split requests may observe writes performed
+     *                  between them)
+     * @return options
+     */
+    public DocumentReadOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism maximum number of requests of a split key set executed at the same time (default: 4). The
+     *                    requests are executed one after the other within a stream transaction.
+     * @return options
+     */
+    public DocumentReadOptions parallelism(final Integer parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
 }
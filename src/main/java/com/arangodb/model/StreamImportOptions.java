@@ -0,0 +1,123 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.model;
+
+import com.arangodb.entity.DocumentImportProgress;
+
+import java.util.function.Consumer;
+
+/**
+ * Options of the streaming variants of {@link com.arangodb.ArangoCollection#importDocuments(java.util.Iterator,
+ * StreamImportOptions)}.
+ */
+public class StreamImportOptions {
+
+    private DocumentImportOptions importOptions;
+    private Integer batchSize;
+    private Long batchBytes;
+    private Integer parallelism;
+    private Long maxInFlightBytes;
+    private Consumer<DocumentImportProgress> progressListener;
+
+    public StreamImportOptions() {
+        super();
+    }
+
+    public DocumentImportOptions getImportOptions() {
+        return importOptions;
+    }
+
+    /**
+     * @param importOptions options of each import request
+     * @return options
+     */
+    public StreamImportOptions importOptions(final DocumentImportOptions importOptions) {
+        this.importOptions = importOptions;
+        return this;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of documents sent in a single request (default: 10000)
+     * @return options
+     */
+    public StreamImportOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Long getBatchBytes() {
+        return batchBytes;
+    }
+
+    /**
+     * @param batchBytes size of the documents in bytes from which a batch is sent (default: 4 MiB). For input
+     *                   streams, the size of a document is the length of its JSON text.
+     * @return options
+     */
+    public StreamImportOptions batchBytes(final Long batchBytes) {
+        this.batchBytes = batchBytes;
+        return this;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism maximum number of batches sent at the same time (default: 4)
+     * @return options
+     */
+    public StreamImportOptions parallelism(final Integer parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public Long getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    /**
+     * @param maxInFlightBytes maximum size of the documents of the batches sent at the same time, reading the input
+     *                         is suspended until enough batches have been imported (default: 64 MiB)
+     * @return options
+     */
+    public StreamImportOptions maxInFlightBytes(final Long maxInFlightBytes) {
+        this.maxInFlightBytes = maxInFlightBytes;
+        return this;
+    }
+
+    public Consumer<DocumentImportProgress> getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * @param progressListener invoked after each imported batch, by one thread at a time
+     * @return options
+     */
+    public StreamImportOptions progressListener(final Consumer<DocumentImportProgress> progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+/**
+ * Options of {@link com.arangodb.ArangoCollection#writeBehindBuffer(WriteBehindOptions)}.
+ */
+public class WriteBehindOptions {
+
+    private Long maxStaleness;
+    private Integer batchSize;
+    private Integer maxPendingDocuments;
+    private DocumentUpdateOptions updateOptions;
+
+    public WriteBehindOptions() {
+        super();
+    }
+
+    public Long getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    /**
+     * @param maxStaleness maximum time in milliseconds an update stays in the buffer before being sent (default: 1000)
+     * @return options
+     */
+    public WriteBehindOptions maxStaleness(final Long maxStaleness) {
+        this.maxStaleness = maxStaleness;
+        return this;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of documents sent in a single request, the pending updates are sent as soon as
+     *                  this number of documents is reached (default: 1000)
+     * @return options
+     */
+    public WriteBehindOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Integer getMaxPendingDocuments() {
+        return maxPendingDocuments;
+    }
+
+    /**
+     * @param maxPendingDocuments maximum number of documents with pending updates, further documents block the
+     *                            submitting threads until the pending updates have been sent (default: 10000)
+     * @return options
+     */
+    public WriteBehindOptions maxPendingDocuments(final Integer maxPendingDocuments) {
+        this.maxPendingDocuments = maxPendingDocuments;
+        return this;
+    }
+
+    public DocumentUpdateOptions getUpdateOptions() {
+        return updateOptions;
+    }
+
+    /**
+     * @param updateOptions options of the update requests, {@code mergeObjects} also applies to the merging of buffered
+     *                      updates. {@code silent} and {@code ifMatch} are not supported, {@code returnNew} and
+     *                      {@code returnOld} are ignored.
+     * @return options
+     */
+    public WriteBehindOptions updateOptions(final DocumentUpdateOptions updateOptions) {
+        this.updateOptions = updateOptions;
+        return this;
+    }
+
+}
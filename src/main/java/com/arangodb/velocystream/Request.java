@@ -41,6 +41,8 @@ public class Request {
     private final Map<String, String> headerParam;
     @Expose(serialize = false)
     private VPackSlice body;
+    @Expose(serialize = false)
+    private Boolean compression;
 
     /**
      * @deprecated Use {@link #Request(DbName, RequestType, String)} instead
@@ -129,4 +131,19 @@ public class Request {
         return this;
     }
 
+    public Boolean getCompression() {
+        return compression;
+    }
+
+    /**
+     * @param compression whether to compress the body over HTTP regardless of its size, or {@code null} to compress
+     *                    it if it reaches the compression threshold of the client. Has no effect if the client does
+     *                    not compress.
+     * @return request
+     */
+    public Request setCompression(final Boolean compression) {
+        this.compression = compression;
+        return this;
+    }
+
 }
@@ -29,10 +29,14 @@ import com.arangodb.entity.DocumentCreateEntity;
 import com.arangodb.entity.DocumentDeleteEntity;
 import com.arangodb.entity.DocumentEntity;
 import com.arangodb.entity.DocumentImportEntity;
+import com.arangodb.entity.DocumentImportProgress;
 import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.DocumentView;
+import com.arangodb.entity.ErrorEntity;
 import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.IndexType;
 import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.entity.MultiDocumentResult;
 import com.arangodb.entity.Permissions;
 import com.arangodb.entity.ShardEntity;
 import com.arangodb.model.*;
@@ -47,6 +51,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -54,7 +61,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -360,6 +371,53 @@ class ArangoCollectionTest extends BaseJunit5 {
         assertThat(readResult.getId()).isEqualTo(COLLECTION_NAME + "/" + createResult.getKey());
     }
 
+    interface DocView extends DocumentView {
+        @Attribute("_key")
+        String getKey();
+
+        @Attribute("_id")
+        String getId();
+
+        int getValue();
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void getDocumentAsView(ArangoCollection collection) {
+        final BaseDocument doc = new BaseDocument();
+        doc.addAttribute("value", 42);
+        final DocumentCreateEntity<BaseDocument> createResult = collection.insertDocument(doc, null);
+        final DocView readResult = collection.getDocument(createResult.getKey(), DocView.class, null);
+        assertThat(readResult.getKey()).isEqualTo(createResult.getKey());
+        assertThat(readResult.getId()).isEqualTo(COLLECTION_NAME + "/" + createResult.getKey());
+        assertThat(readResult.getValue()).isEqualTo(42);
+        assertThat(collection.getDocuments(Collections.singletonList(createResult.getKey()), DocView.class)
+                .getDocuments()).extracting(DocView::getValue).containsExactly(42);
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void getDocumentAsJsonStream(ArangoCollection collection) {
+        final BaseDocument doc = new BaseDocument();
+        doc.addAttribute("value", 42);
+        doc.addAttribute("text", "a \"quoted\"\n\u00fc\u20ac string");
+        doc.addAttribute("list", Arrays.asList(1.5, null, true));
+        final String key = collection.insertDocument(doc, null).getKey();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(collection.getDocumentAsJson(key, out)).isTrue();
+        final String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertThat(json).startsWith("{").endsWith("}").contains(
+                "\"_key\":\"" + key + "\"",
+                "\"value\":42",
+                "\"text\":\"a \\\"quoted\\\"\\n\u00fc\u20ac string\"",
+                "\"list\":[1.5,null,true]");
+
+        final ByteArrayOutputStream missing = new ByteArrayOutputStream();
+        assertThat(collection.getDocumentAsJson("no", missing)).isFalse();
+        assertThat(missing.size()).isZero();
+    }
+
     @ParameterizedTest(name = "{index}")
     @MethodSource("cols")
     void getDocumentIfMatch(ArangoCollection collection) {
@@ -486,6 +544,22 @@ class ArangoCollectionTest extends BaseJunit5 {
         }
     }
 
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void getDocumentsInBatches(ArangoCollection collection) {
+        final List<String> keys = IntStream.range(0, 10).mapToObj(i -> rnd()).collect(Collectors.toList());
+        collection.insertDocuments(keys.stream().map(BaseDocument::new).collect(Collectors.toList()));
+        keys.add(5, "notExisting");
+        final MultiDocumentEntity<BaseDocument> documents = collection.getDocuments(keys, BaseDocument.class,
+                new DocumentReadOptions().batchSize(3).parallelism(2));
+        assertThat(documents.getDocuments()).extracting(BaseDocument::getKey)
+                .containsExactlyElementsOf(keys.stream().filter(k -> !k.equals("notExisting"))
+                        .collect(Collectors.toList()));
+        assertThat(documents.getErrors()).hasSize(1);
+        assertThat(documents.getDocumentsAndErrors()).hasSize(11);
+        assertThat(documents.getDocumentsAndErrors()).element(5).isInstanceOf(ErrorEntity.class);
+    }
+
     @ParameterizedTest(name = "{index}")
     @MethodSource("cols")
     void getDocumentsWithCustomShardingKey(ArangoCollection c) {
@@ -1700,6 +1774,262 @@ class ArangoCollectionTest extends BaseJunit5 {
         assertThat(collection.db().collection(COLLECTION_NAME + "no").exists()).isFalse();
     }
 
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("dbs")
+    void parallelScan(ArangoDatabase db) {
+        final ArangoCollection collection = db.collection("parallelScan_" + rnd());
+        collection.create();
+        try {
+            final List<BaseDocument> docs = IntStream.range(0, 1000)
+                    .mapToObj(i -> new BaseDocument("k" + i))
+                    .collect(Collectors.toList());
+            collection.insertDocuments(docs);
+            final Set<String> keys = ConcurrentHashMap.newKeySet();
+            final AtomicInteger scanned = new AtomicInteger();
+            collection.parallelScan(BaseDocument.class,
+                    new CollectionScanOptions().parallelism(4).minPartitionSize(100).batchSize(50),
+                    doc -> {
+                        keys.add(doc.getKey());
+                        scanned.incrementAndGet();
+                    });
+            assertThat(scanned.get()).isEqualTo(1000);
+            assertThat(keys).containsExactlyInAnyOrderElementsOf(
+                    docs.stream().map(BaseDocument::getKey).collect(Collectors.toList()));
+        } finally {
+            collection.drop();
+        }
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("dbs")
+    void parallelScanFailure(ArangoDatabase db) {
+        final ArangoCollection collection = db.collection("parallelScan_" + rnd());
+        collection.create();
+        try {
+            collection.insertDocuments(IntStream.range(0, 100).mapToObj(i -> new BaseDocument())
+                    .collect(Collectors.toList()));
+            final Throwable thrown = catchThrowable(() -> collection.parallelScan(BaseDocument.class,
+                    new CollectionScanOptions().minPartitionSize(10), doc -> {
+                        throw new IllegalStateException("failed");
+                    }));
+            assertThat(thrown).isInstanceOf(ArangoDBException.class);
+            assertThat(thrown.getCause()).isInstanceOf(IllegalStateException.class);
+        } finally {
+            collection.drop();
+        }
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void bulkWriter(ArangoCollection collection) {
+        final List<CompletableFuture<DocumentCreateEntity<BaseDocument>>> inserts = new ArrayList<>();
+        try (BulkWriter<BaseDocument> writer = collection.bulkWriter(BaseDocument.class,
+                new BulkWriterOptions().batchSize(10).lingerTime(1000L)
+                        .insertOptions(new DocumentCreateOptions().returnNew(true)))) {
+            for (int i = 0; i < 25; i++) {
+                final BaseDocument doc = new BaseDocument();
+                doc.addAttribute("i", i);
+                inserts.add(writer.insertDocument(doc));
+            }
+            // the first two batches are full, the last one is sent by close()
+            assertThat(inserts.get(19).join().getKey()).isNotNull();
+            assertThat(inserts.get(20)).isNotDone();
+        }
+        for (int i = 0; i < inserts.size(); i++) {
+            final DocumentCreateEntity<BaseDocument> doc = inserts.get(i).join();
+            assertThat(((Number) doc.getNew().getAttribute("i")).intValue()).isEqualTo(i);
+            assertThat(collection.documentExists(doc.getKey())).isTrue();
+        }
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void bulkWriterUpdate(ArangoCollection collection) {
+        final String key = collection.insertDocument(new BaseDocument()).getKey();
+        final BaseDocument doc = new BaseDocument();
+        doc.addAttribute("a", "test");
+        final CompletableFuture<DocumentUpdateEntity<BaseDocument>> updated;
+        final CompletableFuture<DocumentUpdateEntity<BaseDocument>> missing;
+        try (BulkWriter<BaseDocument> writer = collection.bulkWriter(BaseDocument.class,
+                new BulkWriterOptions().updateOptions(new DocumentUpdateOptions().returnNew(true)))) {
+            updated = writer.updateDocument(key, doc);
+            missing = writer.updateDocument("missing_" + rnd(), doc);
+            writer.flush();
+            assertThat(updated).isDone();
+            assertThat(missing).isDone();
+        }
+        assertThat(updated.join().getKey()).isEqualTo(key);
+        assertThat(updated.join().getNew().getAttribute("a")).isEqualTo("test");
+        final Throwable thrown = catchThrowable(missing::join);
+        assertThat(thrown.getCause()).isInstanceOf(ArangoDBException.class);
+        assertThat(((ArangoDBException) thrown.getCause()).getErrorNum()).isEqualTo(1202);
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void bulkWriterConcurrent(ArangoCollection collection) throws InterruptedException {
+        final Long initialCount = collection.count().getCount();
+        final List<CompletableFuture<DocumentCreateEntity<BaseDocument>>> inserts =
+                Collections.synchronizedList(new ArrayList<>());
+        final BulkWriter<BaseDocument> writer = collection.bulkWriter(BaseDocument.class,
+                new BulkWriterOptions().batchSize(50).lingerTime(5L).maxInFlightBatches(2));
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    inserts.add(writer.insertDocument(new BaseDocument()));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        writer.close();
+        assertThat(inserts).hasSize(800).allMatch(f -> f.isDone() && !f.isCompletedExceptionally());
+        assertThat(collection.count().getCount()).isEqualTo(initialCount + 800L);
+        assertThat(catchThrowable(() -> writer.insertDocument(new BaseDocument())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void documentLoader(ArangoCollection collection) throws InterruptedException {
+        final List<String> keys = IntStream.range(0, 20).mapToObj(i -> rnd()).collect(Collectors.toList());
+        collection.insertDocuments(keys.stream().map(BaseDocument::new).collect(Collectors.toList()));
+        final Map<CompletableFuture<BaseDocument>, String> reads = new ConcurrentHashMap<>();
+        final DocumentLoader<BaseDocument> loader = collection.documentLoader(BaseDocument.class,
+                new DocumentLoaderOptions().batchSize(8).maxDelay(5000L).maxInFlightBatches(2));
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final Thread thread = new Thread(() -> {
+                for (final String key : keys) {
+                    reads.put(loader.getDocument(key), key);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        final CompletableFuture<BaseDocument> missing = loader.getDocument("notExisting");
+        loader.close();
+        reads.forEach((read, key) -> assertThat(read.join().getKey()).isEqualTo(key));
+        assertThat(missing.join()).isNull();
+        assertThat(catchThrowable(() -> loader.getDocument(keys.get(0)))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void documentReadCache(ArangoCollection collection) throws InterruptedException {
+        final String key = rnd();
+        collection.insertDocument(new BaseDocument(key));
+        final DocumentReadCache<BaseDocument> cache = collection.documentReadCache(BaseDocument.class,
+                new DocumentReadCacheOptions().timeToLive(500L));
+        assertThat(cache.getDocument(key).getKey()).isEqualTo(key);
+        assertThat(cache.getDocument(key).getKey()).isEqualTo(key);
+        assertThat(cache.getMetrics().getMisses()).isEqualTo(1L);
+        assertThat(cache.getMetrics().getHits()).isEqualTo(1L);
+
+        Thread.sleep(600);
+        assertThat(cache.getDocument(key).getKey()).isEqualTo(key);
+        assertThat(cache.getMetrics().getRevalidations()).isEqualTo(1L);
+        assertThat(cache.getMetrics().getNotModified()).isEqualTo(1L);
+
+        final BaseDocument update = new BaseDocument();
+        update.addAttribute("a", "test");
+        collection.updateDocument(key, update);
+        assertThat(cache.getMetrics().getInvalidations()).isEqualTo(1L);
+        assertThat(cache.getDocument(key).getAttribute("a")).isEqualTo("test");
+        assertThat(cache.getMetrics().getMisses()).isEqualTo(2L);
+
+        final MultiDocumentEntity<BaseDocument> documents = cache.getDocuments(Arrays.asList(key, "notExisting"));
+        assertThat(documents.getDocuments()).extracting(BaseDocument::getKey).containsExactly(key);
+        assertThat(documents.getErrors()).hasSize(1);
+        assertThat(cache.getMetrics().getHits()).isEqualTo(2L);
+
+        collection.deleteDocument(key);
+        assertThat(cache.getDocument(key)).isNull();
+        assertThat(cache.getMetrics().getSize()).isZero();
+
+        cache.close();
+        assertThat(catchThrowable(() -> cache.getDocument(key))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void documentReadCacheCompactWrite(ArangoCollection collection) {
+        final String key = rnd();
+        final String other = rnd();
+        collection.insertDocuments(Arrays.asList(new BaseDocument(key), new BaseDocument(other)));
+        final DocumentReadCache<BaseDocument> cache = collection.documentReadCache(BaseDocument.class,
+                new DocumentReadCacheOptions());
+        cache.getDocuments(Arrays.asList(key, other));
+
+        final BaseDocument update = new BaseDocument(key);
+        update.addAttribute("a", "test");
+        collection.updateDocumentsCompact(Collections.singletonList(update), null, BulkResultMode.FAILURES_ONLY);
+        assertThat(cache.getMetrics().getInvalidations()).isEqualTo(1L);
+        assertThat(cache.getDocument(key).getAttribute("a")).isEqualTo("test");
+        assertThat(cache.getDocument(other).getKey()).isEqualTo(other);
+        assertThat(cache.getMetrics().getHits()).isEqualTo(1L);
+        cache.close();
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void documentReadCacheEviction(ArangoCollection collection) {
+        final List<String> keys = IntStream.range(0, 10).mapToObj(i -> rnd()).collect(Collectors.toList());
+        collection.insertDocuments(keys.stream().map(BaseDocument::new).collect(Collectors.toList()));
+        final DocumentReadCache<BaseDocument> cache = collection.documentReadCache(BaseDocument.class,
+                new DocumentReadCacheOptions().maximumSize(5L));
+        for (int i = 0; i < 5; i++) {
+            cache.getDocuments(keys.subList(0, 5));
+        }
+        // the keys read only once are not admitted in place of the ones read more often
+        cache.getDocuments(keys.subList(5, 10));
+        assertThat(cache.getMetrics().getSize()).isEqualTo(5L);
+        cache.getDocuments(keys.subList(0, 5));
+        assertThat(cache.getMetrics().getHits()).isEqualTo(25L);
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void writeBehindBuffer(ArangoCollection collection) {
+        final String key = rnd();
+        collection.insertDocument(new BaseDocument(key));
+        final WriteBehindBuffer<Map<String, Object>> buffer = collection.writeBehindBuffer(
+                new WriteBehindOptions().maxStaleness(60_000L));
+        final List<CompletableFuture<Void>> updates = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            final Map<String, Object> nested = new HashMap<>();
+            nested.put("v" + i, i);
+            final Map<String, Object> patch = new HashMap<>();
+            patch.put("counter", i);
+            patch.put("nested", nested);
+            updates.add(buffer.updateDocument(key, patch));
+        }
+        final CompletableFuture<Void> missing = buffer.updateDocument("notExisting",
+                Collections.singletonMap("counter", 1));
+        buffer.flush();
+        assertThat(updates).allMatch(f -> f.isDone() && !f.isCompletedExceptionally());
+        assertThat(missing).isCompletedExceptionally();
+
+        final BaseDocument document = collection.getDocument(key, BaseDocument.class);
+        assertThat(document.getAttribute("counter")).isEqualTo(10L);
+        assertThat((Map<String, Object>) document.getAttribute("nested")).hasSize(10);
+        assertThat(buffer.getMetrics().getUpdates()).isEqualTo(11L);
+        assertThat(buffer.getMetrics().getWrittenDocuments()).isEqualTo(2L);
+        assertThat(buffer.getMetrics().getWritesSaved()).isEqualTo(9L);
+        assertThat(buffer.getMetrics().getFailedDocuments()).isEqualTo(1L);
+
+        buffer.close();
+        assertThat(catchThrowable(() -> buffer.updateDocument(key, Collections.singletonMap("counter", 11))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     @ParameterizedTest(name = "{index}")
     @MethodSource("cols")
     void truncate(ArangoCollection collection) {
@@ -1892,6 +2222,39 @@ class ArangoCollectionTest extends BaseJunit5 {
         assertThat(docs.getErrors()).isEmpty();
     }
 
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void insertDocumentsCompact(ArangoCollection collection) {
+        final String key = "compact_" + rnd();
+        final List<BaseDocument> values = Arrays.asList(new BaseDocument(), new BaseDocument(key),
+                new BaseDocument(key));
+        final MultiDocumentResult result = collection.insertDocumentsCompact(values,
+                new DocumentCreateOptions().returnNew(true), BulkResultMode.COMPACT);
+        assertThat(result.getSize()).isEqualTo(3);
+        assertThat(result.getKeys()[0]).isNotNull();
+        assertThat(result.getKeys()[1]).isEqualTo(key);
+        assertThat(result.getKeys()[2]).isNull();
+        assertThat(result.getRevs()[1]).isNotNull();
+        assertThat(result.getErrorIndexes()).containsExactly(2);
+        assertThat(result.getError(2).getErrorNum()).isEqualTo(1210);
+        assertThat(result.getError(1)).isNull();
+        assertThat(collection.documentExists(result.getKeys()[0])).isTrue();
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void deleteDocumentsCompactFailuresOnly(ArangoCollection collection) {
+        final String key = collection.insertDocument(new BaseDocument()).getKey();
+        final MultiDocumentResult result = collection.deleteDocumentsCompact(
+                Arrays.asList("missing_" + rnd(), key), null, BulkResultMode.FAILURES_ONLY);
+        assertThat(result.getSize()).isEqualTo(2);
+        assertThat(result.getKeys()).isNull();
+        assertThat(result.hasErrors()).isTrue();
+        assertThat(result.getErrorIndexes()).containsExactly(0);
+        assertThat(result.getErrors()[0].getErrorNum()).isEqualTo(1202);
+        assertThat(collection.documentExists(key)).isFalse();
+    }
+
     @ParameterizedTest(name = "{index}")
     @MethodSource("cols")
     void insertDocumentsEmpty(ArangoCollection collection) {
@@ -2418,6 +2781,61 @@ class ArangoCollectionTest extends BaseJunit5 {
         }
     }
 
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void importDocumentsFromIterator(ArangoCollection collection) {
+        final Long initialCount = collection.count().getCount();
+        final List<DocumentImportProgress> progress = new ArrayList<>();
+        final DocumentImportEntity importResult = collection.importDocuments(
+                IntStream.range(0, 1000).mapToObj(i -> new BaseDocument()).iterator(),
+                new StreamImportOptions().batchSize(100).parallelism(3).progressListener(progress::add));
+        assertThat(importResult.getCreated()).isEqualTo(1000);
+        assertThat(importResult.getErrors()).isZero();
+        assertThat(collection.count().getCount()).isEqualTo(initialCount + 1000L);
+        assertThat(progress).hasSize(10);
+        assertThat(progress.get(9).getDocuments()).isEqualTo(1000L);
+        assertThat(progress.get(9).getBytes()).isPositive();
+        assertThat(progress.get(9).getBatches()).isEqualTo(10L);
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void importDocumentsFromStream(ArangoCollection collection) {
+        final String key = "stream_" + rnd();
+        final DocumentImportEntity importResult = collection.importDocuments(
+                Stream.of(new BaseDocument(key), new BaseDocument(key), new BaseDocument()),
+                new StreamImportOptions().batchSize(1).maxInFlightBytes(1L));
+        assertThat(importResult.getCreated()).isEqualTo(2);
+        assertThat(importResult.getErrors()).isEqualTo(1);
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void importDocumentsFromJsonLines(ArangoCollection collection) {
+        final String k1 = rnd();
+        final String k2 = rnd();
+        final String jsonl = "{\"_key\":\"" + k1 + "\",\"a\":\"x\\ny\"}\n{\"_key\":\"" + k2 + "\"}\n";
+        final DocumentImportEntity importResult = collection.importDocuments(
+                new ByteArrayInputStream(jsonl.getBytes(StandardCharsets.UTF_8)), new StreamImportOptions());
+        assertThat(importResult.getCreated()).isEqualTo(2);
+        assertThat(collection.getDocument(k1, BaseDocument.class).getAttribute("a")).isEqualTo("x\ny");
+        assertThat(collection.documentExists(k2)).isTrue();
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void importDocumentsFromJsonArray(ArangoCollection collection) throws JsonProcessingException {
+        final List<BaseDocument> docs = IntStream.range(0, 50).mapToObj(i -> new BaseDocument(rnd()))
+                .collect(Collectors.toList());
+        final byte[] json = mapper.writeValueAsBytes(docs);
+        final DocumentImportEntity importResult = collection.importDocuments(new ByteArrayInputStream(json),
+                new StreamImportOptions().batchSize(7).parallelism(2));
+        assertThat(importResult.getCreated()).isEqualTo(50);
+        for (BaseDocument doc : docs) {
+            assertThat(collection.documentExists(doc.getKey())).isTrue();
+        }
+    }
+
     @ParameterizedTest(name = "{index}")
     @MethodSource("cols")
     void deleteDocumentsByKey(ArangoCollection collection) {
@@ -2446,6 +2864,20 @@ class ArangoCollectionTest extends BaseJunit5 {
         assertThat(deleteResult.getErrors()).isEmpty();
     }
 
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void deleteDocumentsInBatches(ArangoCollection collection) {
+        final List<String> keys = IntStream.range(0, 10).mapToObj(i -> rnd()).collect(Collectors.toList());
+        collection.insertDocuments(keys.stream().map(BaseDocument::new).collect(Collectors.toList()));
+        final MultiDocumentEntity<DocumentDeleteEntity<BaseDocument>> deleteResult = collection.deleteDocuments(keys,
+                BaseDocument.class, new DocumentDeleteOptions().batchSize(4).returnOld(true));
+        assertThat(deleteResult.getDocuments()).extracting(DocumentDeleteEntity::getKey)
+                .containsExactlyElementsOf(keys);
+        assertThat(deleteResult.getDocuments()).extracting(d -> d.getOld().getKey()).containsExactlyElementsOf(keys);
+        assertThat(deleteResult.getErrors()).isEmpty();
+        assertThat(collection.getDocuments(keys, BaseDocument.class).getDocuments()).isEmpty();
+    }
+
     @ParameterizedTest(name = "{index}")
     @MethodSource("cols")
     void deleteDocumentsByDocuments(ArangoCollection collection) {
@@ -679,6 +679,12 @@ class ArangoDBTest extends BaseJunit5 {
         assertThat(thrown).isInstanceOf(ArangoDBException.class);
     }
 
+    @Test
+    void invalidCompressionLevel() {
+        Throwable thrown = catchThrowable(() -> new ArangoDB.Builder().compressionLevel(10));
+        assertThat(thrown).isInstanceOf(ArangoDBException.class);
+    }
+
     @ParameterizedTest(name = "{index}")
     @MethodSource("arangos")
     void accessMultipleDatabases(ArangoDB arangoDB) {
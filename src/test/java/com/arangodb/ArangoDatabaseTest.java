@@ -37,11 +37,14 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -608,6 +611,188 @@ class ArangoDatabaseTest extends BaseJunit5 {
         }
     }
 
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("dbs")
+    void queryWithPrefetch(ArangoDatabase db) {
+        final ArangoCursor<Integer> cursor = db.query("FOR i IN 1..100 RETURN i",
+                new AqlQueryOptions().batchSize(7).prefetchBatches(3), Integer.class);
+        assertThat(cursor.asListRemaining())
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList()));
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("dbs")
+    void queryWithDeserializationExecutor(ArangoDatabase db) {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final ArangoCursor<BaseDocument> cursor = db.query("FOR i IN 1..1000 RETURN {value: i}",
+                    new AqlQueryOptions().batchSize(100).deserializationExecutor(executor), BaseDocument.class);
+            assertThat(cursor.stream().map(doc -> ((Number) doc.getAttribute("value")).intValue()))
+                    .containsExactlyElementsOf(IntStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("dbs")
+    void queryWithDeserializationExecutorOfConsumer(ArangoDatabase db) throws InterruptedException, ExecutionException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final List<Integer> result = executor.submit(() -> db.query("FOR i IN 1..1000 RETURN i",
+                    new AqlQueryOptions().batchSize(100).deserializationExecutor(executor), Integer.class)
+                    .asListRemaining()).get();
+            assertThat(result)
+                    .containsExactlyElementsOf(IntStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("dbs")
+    void queryParallelStream(ArangoDatabase db) {
+        final ArangoCursor<Integer> cursor = db.query("FOR i IN 1..1000 RETURN i",
+                new AqlQueryOptions().batchSize(100), Integer.class);
+        assertThat(cursor.stream().parallel().mapToLong(Integer::longValue).sum()).isEqualTo(500500L);
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("dbs")
+    void queryParallelStreamWithCount(ArangoDatabase db) {
+        final ArangoCursor<Integer> cursor = db.query("FOR i IN 1..1000 RETURN i",
+                new AqlQueryOptions().batchSize(100).count(true), Integer.class);
+        final Spliterator<Integer> spliterator = cursor.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        assertThat(spliterator.estimateSize()).isEqualTo(1000L);
+        assertThat(cursor.stream().parallel().map(i -> i * 2).collect(Collectors.toList()))
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 1000).map(i -> i * 2).boxed()
+                        .collect(Collectors.toList()));
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("dbs")
+    void queryWithAdaptiveBatchSize(ArangoDatabase db) throws IOException {
+        final String query = "FOR i IN 1..1000 RETURN {value: i, padding: CONCAT_SEPARATOR('', 1..20)}";
+        final AqlQueryOptions options = new AqlQueryOptions().adaptiveBatchSize(true).targetBatchBytes(10_000L);
+        try (ArangoCursor<BaseDocument> cursor = db.query(query, options, BaseDocument.class)) {
+            assertThat(cursor.stream().count()).isEqualTo(1000L);
+        }
+        final Integer batchSize = db.arango().metrics().getCursorBatchSizes().getBatchSizes().get(query);
+        assertThat(batchSize).isNotNull().isBetween(1, 999);
+        assertThat(options.getBatchSize()).isNull();
+
+        try (ArangoCursor<BaseDocument> cursor = db.query(query, options, BaseDocument.class)) {
+            assertThat(cursor.stream().count()).isEqualTo(1000L);
+        }
+        assertThat(db.arango().metrics().getCursorBatchSizes().getMeasuredBatches()).isGreaterThan(2L);
+    }
+
+    interface ValueView extends DocumentView {
+        int getValue();
+
+        String getName();
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("dbs")
+    void queryAsView(ArangoDatabase db) {
+        final ArangoCursor<ValueView> cursor = db.query("FOR i IN 1..10 RETURN {value: i, name: TO_STRING(i)}",
+                new AqlQueryOptions().batchSize(3), ValueView.class);
+        assertThat(cursor.stream().map(view -> view.getName() + view.getValue()))
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 10).mapToObj(i -> "" + i + i)
+                        .collect(Collectors.toList()));
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("dbs")
+    void closeQueryWithPrefetch(ArangoDatabase db) throws IOException {
+        final ArangoCursor<Integer> cursor = db.query("FOR i IN 1..100 RETURN i",
+                new AqlQueryOptions().batchSize(7).prefetchBatches(3).prefetchMaxBytes(1L), Integer.class);
+        assertThat(cursor.next()).isEqualTo(1);
+        cursor.close();
+        final Throwable thrown = catchThrowable(() -> db.cursor(cursor.getId(), Integer.class));
+        assertThat(thrown).isInstanceOf(ArangoDBException.class);
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("dbs")
+    void queryPublisher(ArangoDatabase db) {
+        final ArangoFlow.Publisher<Integer> publisher = db.queryPublisher("FOR i IN 1..100 RETURN i", null,
+                new AqlQueryOptions().batchSize(7).publisherExecutor(Runnable::run), Integer.class);
+        final List<Integer> result = new ArrayList<>();
+        final AtomicInteger completed = new AtomicInteger();
+        final ArangoFlow.Subscription[] subscription = new ArangoFlow.Subscription[1];
+        publisher.subscribe(new ArangoFlow.Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(final ArangoFlow.Subscription s) {
+                subscription[0] = s;
+            }
+
+            @Override
+            public void onNext(final Integer item) {
+                result.add(item);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                fail(throwable.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+                completed.incrementAndGet();
+            }
+        });
+        assertThat(result).isEmpty();
+        subscription[0].request(10);
+        assertThat(result).containsExactlyElementsOf(IntStream.rangeClosed(1, 10).boxed().collect(Collectors.toList()));
+        subscription[0].request(Long.MAX_VALUE);
+        assertThat(result).containsExactlyElementsOf(IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList()));
+        assertThat(completed.get()).isEqualTo(1);
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("dbs")
+    void queryPublisherCancel(ArangoDatabase db) throws InterruptedException, ExecutionException {
+        final ArangoFlow.Publisher<Integer> publisher = db.queryPublisher("FOR i IN 1..100 RETURN i", null,
+                new AqlQueryOptions().batchSize(7), Integer.class);
+        final List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        final CompletableFuture<Void> cancelled = new CompletableFuture<>();
+        publisher.subscribe(new ArangoFlow.Subscriber<Integer>() {
+            private ArangoFlow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(final ArangoFlow.Subscription s) {
+                subscription = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(final Integer item) {
+                result.add(item);
+                if (item == 5) {
+                    subscription.cancel();
+                    cancelled.complete(null);
+                } else {
+                    subscription.request(1);
+                }
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                cancelled.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                cancelled.completeExceptionally(new IllegalStateException("not cancelled"));
+            }
+        });
+        cancelled.get();
+        assertThat(result).containsExactly(1, 2, 3, 4, 5);
+    }
+
     @ParameterizedTest(name = "{index}")
     @MethodSource("dbs")
     void queryIterateWithBatchSize(ArangoDatabase db) {
@@ -74,6 +74,7 @@ class ArangoSslTest {
                 .sslContext(sc).serializer(new ArangoJack()).build();
         final ArangoDBVersion version = arangoDB.getVersion();
         assertThat(version).isNotNull();
+        assertThat(arangoDB.metrics().getSslHandshakes().getHandshakes()).isPositive();
     }
 
     @Test
@@ -0,0 +1,59 @@
+package com.arangodb;
+
+import com.arangodb.internal.util.VirtualThreads;
+import com.arangodb.mapping.ArangoJack;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the synchronous driver does not pin carrier threads when called from virtual threads. Requires Java 21
+ * or later and has to be run with {@code -Djdk.tracePinnedThreads=short}, which makes the JVM print a stack trace to
+ * {@link System#out} whenever a virtual thread blocks while pinned.
+ */
+@EnabledIfSystemProperty(named = "jdk.tracePinnedThreads", matches = ".+")
+class VirtualThreadsTest {
+
+    @Test
+    void noPinning() throws InterruptedException {
+        assumeTrue(VirtualThreads.isSupported());
+        final ArangoDB adb = new ArangoDB.Builder()
+                .useProtocol(Protocol.VST)
+                .serializer(new ArangoJack())
+                .maxConnections(2)
+                .keepAliveInterval(1)
+                .useVirtualThreads(true)
+                .build();
+
+        final PrintStream out = System.out;
+        final ByteArrayOutputStream trace = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(trace, true));
+        try {
+            final ThreadFactory factory = VirtualThreads.factory("test-");
+            final List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final Thread t = factory.newThread(() -> adb.db().query("RETURN SLEEP(0.1)", Void.class));
+                threads.add(t);
+                t.start();
+            }
+            for (final Thread t : threads) {
+                t.join();
+            }
+        } finally {
+            System.setOut(out);
+            adb.shutdown();
+        }
+
+        assertThat(new String(trace.toByteArray(), StandardCharsets.UTF_8)).doesNotContain("<== monitors");
+    }
+
+}
@@ -21,6 +21,7 @@
 package com.arangodb.async;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.DocumentLoader;
 import com.arangodb.entity.*;
 import com.arangodb.model.*;
 import com.arangodb.model.DocumentImportOptions.OnDuplicate;
@@ -233,6 +234,39 @@ class ArangoCollectionTest extends BaseTest {
         }
     }
 
+    @Test
+    void getDocumentsInBatches() throws InterruptedException, ExecutionException {
+        final ArangoCollectionAsync collection = db.collection(COLLECTION_NAME);
+        final List<String> keys = IntStream.range(0, 10).mapToObj(i -> rnd()).collect(Collectors.toList());
+        collection.insertDocuments(keys.stream().map(BaseDocument::new).collect(Collectors.toList())).get();
+        keys.add(5, "notExisting");
+        final MultiDocumentEntity<BaseDocument> documents = collection.getDocuments(keys, BaseDocument.class,
+                new DocumentReadOptions().batchSize(3).parallelism(2)).get();
+        assertThat(documents.getDocuments()).extracting(BaseDocument::getKey)
+                .containsExactlyElementsOf(keys.stream().filter(k -> !k.equals("notExisting"))
+                        .collect(Collectors.toList()));
+        assertThat(documents.getErrors()).hasSize(1);
+        assertThat(documents.getDocumentsAndErrors()).hasSize(11);
+    }
+
+    @Test
+    void documentLoader() throws InterruptedException, ExecutionException {
+        final ArangoCollectionAsync collection = db.collection(COLLECTION_NAME);
+        final List<String> keys = IntStream.range(0, 10).mapToObj(i -> rnd()).collect(Collectors.toList());
+        collection.insertDocuments(keys.stream().map(BaseDocument::new).collect(Collectors.toList())).get();
+        final DocumentLoader<BaseDocument> loader = collection.documentLoader(BaseDocument.class,
+                new DocumentLoaderOptions().batchSize(4).maxDelay(100_000L));
+        final List<CompletableFuture<BaseDocument>> reads = keys.stream().map(loader::getDocument)
+                .collect(Collectors.toList());
+        assertThat(loader.getDocument(keys.get(9))).isSameAs(reads.get(9));
+        final CompletableFuture<BaseDocument> missing = loader.getDocument("notExisting");
+        loader.close();
+        for (int i = 0; i < keys.size(); i++) {
+            assertThat(reads.get(i).get().getKey()).isEqualTo(keys.get(i));
+        }
+        assertThat(missing.get()).isNull();
+    }
+
     @Test
     void getDocumentsNotFound() throws InterruptedException, ExecutionException {
         final MultiDocumentEntity<BaseDocument> readResult = db.collection(COLLECTION_NAME)
@@ -1303,6 +1337,21 @@ class ArangoCollectionTest extends BaseTest {
                 .get();
     }
 
+    @Test
+    void updateDocumentsCompact() throws InterruptedException, ExecutionException {
+        final BaseDocument doc = new BaseDocument();
+        doc.addAttribute("a", "test");
+        final String key = db.collection(COLLECTION_NAME).insertDocument(doc).get().getKey();
+        final MultiDocumentResult result = db.collection(COLLECTION_NAME).updateDocumentsCompact(
+                Arrays.asList(new BaseDocument(key), new BaseDocument("missing_" + rnd())),
+                null, BulkResultMode.COMPACT).get();
+        assertThat(result.getSize()).isEqualTo(2);
+        assertThat(result.getKeys()[0]).isEqualTo(key);
+        assertThat(result.getRevs()[0]).isNotNull();
+        assertThat(result.getErrorIndexes()).containsExactly(1);
+        assertThat(result.getError(1).getErrorNum()).isEqualTo(1202);
+    }
+
     @Test
     void insertDocumentsEmpty() throws InterruptedException, ExecutionException {
         final Collection<BaseDocument> values = new ArrayList<>();
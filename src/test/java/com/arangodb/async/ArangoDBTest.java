@@ -38,6 +38,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -659,4 +661,29 @@ class ArangoDBTest {
         }
     }
 
+    @Test
+    void customExecutors() throws InterruptedException, ExecutionException {
+        final ExecutorService deserializationExecutor = Executors.newFixedThreadPool(2);
+        final ArangoDBAsync adb = new ArangoDBAsync.Builder()
+                .serializer(new ArangoJack())
+                .outgoingExecutor(Runnable::run)
+                .deserializationExecutor(deserializationExecutor)
+                .build();
+        try {
+            final List<CompletableFuture<ArangoDBVersion>> reqs = IntStream.range(0, 10)
+                    .mapToObj(__ -> adb.getVersion())
+                    .collect(Collectors.toList());
+            for (CompletableFuture<ArangoDBVersion> req : reqs) {
+                assertThat(req.get().getVersion()).isNotNull();
+            }
+            final ThreadHopMetrics hops = adb.metrics().getThreadHops();
+            assertThat(hops.getOutgoingHops()).isGreaterThanOrEqualTo(10);
+            assertThat(hops.getDeserializationHops()).isGreaterThanOrEqualTo(10);
+            assertThat(hops.getAvgDeserializationHopTimeNanos()).isPositive();
+        } finally {
+            adb.shutdown();
+            deserializationExecutor.shutdown();
+        }
+    }
+
 }
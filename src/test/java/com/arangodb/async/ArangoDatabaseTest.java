@@ -21,6 +21,7 @@
 package com.arangodb.async;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.ArangoFlow;
 import com.arangodb.DbName;
 import com.arangodb.entity.AqlExecutionExplainEntity.ExecutionPlan;
 import com.arangodb.entity.*;
@@ -537,6 +538,72 @@ class ArangoDatabaseTest extends BaseTest {
         }
     }
 
+    @Test
+    void queryNextBatch() throws InterruptedException, ExecutionException {
+        final ArangoCursorAsync<Integer> cursor = db.query("FOR i IN 1..10 RETURN i", null,
+                new AqlQueryOptions().batchSize(4), Integer.class).get();
+        final Batch<Integer> first = cursor.nextBatch().get();
+        assertThat(first.getItems()).containsExactly(1, 2, 3, 4);
+        assertThat(first.hasMore()).isTrue();
+        assertThat(cursor.nextBatch().get().getItems()).containsExactly(5, 6, 7, 8);
+        final Batch<Integer> last = cursor.nextBatch().get();
+        assertThat(last.getItems()).containsExactly(9, 10);
+        assertThat(last.hasMore()).isFalse();
+        assertThat(cursor.hasNext()).isFalse();
+        final Throwable thrown = catchThrowable(() -> cursor.nextBatch().get());
+        assertThat(thrown).isInstanceOf(ExecutionException.class);
+        assertThat(thrown.getCause()).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void queryForEachAsync() throws InterruptedException, ExecutionException {
+        final ArangoCursorAsync<Integer> cursor = db.query("FOR i IN 1..10 RETURN i", null,
+                new AqlQueryOptions().batchSize(3), Integer.class).get();
+        final List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        cursor.forEachAsync(result::add).get();
+        assertThat(result).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    void queryPublisherCancel() throws InterruptedException, ExecutionException {
+        final ArangoCursorAsync<Integer> cursor = db.query("FOR i IN 1..10 RETURN i", null,
+                new AqlQueryOptions().batchSize(3), Integer.class).get();
+        final List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        final CompletableFuture<Void> cancelled = new CompletableFuture<>();
+        cursor.publisher().subscribe(new ArangoFlow.Subscriber<Integer>() {
+            private ArangoFlow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(final ArangoFlow.Subscription s) {
+                subscription = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(final Integer item) {
+                result.add(item);
+                if (item == 5) {
+                    subscription.cancel();
+                    cancelled.complete(null);
+                } else {
+                    subscription.request(1);
+                }
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                cancelled.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                cancelled.completeExceptionally(new IllegalStateException("not cancelled"));
+            }
+        });
+        cancelled.get();
+        assertThat(result).containsExactly(1, 2, 3, 4, 5);
+    }
+
     /**
      * ignored. takes to long
      */
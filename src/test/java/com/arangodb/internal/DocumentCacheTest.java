@@ -22,10 +22,18 @@ package com.arangodb.internal;
 
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.DocumentField;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -44,11 +52,7 @@ class DocumentCacheTest {
         assertThat(doc.getKey()).isNull();
         assertThat(doc.getRevision()).isNull();
 
-        final Map<DocumentField.Type, String> values = new HashMap<>();
-        values.put(DocumentField.Type.ID, "testId");
-        values.put(DocumentField.Type.KEY, "testKey");
-        values.put(DocumentField.Type.REV, "testRev");
-        cache.setValues(doc, values);
+        cache.setValues(doc, meta("testId", "testKey", "testRev"));
 
         assertThat(doc.getId()).isEqualTo("testId");
         assertThat(doc.getKey()).isEqualTo("testKey");
@@ -59,13 +63,99 @@ class DocumentCacheTest {
     void setValuesMap() {
         final DocumentCache cache = new DocumentCache();
         final Map<String, String> map = new HashMap<>();
-
-        final Map<DocumentField.Type, String> values = new HashMap<>();
-        values.put(DocumentField.Type.ID, "testId");
-        values.put(DocumentField.Type.KEY, "testKey");
-        values.put(DocumentField.Type.REV, "testRev");
-        cache.setValues(map, values);
+        cache.setValues(map, meta("testId", "testKey", "testRev"));
 
         assertThat(map.isEmpty()).isTrue();
     }
+
+    @Test
+    void setRevisionSlice() {
+        final DocumentCache cache = new DocumentCache();
+        final BaseDocument doc = new BaseDocument("oldKey");
+        cache.setRevision(doc, meta("testId", "testKey", "testRev"));
+
+        assertThat(doc.getId()).isNull();
+        assertThat(doc.getKey()).isEqualTo("oldKey");
+        assertThat(doc.getRevision()).isEqualTo("testRev");
+    }
+
+    @Test
+    void setValuesSliceUntranslatedNames() {
+        final DocumentCache cache = new DocumentCache();
+        final BaseDocument doc = new BaseDocument();
+        // object {"_rev": "testRev"} with the attribute name stored as string instead of its translated id
+        final VPackSlice meta = new VPackSlice(new byte[]{
+                0x0b, 17, 1,
+                0x44, '_', 'r', 'e', 'v',
+                0x47, 't', 'e', 's', 't', 'R', 'e', 'v',
+                3});
+        cache.setValues(doc, meta);
+
+        assertThat(doc.getId()).isNull();
+        assertThat(doc.getKey()).isNull();
+        assertThat(doc.getRevision()).isEqualTo("testRev");
+    }
+
+    @Test
+    void setValuesSliceInheritedPrivateFields() {
+        final DocumentCache cache = new DocumentCache();
+        final ChildEntity doc = new ChildEntity();
+        cache.setValues(doc, meta("testId", "testKey", "testRev"));
+
+        assertThat(doc.id).isEqualTo("testId");
+        assertThat(doc.getKey()).isEqualTo("testKey");
+        assertThat(doc.rev).isEqualTo("testRev");
+    }
+
+    @Test
+    void concurrentSetValues() throws Exception {
+        final DocumentCache cache = new DocumentCache();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<BaseDocument>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                final VPackSlice meta = meta("c/" + i, String.valueOf(i), "_r" + i);
+                futures.add(executor.submit(() -> {
+                    final BaseDocument doc = new BaseDocument();
+                    cache.setValues(doc, meta);
+                    return doc;
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                final BaseDocument doc = futures.get(i).get();
+                assertThat(doc.getId()).isEqualTo("c/" + i);
+                assertThat(doc.getKey()).isEqualTo(String.valueOf(i));
+                assertThat(doc.getRevision()).isEqualTo("_r" + i);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static VPackSlice meta(final String id, final String key, final String rev) {
+        return new VPackBuilder()
+                .add(ValueType.OBJECT)
+                .add("_id", id)
+                .add("_key", key)
+                .add("_rev", rev)
+                .add("_oldRev", "oldRev")
+                .close()
+                .slice();
+    }
+
+    static class ParentEntity {
+        @DocumentField(DocumentField.Type.KEY)
+        private String key;
+
+        String getKey() {
+            return key;
+        }
+    }
+
+    static class ChildEntity extends ParentEntity {
+        @DocumentField(DocumentField.Type.ID)
+        String id;
+        @DocumentField(DocumentField.Type.REV)
+        String rev;
+    }
 }
@@ -0,0 +1,58 @@
+package com.arangodb.internal.cursor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class AdaptiveBatchSizeTest {
+
+    private static final String QUERY = "FOR d IN c RETURN d";
+    private static final long TARGET_BYTES = 100_000;
+    private static final long TARGET_LATENCY = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AdaptiveBatchSize adaptive = new AdaptiveBatchSize();
+
+    @Test
+    void unknownQuery() {
+        assertThat(adaptive.getBatchSize(QUERY)).isNull();
+        assertThat(adaptive.getBatchSizes()).isEmpty();
+    }
+
+    @Test
+    void targetBytes() {
+        // 100 bytes per document, fast enough
+        for (int i = 0; i < 10; i++) {
+            final int count = adaptive.getBatchSize(QUERY) != null ? adaptive.getBatchSize(QUERY) : 100;
+            adaptive.addBatch(QUERY, count, count * 100L, TimeUnit.MILLISECONDS.toNanos(1), TARGET_BYTES,
+                    TARGET_LATENCY);
+        }
+        assertThat(adaptive.getBatchSize(QUERY)).isEqualTo(1000);
+        assertThat(adaptive.getBatchSizes()).containsEntry(QUERY, 1000);
+        assertThat(adaptive.getMeasuredBatches()).isEqualTo(10);
+    }
+
+    @Test
+    void growsAtMostTwofold() {
+        adaptive.addBatch(QUERY, 10, 10, 1, TARGET_BYTES, TARGET_LATENCY);
+        assertThat(adaptive.getBatchSize(QUERY)).isEqualTo(20);
+    }
+
+    @Test
+    void targetLatency() {
+        // small documents, but 400ms to fetch 1000 of them
+        adaptive.addBatch(QUERY, 1000, 1000, TimeUnit.MILLISECONDS.toNanos(400), TARGET_BYTES, TARGET_LATENCY);
+        assertThat(adaptive.getBatchSize(QUERY)).isEqualTo(250);
+    }
+
+    @Test
+    void maxBatchSize() {
+        for (int i = 0; i < 20; i++) {
+            adaptive.addBatch(QUERY, AdaptiveBatchSize.MAX_BATCH_SIZE, 1, 1, TARGET_BYTES, TARGET_LATENCY);
+        }
+        assertThat(adaptive.getBatchSize(QUERY)).isEqualTo(AdaptiveBatchSize.MAX_BATCH_SIZE);
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.internal.InternalArangoDatabase;
+import com.arangodb.internal.velocypack.VPackDriverModule;
+import com.arangodb.velocypack.VPack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class BatchSpliteratorTest {
+
+    private static final int BATCHES = 10;
+    private static final int BATCH_SIZE = 100;
+    private static final VPack VPACK = new VPack.Builder().registerModule(new VPackDriverModule()).build();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private final ArangoCursorExecute execute = new ArangoCursorExecute() {
+        @Override
+        public CursorEntity next(final String id, final Map<String, String> meta) {
+            final int n = Integer.parseInt(meta.get("n")) + 1;
+            return batch(n, n < BATCHES - 1);
+        }
+
+        @Override
+        public void close(final String id, final Map<String, String> meta) {
+        }
+    };
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static CursorEntity batch(final int n, final boolean hasMore) {
+        return batch(n, hasMore, null);
+    }
+
+    private static CursorEntity batch(final int n, final boolean hasMore, final Integer count) {
+        final VPackBuilder builder = new VPackBuilder()
+                .add(ValueType.OBJECT)
+                .add("id", "1")
+                .add("hasMore", hasMore)
+                .add("count", count)
+                .add("meta", ValueType.OBJECT)
+                .add("n", String.valueOf(n))
+                .close()
+                .add("result", ValueType.ARRAY);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            builder.add(n * BATCH_SIZE + i);
+        }
+        return VPACK.deserialize(builder.close().close().slice(), CursorEntity.class);
+    }
+
+    private ArangoCursorImpl<Integer> cursor() {
+        return cursor(batch(0, true));
+    }
+
+    private ArangoCursorImpl<Integer> cursor(final CursorEntity first) {
+        return new ArangoCursorImpl<Integer>(null, execute, Integer.class, first) {
+            @Override
+            protected ArangoCursorIterator<Integer> createIterator(
+                    final ArangoCursor<Integer> cursor,
+                    final InternalArangoDatabase<?, ?> db,
+                    final ArangoCursorExecute execute,
+                    final CursorEntity result) {
+                return new ArangoCursorIterator<Integer>(cursor, execute, db, result) {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    protected <R> R deserialize(final VPackSlice result, final Class<R> type) {
+                        return (R) Integer.valueOf(result.getAsInt());
+                    }
+                };
+            }
+        };
+    }
+
+    private static List<Integer> expected() {
+        return IntStream.range(0, BATCHES * BATCH_SIZE).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    void parallelDeserializationKeepsOrder() {
+        final ArangoCursorImpl<Integer> cursor = cursor();
+        cursor.setDeserializationExecutor(executor);
+        assertThat(cursor.asListRemaining()).containsExactlyElementsOf(expected());
+    }
+
+    @Test
+    void splitOnBatchBoundaries() {
+        final ArangoCursorImpl<Integer> cursor = cursor();
+        assertThat(cursor.next()).isZero();
+        final Spliterator<Integer> spliterator = cursor.spliterator();
+        final Spliterator<Integer> first = spliterator.trySplit();
+        assertThat(first.estimateSize()).isEqualTo(BATCH_SIZE - 1);
+        final Spliterator<Integer> second = spliterator.trySplit();
+        assertThat(second.estimateSize()).isEqualTo(BATCH_SIZE);
+        second.tryAdvance(i -> assertThat(i).isEqualTo(BATCH_SIZE));
+    }
+
+    @Test
+    void unknownSize() {
+        final Spliterator<Integer> spliterator = cursor().spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        assertThat(spliterator.estimateSize()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void countAsEstimate() {
+        final ArangoCursorImpl<Integer> cursor = cursor(batch(0, true, BATCHES * BATCH_SIZE));
+        cursor.next();
+        final Spliterator<Integer> spliterator = cursor.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        assertThat(spliterator.estimateSize()).isEqualTo(BATCHES * BATCH_SIZE - 1);
+        final Spliterator<Integer> first = spliterator.trySplit();
+        assertThat(first.estimateSize() + spliterator.estimateSize()).isEqualTo(BATCHES * BATCH_SIZE - 1);
+        // count() has to traverse the cursor, so that it is read to the end
+        assertThat(StreamSupport.stream(spliterator, true).count()).isEqualTo((BATCHES - 1) * BATCH_SIZE);
+        assertThat(cursor.hasNext()).isFalse();
+    }
+
+    @Test
+    void parallelStream() {
+        assertThat(cursor().stream().parallel().collect(Collectors.toList())).containsExactlyElementsOf(expected());
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoFlow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class CursorPublisherTest {
+
+    private static final int BATCHES = 20;
+    private static final int BATCH_SIZE = 10;
+
+    private final ExecutorService es = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void shutdown() {
+        es.shutdown();
+    }
+
+    private class TestSource implements CursorPublisher.Source<Integer> {
+        private final boolean async;
+        private final AtomicInteger fetched = new AtomicInteger();
+        private final AtomicInteger closed = new AtomicInteger();
+        private final CompletableFuture<Void> closing = new CompletableFuture<>();
+
+        TestSource(final boolean async) {
+            this.async = async;
+        }
+
+        @Override
+        public boolean hasMore() {
+            return fetched.get() < BATCHES;
+        }
+
+        @Override
+        public CompletableFuture<List<Integer>> nextBatch() {
+            final int start = fetched.get() * BATCH_SIZE;
+            final List<Integer> batch = IntStream.range(start, start + BATCH_SIZE).boxed().collect(Collectors.toList());
+            if (!async) {
+                fetched.incrementAndGet();
+                return CompletableFuture.completedFuture(batch);
+            }
+            return CompletableFuture.supplyAsync(() -> {
+                fetched.incrementAndGet();
+                return batch;
+            }, es);
+        }
+
+        @Override
+        public CompletableFuture<Void> close() {
+            closed.incrementAndGet();
+            closing.complete(null);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static class TestSubscriber implements ArangoFlow.Subscriber<Integer> {
+        private final int request;
+        private final int cancelAfter;
+        private final List<Integer> items = Collections.synchronizedList(new ArrayList<>());
+        private final CompletableFuture<String> end = new CompletableFuture<>();
+        private ArangoFlow.Subscription subscription;
+        private int outstanding;
+
+        TestSubscriber(final int request, final int cancelAfter) {
+            this.request = request;
+            this.cancelAfter = cancelAfter;
+        }
+
+        @Override
+        public void onSubscribe(final ArangoFlow.Subscription s) {
+            subscription = s;
+            outstanding = request;
+            s.request(request);
+        }
+
+        @Override
+        public void onNext(final Integer item) {
+            items.add(item);
+            if (items.size() == cancelAfter) {
+                subscription.cancel();
+                end.complete("cancel");
+                return;
+            }
+            if (--outstanding == 0) {
+                outstanding = request;
+                subscription.request(request);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            end.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            end.complete("complete");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void publishAll(boolean async) throws Exception {
+        for (int request : new int[]{1, 7, Integer.MAX_VALUE}) {
+            final TestSource source = new TestSource(async);
+            final TestSubscriber subscriber = new TestSubscriber(request, -1);
+            new CursorPublisher<>(source).subscribe(subscriber);
+            assertThat(subscriber.end.get(10, TimeUnit.SECONDS)).isEqualTo("complete");
+            assertThat(subscriber.items).containsExactlyElementsOf(
+                    IntStream.range(0, BATCHES * BATCH_SIZE).boxed().collect(Collectors.toList()));
+            assertThat(source.closed.get()).isZero();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void cancel(boolean async) throws Exception {
+        final TestSource source = new TestSource(async);
+        final TestSubscriber subscriber = new TestSubscriber(3, 25);
+        new CursorPublisher<>(source).subscribe(subscriber);
+        assertThat(subscriber.end.get(10, TimeUnit.SECONDS)).isEqualTo("cancel");
+        assertThat(subscriber.items).hasSize(25);
+        // only the batches needed to satisfy the demand have been fetched
+        assertThat(source.fetched.get()).isEqualTo(3);
+        source.closing.get(10, TimeUnit.SECONDS);
+        assertThat(source.closed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelWhileFetching() {
+        final CompletableFuture<List<Integer>> batch = new CompletableFuture<>();
+        final AtomicInteger closed = new AtomicInteger();
+        final CursorPublisher<Integer> publisher = new CursorPublisher<>(new CursorPublisher.Source<Integer>() {
+            @Override
+            public boolean hasMore() {
+                return true;
+            }
+
+            @Override
+            public CompletableFuture<List<Integer>> nextBatch() {
+                return batch;
+            }
+
+            @Override
+            public CompletableFuture<Void> close() {
+                assertThat(batch).isDone();
+                closed.incrementAndGet();
+                return CompletableFuture.completedFuture(null);
+            }
+        });
+        final TestSubscriber subscriber = new TestSubscriber(1, -1);
+        publisher.subscribe(subscriber);
+        subscriber.subscription.cancel();
+        // the cursor is in use by the pending fetch
+        assertThat(closed.get()).isZero();
+        batch.complete(Collections.singletonList(1));
+        assertThat(closed.get()).isEqualTo(1);
+        assertThat(subscriber.items).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void singleSubscriber(boolean async) throws Exception {
+        final CursorPublisher<Integer> publisher = new CursorPublisher<>(new TestSource(async));
+        publisher.subscribe(new TestSubscriber(1, 1));
+        final TestSubscriber second = new TestSubscriber(1, -1);
+        publisher.subscribe(second);
+        assertThat(second.end).isCompletedExceptionally();
+    }
+
+}
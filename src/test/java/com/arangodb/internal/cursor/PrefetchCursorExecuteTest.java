@@ -0,0 +1,121 @@
+package com.arangodb.internal.cursor;
+
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.internal.velocypack.VPackDriverModule;
+import com.arangodb.velocypack.VPack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+
+class PrefetchCursorExecuteTest {
+
+    private static final int BATCHES = 10;
+    private static final VPack VPACK = new VPack.Builder().registerModule(new VPackDriverModule()).build();
+
+    private final AtomicInteger fetched = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+    private final ArangoCursorExecute delegate = new ArangoCursorExecute() {
+        @Override
+        public CursorEntity next(final String id, final Map<String, String> meta) {
+            final int n = fetched.incrementAndGet();
+            return batch(n, n < BATCHES - 1);
+        }
+
+        @Override
+        public void close(final String id, final Map<String, String> meta) {
+            closed.incrementAndGet();
+        }
+    };
+
+    private static CursorEntity batch(final int n, final boolean hasMore) {
+        final VPackBuilder builder = new VPackBuilder()
+                .add(ValueType.OBJECT)
+                .add("id", "1")
+                .add("hasMore", hasMore)
+                .add("result", ValueType.ARRAY);
+        for (int i = 0; i < 10; i++) {
+            builder.add(n * 10 + i);
+        }
+        return VPACK.deserialize(builder.close().close().slice(), CursorEntity.class);
+    }
+
+    @Test
+    void prefetchInOrder() throws InterruptedException {
+        final PrefetchCursorExecute execute = new PrefetchCursorExecute(delegate, batch(0, true), 3, Long.MAX_VALUE);
+        awaitBuffered(execute, 3);
+        assertThat(fetched.get()).isEqualTo(3);
+
+        CursorEntity result;
+        int n = 0;
+        do {
+            result = execute.next("1", null);
+            n++;
+            assertThat(result.getResult().get(0).getAsInt()).isEqualTo(n * 10);
+        } while (result.getHasMore());
+        assertThat(n).isEqualTo(BATCHES - 1);
+        assertThat(fetched.get()).isEqualTo(BATCHES - 1);
+    }
+
+    @Test
+    void boundedBytes() throws InterruptedException {
+        final PrefetchCursorExecute execute = new PrefetchCursorExecute(delegate, batch(0, true), 3, 1L);
+        awaitBuffered(execute, 1);
+        Thread.sleep(100);
+        assertThat(fetched.get()).isEqualTo(1);
+    }
+
+    @Test
+    void batchesLargerThanMaxBytes() {
+        final PrefetchCursorExecute execute = new PrefetchCursorExecute(delegate, batch(0, true), 3, 1L);
+        int n = 0;
+        CursorEntity result;
+        do {
+            result = execute.next("1", null);
+            n++;
+        } while (result.getHasMore());
+        assertThat(n).isEqualTo(BATCHES - 1);
+    }
+
+    @Test
+    void nonPositiveMaxBytes() {
+        final Throwable thrown = catchThrowable(() -> new PrefetchCursorExecute(delegate, batch(0, true), 3, 0L));
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void close() throws InterruptedException {
+        final PrefetchCursorExecute execute = new PrefetchCursorExecute(delegate, batch(0, true), 2, Long.MAX_VALUE);
+        awaitBuffered(execute, 2);
+        execute.close("1", null);
+        assertThat(closed.get()).isEqualTo(1);
+        assertThat(execute.getBufferedBatches()).isZero();
+    }
+
+    @Test
+    void closeFullyFetched() throws InterruptedException {
+        final PrefetchCursorExecute execute = new PrefetchCursorExecute(delegate, batch(0, true), BATCHES,
+                Long.MAX_VALUE);
+        awaitBuffered(execute, BATCHES - 1);
+        execute.close("1", null);
+        assertThat(closed.get()).isZero();
+    }
+
+    private static void awaitBuffered(final PrefetchCursorExecute execute, final int batches)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (execute.getBufferedBatches() < batches && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(execute.getBufferedBatches()).isEqualTo(batches);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.arangodb.internal.util;
+
+import com.arangodb.Compression;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class CompressionUtilsTest {
+
+    private static final byte[] DATA = new String(new char[1000])
+            .replace("\0", "{\"_key\":\"foo\",\"value\":42}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @ParameterizedTest
+    @EnumSource(value = Compression.class, names = {"GZIP", "DEFLATE"})
+    void roundTrip(Compression compression) throws Exception {
+        byte[] compressed = CompressionUtils.compress(DATA, compression, 6);
+        assertThat(compressed.length).isLessThan(DATA.length);
+        assertThat(CompressionUtils.isSupported(compression.getEncoding())).isTrue();
+        assertThat(CompressionUtils.decompress(compressed, compression.getEncoding())).isEqualTo(DATA);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Compression.class, names = {"GZIP", "DEFLATE"})
+    void noCompressionLevel(Compression compression) throws Exception {
+        byte[] compressed = CompressionUtils.compress(DATA, compression, 0);
+        assertThat(compressed.length).isGreaterThan(DATA.length);
+        assertThat(CompressionUtils.decompress(compressed, compression.getEncoding())).isEqualTo(DATA);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Compression.class, names = {"NONE"})
+    void unsupportedEncoding(Compression compression) {
+        assertThat(CompressionUtils.isSupported(compression.getEncoding())).isFalse();
+        assertThat(CompressionUtils.isSupported("br")).isFalse();
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.arangodb.internal.util;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.DocumentView;
+import com.arangodb.mapping.ArangoJack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+
+class DocumentViewsTest {
+
+    private static final ArangoJack JACK = new ArangoJack();
+
+    interface Address extends DocumentView {
+        String getCity();
+    }
+
+    static class Pojo {
+        public String a;
+        public int b;
+    }
+
+    interface Person extends DocumentView {
+        @Attribute("_key")
+        String getKey();
+
+        String getName();
+
+        int getAge();
+
+        Integer getMissing();
+
+        long getMissingLong();
+
+        boolean isActive();
+
+        Address getAddress();
+
+        List<String> getTags();
+
+        Pojo getPojo();
+
+        VPackSlice getRaw();
+    }
+
+    interface Invalid extends DocumentView {
+        String get(String name);
+    }
+
+    private static VPackSlice person(final int i) {
+        return new VPackBuilder()
+                .add(ValueType.OBJECT)
+                .add("_key", "k" + i)
+                .add("name", "n" + i)
+                .add("age", 30 + i)
+                .add("active", i % 2 == 0)
+                .add("address", ValueType.OBJECT)
+                .add("city", "c" + i)
+                .close()
+                .add("tags", ValueType.ARRAY)
+                .add("t1")
+                .add("t2")
+                .close()
+                .add("pojo", ValueType.OBJECT)
+                .add("a", "A")
+                .add("b", 2)
+                .close()
+                .add("raw", 5)
+                .close()
+                .slice();
+    }
+
+    @Test
+    void view() {
+        for (int i = 0; i < 3; i++) {
+            final Person person = DocumentViews.create(person(i), Person.class, JACK);
+            assertThat(person.getKey()).isEqualTo("k" + i);
+            assertThat(person.getName()).isEqualTo("n" + i);
+            assertThat(person.getAge()).isEqualTo(30 + i);
+            assertThat(person.getMissing()).isNull();
+            assertThat(person.getMissingLong()).isZero();
+            assertThat(person.isActive()).isEqualTo(i % 2 == 0);
+            assertThat(person.getAddress().getCity()).isEqualTo("c" + i);
+            assertThat(person.getTags()).containsExactly("t1", "t2");
+            assertThat(person.getPojo().a).isEqualTo("A");
+            assertThat(person.getPojo().b).isEqualTo(2);
+            assertThat(person.getRaw().getAsInt()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void valuesAreKept() {
+        final Person person = DocumentViews.create(person(0), Person.class, JACK);
+        assertThat(person.getPojo()).isSameAs(person.getPojo());
+    }
+
+    @Test
+    void equalsAndSlice() {
+        final VPackSlice slice = person(0);
+        final Person person = DocumentViews.create(slice, Person.class, JACK);
+        assertThat(person.getSlice()).isSameAs(slice);
+        assertThat(person).isEqualTo(DocumentViews.create(slice, Person.class, JACK));
+        assertThat(person).isNotEqualTo(DocumentViews.create(person(1), Person.class, JACK));
+        assertThat(person.toString()).startsWith("Person{");
+    }
+
+    @Test
+    void deserialize() {
+        assertThat(DocumentViews.isView(Person.class)).isTrue();
+        assertThat(DocumentViews.isView(Pojo.class)).isFalse();
+        assertThat((Object) DocumentViews.deserialize(JACK, person(0), Person.class)).isInstanceOf(Person.class);
+        assertThat((Object) DocumentViews.deserialize(JACK, person(0), Pojo.class)).isInstanceOf(Pojo.class);
+    }
+
+    @Test
+    void noGetter() {
+        final Throwable thrown = catchThrowable(() -> DocumentViews.create(person(0), Invalid.class, JACK));
+        assertThat(thrown).isInstanceOf(ArangoDBException.class);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.arangodb.internal.util;
+
+import com.arangodb.util.TestUtils;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.message.BasicNameValuePair;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class EncodeUtilsTest {
+
+    @Test
+    void appendFormEncodedShouldBehaveAsURLEncodedUtils() {
+        for (int i = 0; i < 10_000; i++) {
+            String value = TestUtils.generateRandomDbName(20, true) + " +&=?/~!'()*";
+            String expected = URLEncodedUtils.format(Collections.singletonList(new BasicNameValuePair("key", value)), "utf-8");
+            String actual = EncodeUtils.appendFormEncoded(new StringBuilder("key="), value).toString();
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void appendFormEncodedSafeValue() {
+        StringBuilder sb = new StringBuilder();
+        assertThat(EncodeUtils.appendFormEncoded(sb, "abc-XYZ_0.9*")).isSameAs(sb);
+        assertThat(sb.toString()).isEqualTo("abc-XYZ_0.9*");
+    }
+
+}
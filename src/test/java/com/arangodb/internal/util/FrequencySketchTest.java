@@ -0,0 +1,44 @@
+package com.arangodb.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class FrequencySketchTest {
+
+    @Test
+    void frequency() {
+        final FrequencySketch sketch = new FrequencySketch(1000);
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("hot");
+        }
+        sketch.increment("cold");
+        assertThat(sketch.frequency("hot")).isEqualTo(5);
+        assertThat(sketch.frequency("cold")).isEqualTo(1);
+        assertThat(sketch.frequency("none")).isZero();
+    }
+
+    @Test
+    void saturate() {
+        final FrequencySketch sketch = new FrequencySketch(1000);
+        for (int i = 0; i < 100; i++) {
+            sketch.increment("hot");
+        }
+        assertThat(sketch.frequency("hot")).isEqualTo(15);
+    }
+
+    @Test
+    void reset() {
+        final FrequencySketch sketch = new FrequencySketch(10);
+        for (int i = 0; i < 8; i++) {
+            sketch.increment("hot");
+        }
+        // ten times the maximum size triggers the halving of all counters
+        for (int i = 0; i < 92; i++) {
+            sketch.increment("key" + i);
+        }
+        assertThat(sketch.frequency("hot")).isLessThan(8);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.arangodb.internal.util;
+
+import com.arangodb.internal.net.HostDescription;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class HostUtilsTest {
+
+    @Test
+    void createFromEndpoint() {
+        assertThat(HostUtils.createFromEndpoint("127.0.0.1:8529")).isEqualTo(new HostDescription("127.0.0.1", 8529));
+        assertThat(HostUtils.createFromEndpoint("tcp://127.0.0.1:8529")).isEqualTo(new HostDescription("127.0.0.1", 8529));
+        assertThat(HostUtils.createFromEndpoint("127.0.0.1")).isNull();
+        assertThat(HostUtils.createFromEndpoint("unix://")).isNull();
+    }
+
+    @Test
+    void createFromUnixEndpoint() {
+        HostDescription host = HostUtils.createFromEndpoint("unix:///tmp/arangodb.sock");
+        assertThat(host).isNotNull();
+        assertThat(host.isUnixSocket()).isTrue();
+        assertThat(host.getHost()).isEqualTo("/tmp/arangodb.sock");
+        assertThat(host).isEqualTo(HostDescription.unixSocket("/tmp/arangodb.sock"));
+        assertThat(host).isNotEqualTo(new HostDescription("/tmp/arangodb.sock", -1));
+        assertThat(HostUtils.createFromLocation("unix:///tmp/arangodb.sock")).isEqualTo(host);
+    }
+
+}
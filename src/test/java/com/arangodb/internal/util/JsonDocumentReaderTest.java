@@ -0,0 +1,50 @@
+package com.arangodb.internal.util;
+
+import com.arangodb.ArangoDBException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+
+class JsonDocumentReaderTest {
+
+    private static List<String> read(String json) {
+        List<String> documents = new ArrayList<>();
+        new JsonDocumentReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))
+                .forEachRemaining(documents::add);
+        return documents;
+    }
+
+    @Test
+    void jsonLines() {
+        assertThat(read("{\"a\":1}\n{\"b\":\"x}\\\"{\"}\r\n\n{\"c\":[1,{\"d\":2}]}\n"))
+                .containsExactly("{\"a\":1}", "{\"b\":\"x}\\\"{\"}", "{\"c\":[1,{\"d\":2}]}");
+    }
+
+    @Test
+    void jsonArray() {
+        assertThat(read(" [ {\"a\":1} , {\"b\":\"\u00e4]\"},{} ] "))
+                .containsExactly("{\"a\":1}", "{\"b\":\"\u00e4]\"}", "{}");
+        assertThat(read("[1, \"s,]\", true]")).containsExactly("1", "\"s,]\"", "true");
+    }
+
+    @Test
+    void empty() {
+        assertThat(read("")).isEmpty();
+        assertThat(read("[]")).isEmpty();
+        assertThat(read("\uFEFF{\"a\":1}")).containsExactly("{\"a\":1}");
+    }
+
+    @Test
+    void truncated() {
+        assertThat(catchThrowable(() -> read("[{\"a\":1}"))).isInstanceOf(ArangoDBException.class);
+        assertThat(catchThrowable(() -> read("{\"a\":1"))).isInstanceOf(ArangoDBException.class);
+    }
+
+}
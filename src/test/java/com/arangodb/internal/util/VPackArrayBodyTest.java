@@ -0,0 +1,67 @@
+package com.arangodb.internal.util;
+
+import com.arangodb.velocypack.VPack;
+import com.arangodb.velocypack.VPackSlice;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class VPackArrayBodyTest {
+
+    private static final VPack VPACK = new VPack.Builder().build();
+
+    private static List<Map<String, Object>> documents(int n) {
+        return IntStream.range(0, n)
+                .mapToObj(i -> Collections.<String, Object>singletonMap("_key", "k" + i))
+                .collect(Collectors.toList());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 5000})
+    void toSlice(int n) {
+        VPackArrayBody body = new VPackArrayBody(documents(n), VPACK::serialize);
+        VPackSlice slice = body.toSlice();
+        assertThat(slice.isArray()).isTrue();
+        assertThat(slice.size()).isEqualTo(n);
+        assertThat((long) slice.getByteSize()).isEqualTo(body.getByteSize());
+        for (int i = 0; i < n; i++) {
+            assertThat(slice.get(i).get("_key").getAsString()).isEqualTo("k" + i);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 1000})
+    void writeRanges(int chunkSize) throws IOException {
+        VPackArrayBody body = new VPackArrayBody(documents(200), VPACK::serialize);
+        VPackSlice slice = body.toSlice();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (long offset = 0; offset < body.getByteSize(); offset += chunkSize) {
+            body.writeVPack(out, offset, Math.min(chunkSize, body.getByteSize() - offset));
+        }
+        assertThat(out.toByteArray())
+                .isEqualTo(Arrays.copyOfRange(slice.getBuffer(), slice.getStart(), slice.getStart() + slice.getByteSize()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3})
+    void writeJson(int n) throws IOException {
+        List<Map<String, Object>> documents = documents(n);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new VPackArrayBody(documents, VPACK::serialize).writeJson(out);
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo(VPACK.serialize(documents).toString());
+    }
+
+}
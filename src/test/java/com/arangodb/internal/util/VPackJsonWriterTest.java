@@ -0,0 +1,104 @@
+package com.arangodb.internal.util;
+
+import com.arangodb.velocypack.VPack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class VPackJsonWriterTest {
+
+    @Test
+    void scalars() {
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder().add(ValueType.NULL).slice())).isEqualTo("null");
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder().add(true).slice())).isEqualTo("true");
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder().add(false).slice())).isEqualTo("false");
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder().add(7).slice())).isEqualTo("7");
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder().add(-3).slice())).isEqualTo("-3");
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder().add(-300).slice())).isEqualTo("-300");
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder().add(Long.MIN_VALUE).slice()))
+                .isEqualTo(String.valueOf(Long.MIN_VALUE));
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder()
+                .add(new BigInteger("18446744073709551615"), ValueType.UINT).slice()))
+                .isEqualTo("18446744073709551615");
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder().add(3.5).slice())).isEqualTo("3.5");
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder().add(Double.NaN).slice())).isEqualTo("\"NaN\"");
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder().add("foo").slice())).isEqualTo("\"foo\"");
+    }
+
+    @Test
+    void escapeStrings() {
+        final String value = "a \"quoted\" \\ \n\r\t\b\f\u0001 ü€😀 / string";
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder().add(value).slice()))
+                .isEqualTo("\"a \\\"quoted\\\" \\\\ \\n\\r\\t\\b\\f\\u0001 ü€😀 / string\"");
+        final String longValue = new String(new char[1000]).replace('\0', 'x');
+        assertThat(VPackJsonWriter.toJson(new VPackBuilder().add(longValue).slice()))
+                .isEqualTo("\"" + longValue + "\"");
+    }
+
+    @Test
+    void objectWithTranslatedAttributes() {
+        final VPackSlice slice = new VPackBuilder()
+                .add(ValueType.OBJECT)
+                .add("_key", "k")
+                .add("_id", "c/k")
+                .add("_rev", "r")
+                .add("b", ValueType.ARRAY).add(1).add("x").add(ValueType.NULL).close()
+                .add("a", ValueType.OBJECT).close()
+                .add("c", ValueType.ARRAY).close()
+                .close()
+                .slice();
+        assertThat(VPackJsonWriter.toJson(slice))
+                .isEqualTo("{\"_key\":\"k\",\"_id\":\"c/k\",\"_rev\":\"r\",\"b\":[1,\"x\",null],\"a\":{},\"c\":[]}");
+    }
+
+    @Test
+    void compactObject() {
+        final VPackBuilder builder = new VPackBuilder();
+        builder.getOptions().setBuildUnindexedArrays(true);
+        builder.getOptions().setBuildUnindexedObjects(true);
+        final VPackSlice slice = builder
+                .add(ValueType.OBJECT)
+                .add("a", 1)
+                .add("b", ValueType.ARRAY).add("x").add(2).close()
+                .add("_key", "k")
+                .close()
+                .slice();
+        assertThat(VPackJsonWriter.toJson(slice)).isEqualTo("{\"a\":1,\"b\":[\"x\",2],\"_key\":\"k\"}");
+    }
+
+    @Test
+    void largeDocumentToStream() throws IOException {
+        final List<Object> values = new ArrayList<>();
+        final StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            final Map<String, Object> value = new LinkedHashMap<>();
+            value.put("k" + i, i);
+            value.put("v", Arrays.asList(i, "s" + i, 1.5));
+            values.add(value);
+            expected.append(i > 0 ? "," : "").append("{\"k").append(i).append("\":").append(i)
+                    .append(",\"v\":[").append(i).append(",\"s").append(i).append("\",1.5]}");
+        }
+        expected.append(']');
+        final VPackSlice slice = new VPack.Builder().build().serialize(values);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VPackJsonWriter.write(slice, out);
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(expected.toString());
+        assertThat(VPackJsonWriter.toJson(slice)).isEqualTo(expected.toString());
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.arangodb.mapping;
+
+import com.arangodb.velocypack.VPackSlice;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class ArangoJackTest {
+
+    @Test
+    void serializedSlicesDoNotShareBuffers() {
+        final ArangoJack jack = new ArangoJack();
+        final VPackSlice first = jack.serialize(Collections.singletonMap("value", "first"));
+        final VPackSlice second = jack.serialize(Collections.singletonMap("value", "second"));
+
+        assertThat(first.getBuffer()).isNotSameAs(second.getBuffer());
+        assertThat(first.get("value").getAsString()).isEqualTo("first");
+        assertThat(second.get("value").getAsString()).isEqualTo("second");
+    }
+
+    @Test
+    void nestedSerialization() {
+        final ArangoJack jack = new ArangoJack();
+        jack.configure(mapper -> mapper.registerModule(new SimpleModule().addSerializer(Nested.class,
+                new JsonSerializer<Nested>() {
+                    @Override
+                    public void serialize(final Nested value, final JsonGenerator gen,
+                                          final SerializerProvider serializers) throws IOException {
+                        gen.writeString(jack.serialize(Collections.singletonMap("inner", value.inner)).toString());
+                    }
+                })));
+        final Map<String, Object> doc = new HashMap<>();
+        doc.put("nested", new Nested("foo"));
+        doc.put("outer", "bar");
+        final VPackSlice slice = jack.serialize(doc);
+
+        assertThat(slice.get("nested").getAsString()).isEqualTo("{\"inner\":\"foo\"}");
+        assertThat(slice.get("outer").getAsString()).isEqualTo("bar");
+    }
+
+    static class Nested {
+        final String inner;
+
+        Nested(final String inner) {
+            this.inner = inner;
+        }
+    }
+
+}
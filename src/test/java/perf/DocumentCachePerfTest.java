@@ -0,0 +1,64 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2022 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package perf;
+
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.internal.DocumentCache;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prints the time to write {@code _id}, {@code _key} and {@code _rev} back into documents from their responses, as done
+ * by single document insertions, replacements and updates. Multi-document operations do not write back into the
+ * documents, so this is not a measure of bulk insertions.
+ */
+@Disabled
+class DocumentCachePerfTest {
+    private static final int DOCUMENTS = 100_000;
+    private static final int RUNS = 20;
+
+    @Test
+    void setValues() {
+        DocumentCache cache = new DocumentCache();
+        VPackSlice[] responses = new VPackSlice[DOCUMENTS];
+        BaseDocument[] docs = new BaseDocument[DOCUMENTS];
+        for (int i = 0; i < DOCUMENTS; i++) {
+            responses[i] = new VPackBuilder()
+                    .add(ValueType.OBJECT)
+                    .add("_id", "c/" + i)
+                    .add("_key", String.valueOf(i))
+                    .add("_rev", "_r" + i)
+                    .close()
+                    .slice();
+            docs[i] = new BaseDocument();
+        }
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < DOCUMENTS; i++) {
+                cache.setValues(docs[i], responses[i]);
+            }
+            System.out.println("ns per document: " + (System.nanoTime() - start) / DOCUMENTS);
+        }
+    }
+}
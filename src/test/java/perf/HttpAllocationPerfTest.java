@@ -0,0 +1,39 @@
+package perf;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.Protocol;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Prints the bytes allocated by the calling thread per request.
+ */
+@Disabled
+class HttpAllocationPerfTest {
+    private static final int REPETITIONS = 50_000;
+
+    private void doGetVersion(ArangoDB arangoDB) {
+        for (int i = 0; i < REPETITIONS; i++) {
+            arangoDB.getVersion();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Protocol.class, names = {"HTTP_JSON", "HTTP_VPACK"})
+    void getVersion(Protocol protocol) {
+        com.sun.management.ThreadMXBean mxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        ArangoDB arangoDB = new ArangoDB.Builder().useProtocol(protocol).build();
+        // warmup
+        doGetVersion(arangoDB);
+
+        long start = mxBean.getThreadAllocatedBytes(threadId);
+        doGetVersion(arangoDB);
+        long end = mxBean.getThreadAllocatedBytes(threadId);
+        System.out.println(protocol + " allocated bytes per request: " + (end - start) / REPETITIONS);
+        arangoDB.shutdown();
+    }
+}